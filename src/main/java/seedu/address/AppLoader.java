@@ -0,0 +1,139 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfile;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Loads the config, preferences and data file that the app starts with, whether or not it shows a window.
+ */
+class AppLoader {
+    private static final Logger logger = LogsCenter.getLogger(AppLoader.class);
+
+    private AppLoader() {
+    } // prevents instantiation
+
+    /**
+     * Returns {@code configFilePath}, or the default file path {@code Config#DEFAULT_CONFIG_FILE}
+     * if {@code configFilePath} is null.
+     */
+    static Path getConfigFilePath(Path configFilePath) {
+        if (configFilePath == null) {
+            return Config.DEFAULT_CONFIG_FILE;
+        }
+
+        logger.info("Custom Config file specified " + configFilePath);
+        return configFilePath;
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePathUsed}, or a new {@code Config} with default
+     * properties if errors occur when reading from the file.
+     */
+    static Config initConfig(Path configFilePathUsed) {
+        Config initializedConfig;
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        return initializedConfig;
+    }
+
+    static void saveConfig(Config config, Path configFilePath) {
+        try {
+            ConfigUtil.saveConfig(config, configFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        return initializedPrefs;
+    }
+
+    static void savePrefs(UserPrefsStorage storage, ReadOnlyUserPrefs userPrefs) {
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if neither {@code storage}'s address book nor any of its
+     * previous generations can be read.
+     */
+    static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.STORAGE_READ)) {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " and its previous generations"
+                    + " could not be loaded. Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.MODEL_INIT)) {
+            return new ModelManager(initialData, userPrefs);
+        }
+    }
+}
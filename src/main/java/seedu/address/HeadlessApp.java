@@ -0,0 +1,149 @@
+package seedu.address;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfile;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the app without a window, e.g. for scheduled jobs on a server with no display.
+ * <p>
+ * The config, preferences and data file are loaded as they are by {@link MainApp}. The commands in the file given by
+ * {@code --script=FILE} are then run as one {@code run-script}, or if there is no such file, the commands read from
+ * standard input are run one line at a time. Results are written to standard output and errors to standard error.
+ * Only the collections of JavaFX are used, so its toolkit is never started.
+ */
+public class HeadlessApp {
+
+    /** The command-line argument that runs the app without a window. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    public static final String MESSAGE_ERROR = "Error: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read commands: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private HeadlessApp() {
+    } // prevents instantiation
+
+    /**
+     * Returns true if the command-line arguments {@code args} ask for the app to run without a window.
+     */
+    public static boolean isHeadless(String... args) {
+        return Arrays.asList(args).contains(HEADLESS_FLAG);
+    }
+
+    /**
+     * Runs the app with the command-line arguments {@code args} until its commands are done, and returns the exit
+     * status: {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_FAILURE} otherwise.
+     */
+    public static int run(String... args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        Path configFilePath = AppLoader.getConfigFilePath(appParameters.getConfigPath());
+        Config config;
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.CONFIG)) {
+            config = AppLoader.initConfig(configFilePath);
+            LogsCenter.init(config);
+        }
+        logger.info("=============================[ Running AddressBook without a window ]=============");
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs;
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.PREFS)) {
+            userPrefs = AppLoader.initPrefs(userPrefsStorage);
+        }
+        Storage storage = new StorageManager(StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.isDataCompressed()), userPrefsStorage);
+        Model model = AppLoader.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        StartupProfile.finish();
+
+        int status;
+        if (appParameters.getScriptPath() != null) {
+            String commandText = RunScriptCommand.COMMAND_WORD + " " + PREFIX_FILE + appParameters.getScriptPath();
+            status = execute(logic, commandText, System.out, System.err).isPresent() ? EXIT_SUCCESS : EXIT_FAILURE;
+        } else {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            status = runCommands(logic, in, System.out, System.err);
+        }
+
+        logger.info(CommandMetrics.toLogLine());
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        return status;
+    }
+
+    /**
+     * Runs each command read from {@code in} with {@code logic}, until {@code in} ends or a command exits the app.
+     * Blank lines and lines starting with {@value RunScriptCommand#COMMENT_START} are skipped. A command that fails
+     * does not stop the commands after it, as each command is saved on its own.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_FAILURE} otherwise.
+     */
+    static int runCommands(Logic logic, BufferedReader in, PrintStream out, PrintStream err) {
+        boolean isSuccessful = true;
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(RunScriptCommand.COMMENT_START)) {
+                    continue;
+                }
+
+                Optional<CommandResult> result = execute(logic, trimmedLine, out, err);
+                isSuccessful &= result.isPresent();
+                if (result.map(CommandResult::isExit).orElse(false)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to read commands: " + StringUtil.getDetails(e));
+            err.println(String.format(MESSAGE_READ_ERROR, e.getMessage()));
+            isSuccessful = false;
+        }
+        return isSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Executes {@code commandText} with {@code logic}, writing its result to {@code out} or its error to
+     * {@code err}, and returns the result, or an empty {@code Optional} if the command failed.
+     */
+    private static Optional<CommandResult> execute(Logic logic, String commandText, PrintStream out,
+            PrintStream err) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            out.println(result.getFeedbackToUser());
+            return Optional.of(result);
+        } catch (CommandException | ParseException e) {
+            err.println(String.format(MESSAGE_ERROR, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+}
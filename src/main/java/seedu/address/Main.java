@@ -20,11 +20,17 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also lets the application run without a window, through {@link HeadlessApp}, when given
+ * {@value HeadlessApp#HEADLESS_FLAG}. The JavaFX toolkit is then never started.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (HeadlessApp.isHeadless(args)) {
+            System.exit(HeadlessApp.run(args));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
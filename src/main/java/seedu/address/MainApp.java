@@ -1,29 +1,36 @@
 package seedu.address;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
+import seedu.address.commons.core.CommandMetrics;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfile;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
-import seedu.address.model.AddressBook;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -38,6 +45,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** How long closing the app waits for the data file to finish loading before giving up on saving preferences. */
+    public static final long LOAD_WAIT_SECONDS = 10;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,51 +56,92 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /**
+     * Loads the data file, then runs the startup script and starts the HTTP API. It has a thread of its own, so
+     * that these do not take a thread from the common pool that loading the data file itself uses.
+     */
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "data-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Completes with {@link #logic} once the data file has been loaded in the background. */
+    private CompletableFuture<Logic> logicFuture;
+
+    /** Serves the HTTP API, or null if it is not served. Set once the data file has been loaded. */
+    private volatile ApiServer apiServer;
+
+    /**
+     * Initializes the app. Only the config and preferences, which say where the data file is, are read here.
+     * The data file, usually by far the slowest to load, is then loaded in the background while the config and
+     * preferences are written back and the main window is built and shown with a loading message.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        Path configFilePath = AppLoader.getConfigFilePath(appParameters.getConfigPath());
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.CONFIG)) {
+            config = initConfig(configFilePath);
+            initLogging(config);
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        UserPrefs userPrefs;
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.PREFS)) {
+            userPrefs = initPrefs(userPrefsStorage);
+        }
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.isDataCompressed());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        logicFuture = CompletableFuture.supplyAsync(() -> {
+            model = AppLoader.initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage);
+            if (appParameters.getScriptPath() != null) {
+                runScript(logic, appParameters.getScriptPath());
+            }
+            if (appParameters.getApiPort() != null) {
+                startApiServer(logic, appParameters.getApiPort());
+            }
+            return logic;
+        }, loader);
+        loader.shutdown();
 
-        logic = new LogicManager(model, storage);
+        // Update config and prefs files in case they were missing to begin with or there are new/unused fields
+        AppLoader.saveConfig(config, configFilePath);
+        AppLoader.savePrefs(userPrefsStorage, userPrefs);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logicFuture, userPrefs.getGuiSettings());
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Runs the commands in the file at {@code scriptPath}, given on the command line, before the app takes input.
+     * The result is logged, as the main window cannot show results until the data is loaded.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+    private void runScript(Logic logic, Path scriptPath) {
+        logger.info("Running script " + scriptPath);
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            CommandResult result = logic.execute(RunScriptCommand.COMMAND_WORD + " " + PREFIX_FILE + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Script " + scriptPath + " was not run: " + e.getMessage());
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Serves the HTTP API on {@code port}. Its commands are run on the JavaFX thread, like those entered in the app.
+     * The app still starts if the API cannot be served, e.g. because the port is in use.
+     */
+    private void startApiServer(Logic logic, int port) {
+        try {
+            apiServer = ApiServer.start(port, logic, Platform::runLater);
+        } catch (IOException e) {
+            logger.warning("HTTP API could not be served on port " + port + ": " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -98,42 +149,11 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePathUsed}, or a new {@code Config} with default
+     * properties if errors occur when reading from the file.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+    protected Config initConfig(Path configFilePathUsed) {
+        return AppLoader.initConfig(configFilePathUsed);
     }
 
     /**
@@ -142,30 +162,7 @@ public class MainApp extends Application {
      * reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppLoader.initPrefs(storage);
     }
 
     @Override
@@ -177,6 +174,26 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logger.info(CommandMetrics.toLogLine());
+        // Closing the window must not hang on a data file that is slow to load
+        try {
+            logicFuture.get(LOAD_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.warning("Data file is still loading, so preferences are not saved");
+            return;
+        } catch (ExecutionException e) {
+            logger.warning("Data file was not loaded, so preferences are not saved: " + StringUtil.getDetails(e));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Closing was interrupted, so preferences are not saved");
+            return;
+        }
+
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,333 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
+
+/**
+ * Serves the address book as JSON over HTTP, for other programs on the same computer, e.g. a front-desk kiosk.
+ * <p>
+ * The server listens on the loopback address only, and refuses requests whose {@code Host} is not a loopback
+ * name, so that web pages cannot reach it through the browser. It handles these requests:
+ * <ul>
+ *     <li>{@code GET /api/students}, optionally with {@code ?keyword=K}: the students, or those matching the
+ *     keywords as {@code search-student} matches them.</li>
+ *     <li>{@code GET /api/students/NAME}: the details of the student named {@code NAME}, ignoring case.</li>
+ *     <li>{@code GET /api/reminders}: the reminders.</li>
+ *     <li>{@code POST /api/commands} with {@code {"command": "..."}}: runs the command as if it was entered in the
+ *     app, and returns its result.</li>
+ * </ul>
+ * Requests are handled by a fixed number of threads. Students, their details and reminders are read from the
+ * snapshot of the address book taken when the last command ended, so those reads never wait for the thread that
+ * runs commands. Only commands are handed to that thread.
+ */
+public class ApiServer {
+
+    public static final String STUDENTS_PATH = "/api/students";
+    public static final String REMINDERS_PATH = "/api/reminders";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String KEYWORD_PARAMETER = "keyword";
+
+    public static final int THREAD_COUNT = 4;
+    public static final long COMMAND_TIMEOUT_SECONDS = 30;
+
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "No student is named %1$s";
+    public static final String MESSAGE_NOT_FOUND = "Nothing is at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests";
+    public static final String MESSAGE_FORBIDDEN = "Requests must be sent to localhost";
+    public static final String MESSAGE_NOT_JSON = "The request body must be JSON, sent as application/json";
+    public static final String MESSAGE_MISSING_COMMAND = "The request body must be {\"command\": \"...\"}";
+    public static final String MESSAGE_BUSY = "The app did not respond in time; try again later";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final Logic logic;
+    private final Executor commandExecutor;
+
+    private ApiServer(HttpServer server, Logic logic, Executor commandExecutor) {
+        this.server = server;
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        requestExecutor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "api-request");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Handles one request, returning the response to send.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        private Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private static Response ok(Object body) {
+            return new Response(200, body);
+        }
+
+        private static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message));
+        }
+    }
+
+    /**
+     * The body of a {@code POST} to {@link #COMMANDS_PATH}.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * Starts serving {@code logic} on {@code port} of the loopback address, or on a free port if {@code port} is 0.
+     * Commands, which must not run at the same time as those entered in the app, are run by
+     * {@code commandExecutor}.
+     *
+     * @throws IOException if the server cannot listen on {@code port}.
+     */
+    public static ApiServer start(int port, Logic logic, Executor commandExecutor) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(commandExecutor);
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ApiServer apiServer = new ApiServer(httpServer, logic, commandExecutor);
+        httpServer.createContext(STUDENTS_PATH, exchange -> apiServer.handle(exchange, "GET", apiServer::getStudents));
+        httpServer.createContext(REMINDERS_PATH, exchange ->
+                apiServer.handle(exchange, "GET", apiServer::getReminders));
+        httpServer.createContext(COMMANDS_PATH, exchange ->
+                apiServer.handle(exchange, "POST", apiServer::executeCommand));
+        httpServer.setExecutor(apiServer.requestExecutor);
+        httpServer.start();
+        logger.info("Serving the HTTP API at http://localhost:" + apiServer.getPort());
+        return apiServer;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops serving, without waiting for requests that are being handled.
+     */
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, String method, RequestHandler handler) {
+        Response response;
+        try {
+            if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))) {
+                response = Response.error(403, MESSAGE_FORBIDDEN);
+            } else if (!exchange.getRequestMethod().equals(method)) {
+                response = Response.error(405, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getHttpContext().getPath(), method));
+            } else {
+                response = handler.handle(exchange);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            response = Response.error(500, String.format(MESSAGE_INTERNAL_ERROR, e.getMessage()));
+        }
+
+        try {
+            byte[] body = JsonUtil.toJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            logger.fine("Failed to respond to " + exchange.getRequestURI() + ": " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if {@code host}, the value of a {@code Host} header, names the loopback address.
+     * A request without a {@code Host} header does not come from a browser, so it is allowed too.
+     */
+    static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return true;
+        }
+        int portStart = host.startsWith("[") ? host.indexOf(']') + 1 : host.indexOf(':');
+        String name = portStart > 0 && portStart < host.length() ? host.substring(0, portStart) : host;
+        return LOOPBACK_HOSTS.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    private Response getStudents(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        if (!path.equals(STUDENTS_PATH) && !path.startsWith(STUDENTS_PATH + "/")) {
+            return Response.error(404, String.format(MESSAGE_NOT_FOUND, path));
+        }
+        if (path.equals(STUDENTS_PATH) || path.equals(STUDENTS_PATH + "/")) {
+            Predicate<Person> predicate = getKeywords(exchange.getRequestURI().getRawQuery())
+                    .<Predicate<Person>>map(StudentFieldsContainsKeywordsPredicate::new)
+                    .orElse(person -> true);
+            List<JsonStudent> students = new ArrayList<>();
+            for (Person person : snapshot.getPersonList()) {
+                if (predicate.test(person)) {
+                    students.add(JsonStudent.summaryOf(person, snapshot.getGroupsOf(person)));
+                }
+            }
+            return Response.ok(students);
+        }
+
+        String name = path.substring(STUDENTS_PATH.length() + 1);
+        // Stored names already have their whitespace collapsed, so only the requested name needs it
+        String collapsedName = StringUtil.collapseWhitespace(name);
+        Optional<Person> student = snapshot.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equalsIgnoreCase(collapsedName))
+                .findFirst();
+        if (student.isEmpty()) {
+            return Response.error(404, String.format(MESSAGE_STUDENT_NOT_FOUND, name));
+        }
+        return Response.ok(JsonStudent.detailsOf(student.get(), snapshot.getGroupsOf(student.get())));
+    }
+
+    private Response getReminders(HttpExchange exchange) {
+        if (!exchange.getRequestURI().getPath().equals(REMINDERS_PATH)) {
+            return Response.error(404, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+        }
+        return Response.ok(logic.getAddressBookSnapshot().getReminderList().stream().map(JsonReminder::new).toList());
+    }
+
+    private Response executeCommand(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+            return Response.error(404, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+        }
+        // Browsers cannot send JSON to another site without asking first, which this server never allows
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("application/json")) {
+            return Response.error(415, MESSAGE_NOT_JSON);
+        }
+
+        CommandRequest request;
+        try {
+            request = JsonUtil.fromJsonStream(exchange.getRequestBody(), CommandRequest.class);
+        } catch (IOException e) {
+            return Response.error(400, MESSAGE_MISSING_COMMAND);
+        }
+        if (request == null || request.command == null || request.command.isBlank()) {
+            return Response.error(400, MESSAGE_MISSING_COMMAND);
+        }
+
+        String commandText = request.command;
+        return runOnCommandThread(() -> {
+            try {
+                CommandResult result = logic.execute(commandText);
+                return Response.ok(Map.of("feedback", result.getFeedbackToUser()));
+            } catch (CommandException | ParseException e) {
+                return Response.error(400, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Returns the response made by {@code task} on the thread that runs commands, or an error if it does not
+     * start within {@link #COMMAND_TIMEOUT_SECONDS}, in which case it never runs. A task that has started is
+     * waited for, since its changes are made whether or not the response is.
+     */
+    private Response runOnCommandThread(Supplier<Response> task) {
+        // Set by whichever comes first: the task starting, or the request giving up on it
+        AtomicBoolean isCancelledOrStarted = new AtomicBoolean();
+        CompletableFuture<Response> response = CompletableFuture.supplyAsync(() ->
+                isCancelledOrStarted.compareAndSet(false, true) ? task.get() : null, commandExecutor);
+        try {
+            try {
+                return response.get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                if (isCancelledOrStarted.compareAndSet(false, true)) {
+                    return Response.error(503, MESSAGE_BUSY);
+                }
+                return response.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isCancelledOrStarted.set(true);
+            return Response.error(503, MESSAGE_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Returns the keywords given by the {@link #KEYWORD_PARAMETER} parameters of {@code rawQuery}, if there are any.
+     */
+    static Optional<List<String>> getKeywords(String rawQuery) {
+        if (rawQuery == null) {
+            return Optional.empty();
+        }
+
+        List<String> keywords = new ArrayList<>();
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator < 0
+                    || !URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8)
+                            .equals(KEYWORD_PARAMETER)) {
+                continue;
+            }
+            String value = URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+            Arrays.stream(value.trim().split("\\s+"))
+                    .filter(keyword -> !keyword.isEmpty())
+                    .forEach(keywords::add);
+        }
+        return keywords.isEmpty() ? Optional.empty() : Optional.of(keywords);
+    }
+}
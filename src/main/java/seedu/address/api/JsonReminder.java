@@ -0,0 +1,22 @@
+package seedu.address.api;
+
+import seedu.address.model.reminder.Reminder;
+
+/**
+ * A {@link Reminder} as the HTTP API shows it.
+ */
+class JsonReminder {
+
+    private final String dueDate;
+    private final String description;
+    private final boolean isModifiable;
+
+    /**
+     * Converts {@code source} into this class for Jackson use.
+     */
+    JsonReminder(Reminder source) {
+        dueDate = source.getDueDate().toInputString();
+        description = source.getDescription().toString();
+        isModifiable = source.isModifiable();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.api;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.LessonTime;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@link Person} as the HTTP API shows it.
+ * <p>
+ * A summary has only the fields a {@code Person} never changes in place, so it can be made on any thread. Details
+ * add the payments, homework and participation, which are changed in place and loaded on first access, so they
+ * must be made on the thread that runs commands.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonStudent {
+
+    private final String name;
+    private final String phone;
+    private final List<String> lessonTimes = new ArrayList<>();
+    private final List<String> groups = new ArrayList<>();
+    private List<Integer> paidMonths;
+    private List<JsonHomework> homework;
+    private List<JsonParticipation> participation;
+
+    private JsonStudent(Person source, Set<GroupName> groupNames) {
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        source.getLessonTime().stream()
+                .map(LessonTime::toInputString)
+                .sorted()
+                .forEach(lessonTimes::add);
+        groupNames.stream()
+                .map(GroupName::toString)
+                .sorted()
+                .forEach(groups::add);
+    }
+
+    /**
+     * Returns the summary of {@code source}, who belongs to the groups {@code groupNames}.
+     */
+    static JsonStudent summaryOf(Person source, Set<GroupName> groupNames) {
+        return new JsonStudent(source, groupNames);
+    }
+
+    /**
+     * Returns the details of {@code source}, who belongs to the groups {@code groupNames}.
+     */
+    static JsonStudent detailsOf(Person source, Set<GroupName> groupNames) {
+        JsonStudent student = new JsonStudent(source, groupNames);
+        student.paidMonths = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            if (source.isPaidForMonth(month)) {
+                student.paidMonths.add(month);
+            }
+        }
+        student.homework = source.getHomeworkList().stream().map(JsonHomework::new).toList();
+        student.participation = source.getParticipation().asList().stream().map(JsonParticipation::new).toList();
+        return student;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * A homework of a student.
+     */
+    private static class JsonHomework {
+        private final String description;
+        private final LocalDate deadline;
+        private final boolean isDone;
+
+        private JsonHomework(Homework source) {
+            description = source.getDescription();
+            deadline = source.getDeadline();
+            isDone = source.isDone();
+        }
+    }
+
+    /**
+     * A participation score of a student.
+     */
+    private static class JsonParticipation {
+        private final LocalDate date;
+        private final int score;
+
+        private JsonParticipation(ParticipationRecord source) {
+            date = source.getDate();
+            score = source.getScore();
+        }
+    }
+}
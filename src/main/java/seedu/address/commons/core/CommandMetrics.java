@@ -0,0 +1,205 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Records how many times each command runs, how many times it fails, and how long it spends in each
+ * {@link Phase}.
+ * <p>
+ * A command is timed by a {@link Sample}, typically in a try-with-resources block, which marks the end of each
+ * phase as the command reaches it. A command that does not reach the end of its last phase is counted as failed.
+ * Recording does not lock, so it adds almost nothing to a command. At most every {@link #SUMMARY_INTERVAL_MINUTES}
+ * minutes, a summary of every command run so far is logged as one line of {@code key=value} pairs.
+ */
+public class CommandMetrics {
+
+    public static final String UNKNOWN_COMMAND = "unknown";
+    public static final long SUMMARY_INTERVAL_MINUTES = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final long SUMMARY_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(SUMMARY_INTERVAL_MINUTES);
+
+    private static final ConcurrentMap<String, CommandStats> commands = new ConcurrentHashMap<>();
+    private static final AtomicLong nextSummaryNanos = new AtomicLong(System.nanoTime() + SUMMARY_INTERVAL_NANOS);
+
+    private CommandMetrics() {
+    } // prevents instantiation
+
+    /**
+     * The phases of running a command, in the order they happen.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE;
+
+        /** Returns the name of this phase as shown to the user, e.g. {@code parse}. */
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * The counts and latencies of one command word.
+     */
+    public static class CommandStats {
+        private final String commandWord;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+
+        /**
+         * Creates the stats of {@code commandWord}, which has not run yet.
+         */
+        public CommandStats(String commandWord) {
+            requireNonNull(commandWord);
+            this.commandWord = commandWord;
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+
+        /**
+         * Records that the command spent {@code nanos} in {@code phase}.
+         */
+        public void record(Phase phase, long nanos) {
+            histograms[phase.ordinal()].record(nanos);
+        }
+
+        /**
+         * Records one run of the command, which failed if {@code isError}.
+         */
+        public void recordRun(boolean isError) {
+            count.increment();
+            if (isError) {
+                errorCount.increment();
+            }
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getErrorCount() {
+            return errorCount.sum();
+        }
+
+        /** Returns the latencies of the runs of the command that reached the end of {@code phase}. */
+        public LatencyHistogram getLatencies(Phase phase) {
+            return histograms[phase.ordinal()];
+        }
+    }
+
+    /**
+     * Times one run of a command until it is closed.
+     */
+    public static class Sample implements AutoCloseable {
+        private final CommandStats stats;
+        private long phaseStartNanos;
+        private int nextPhase;
+
+        private Sample(CommandStats stats) {
+            this.stats = stats;
+            this.phaseStartNanos = System.nanoTime();
+        }
+
+        /**
+         * Marks the end of {@code phase}, which started when the previous phase ended.
+         *
+         * @throws IllegalStateException if {@code phase} has ended already, or a phase before it has not.
+         */
+        public void endPhase(Phase phase) {
+            if (phase.ordinal() != nextPhase) {
+                throw new IllegalStateException("Phase " + phase.getName() + " is out of order");
+            }
+            long now = System.nanoTime();
+            stats.record(phase, now - phaseStartNanos);
+            phaseStartNanos = now;
+            nextPhase++;
+        }
+
+        @Override
+        public void close() {
+            stats.recordRun(nextPhase < Phase.values().length);
+            logSummaryIfDue(System.nanoTime());
+        }
+    }
+
+    /**
+     * Starts timing a run of the command named {@code commandWord}, which ends when the returned sample is closed.
+     */
+    public static Sample start(String commandWord) {
+        requireNonNull(commandWord);
+        CommandStats stats = commands.get(commandWord);
+        if (stats == null) {
+            stats = commands.computeIfAbsent(commandWord, CommandStats::new);
+        }
+        return new Sample(stats);
+    }
+
+    /**
+     * Returns the stats of every command run so far, in the order of their command words.
+     */
+    public static List<CommandStats> getCommands() {
+        return new ArrayList<>(new TreeMap<>(commands).values());
+    }
+
+    /**
+     * Returns the stats as one line of {@code key=value} pairs, e.g.
+     * {@code commands add_n=12 add_err=1 add_parse_p50_ms=0.05 add_parse_p99_ms=0.21 ...}.
+     */
+    public static String toLogLine() {
+        StringBuilder line = new StringBuilder("commands");
+        for (CommandStats stats : getCommands()) {
+            String word = stats.getCommandWord();
+            line.append(String.format(Locale.ROOT, " %1$s_n=%2$d %1$s_err=%3$d", word, stats.getCount(),
+                    stats.getErrorCount()));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram latencies = stats.getLatencies(phase);
+                if (latencies.getCount() == 0) {
+                    continue;
+                }
+                line.append(String.format(Locale.ROOT, " %1$s_%2$s_p50_ms=%3$.2f %1$s_%2$s_p99_ms=%4$.2f",
+                        word, phase.getName(), toMillis(latencies.getValueAtPercentile(50)),
+                        toMillis(latencies.getValueAtPercentile(99))));
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Converts {@code nanos} to milliseconds.
+     */
+    public static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static void logSummaryIfDue(long now) {
+        long dueNanos = nextSummaryNanos.get();
+        // Only the thread that moves the due time on logs, so each summary is logged once
+        if (now - dueNanos >= 0 && nextSummaryNanos.compareAndSet(dueNanos, now + SUMMARY_INTERVAL_NANOS)) {
+            logger.info(toLogLine());
+        }
+    }
+
+    /**
+     * Clears the stats of all commands.
+     */
+    static void reset() {
+        commands.clear();
+        nextSummaryNanos.set(System.nanoTime() + SUMMARY_INTERVAL_NANOS);
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in buckets whose width grows with the latency, so that every percentile it reports is within
+ * about 3% of the latency actually recorded, however long that is.
+ * <p>
+ * Like an HDR histogram, each power of two is split into {@value #SUB_BUCKET_COUNT} equal buckets. Recording a
+ * latency only increments one counter, without locking, so it is cheap enough to do on every command, from any
+ * thread. Latencies longer than {@value #MAX_TRACKABLE_NANOS} ns are counted as that long, but
+ * {@link #getMaxNanos()} still reports the longest latency exactly.
+ */
+public class LatencyHistogram {
+
+    public static final int SUB_BUCKET_COUNT = 32;
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = bucketOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records one latency of {@code nanos}. A negative latency, e.g. from a clock adjustment, is counted as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(Math.min(value, MAX_TRACKABLE_NANOS)));
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the latency that {@code percentile} percent of the recorded latencies are at most, or 0 if none have
+     * been recorded. The latency is the upper end of its bucket, but never more than {@link #getMaxNanos()}.
+     *
+     * @throws IllegalArgumentException if {@code percentile} is not between 0 and 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        // Counts can change while they are read, so the rank is taken from the same counts that are searched
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Returns the bucket of {@code nanos}. Latencies below {@link #SUB_BUCKET_COUNT} each have their own bucket;
+     * above that, the bucket is picked by the position of the highest set bit and the bits just below it.
+     */
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the longest latency counted in {@code bucket}.
+     */
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Records how long each phase of startup takes and how much memory it allocates.
+ * <p>
+ * A phase is timed by {@link #start(String)}, typically in a try-with-resources block. A phase that runs more
+ * than once, e.g. on several threads, adds up. Allocations are counted on the thread that runs the phase, so
+ * work a phase hands to other threads is not included. Once {@link #finish()} marks the app as ready for input,
+ * the breakdown is logged as one line of {@code key=value} pairs and later phases are no longer recorded, so the
+ * instrumented code costs nothing when it runs again after startup.
+ */
+public class StartupProfile {
+
+    public static final String CONFIG = "config";
+    public static final String PREFS = "prefs";
+    public static final String STORAGE_READ = "storage_read";
+    public static final String JSON_BIND = "json_bind";
+    public static final String TO_MODEL_TYPE = "to_model_type";
+    public static final String UNIQUENESS_CHECKS = "uniqueness_checks";
+    public static final String REMINDER_SORT = "reminder_sort";
+    public static final String MODEL_INIT = "model_init";
+    public static final String FXML_LOAD = "fxml_load";
+    public static final String FIRST_RENDER = "first_render";
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfile.class);
+    private static final Timer NO_OP_TIMER = new Timer(null);
+
+    private static final Map<String, PhaseStats> phases = new LinkedHashMap<>();
+    private static volatile boolean isFinished;
+    private static long timeToReadyMillis = -1;
+
+    private StartupProfile() {
+    } // prevents instantiation
+
+    /**
+     * The time and allocations of one phase, summed over every time it ran.
+     */
+    public static class PhaseStats {
+        private final String name;
+        private final long nanos;
+        private final long allocatedBytes;
+
+        /**
+         * Creates the stats of a phase that took {@code nanos} and allocated {@code allocatedBytes}, or -1 if
+         * allocations were not counted.
+         */
+        public PhaseStats(String name, long nanos, long allocatedBytes) {
+            requireNonNull(name);
+            this.name = name;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Returns the stats of this phase after it ran again for {@code nanos} and allocated {@code allocatedBytes}.
+         */
+        private PhaseStats plus(long nanos, long allocatedBytes) {
+            boolean isCounted = this.allocatedBytes >= 0 && allocatedBytes >= 0;
+            return new PhaseStats(name, this.nanos + nanos, isCounted ? this.allocatedBytes + allocatedBytes : -1);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getMillis() {
+            return nanos / 1e6;
+        }
+
+        /** Returns the bytes allocated during the phase, or -1 if the JVM cannot count allocations. */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * Times one run of a phase until it is closed.
+     */
+    public static class Timer implements AutoCloseable {
+        private final String phase;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Timer(String phase) {
+            this.phase = phase;
+            this.startNanos = phase == null ? 0 : System.nanoTime();
+            this.startAllocatedBytes = phase == null ? 0 : currentThreadAllocatedBytes();
+        }
+
+        @Override
+        public void close() {
+            if (phase == null) {
+                return;
+            }
+            long allocatedBytes = currentThreadAllocatedBytes();
+            record(phase, System.nanoTime() - startNanos,
+                    allocatedBytes < 0 ? -1 : allocatedBytes - startAllocatedBytes);
+        }
+    }
+
+    /**
+     * Starts timing a run of {@code phase}, which ends when the returned timer is closed.
+     * Returns a timer that records nothing once startup has finished.
+     */
+    public static Timer start(String phase) {
+        requireNonNull(phase);
+        return isFinished ? NO_OP_TIMER : new Timer(phase);
+    }
+
+    private static synchronized void record(String phase, long nanos, long allocatedBytes) {
+        if (isFinished) {
+            return;
+        }
+        phases.merge(phase, new PhaseStats(phase, nanos, allocatedBytes),
+                (previous, run) -> previous.plus(run.nanos, run.allocatedBytes));
+    }
+
+    /**
+     * Marks startup as finished, with the app ready for input, and logs the breakdown of its phases.
+     * Does nothing if startup has already finished.
+     */
+    public static void finish() {
+        synchronized (StartupProfile.class) {
+            if (isFinished) {
+                return;
+            }
+            timeToReadyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            isFinished = true;
+        }
+        logger.info(toLogLine());
+    }
+
+    /**
+     * Returns the time from JVM start until startup finished, or -1 if it has not finished.
+     */
+    public static synchronized long getTimeToReadyMillis() {
+        return timeToReadyMillis;
+    }
+
+    /**
+     * Returns the phases recorded so far, in the order they were first recorded.
+     */
+    public static synchronized List<PhaseStats> getPhases() {
+        return new ArrayList<>(phases.values());
+    }
+
+    /**
+     * Returns the breakdown as one line of {@code key=value} pairs, e.g.
+     * {@code startup ready_ms=812 config_ms=3.1 config_alloc_kb=96 ...}.
+     */
+    public static String toLogLine() {
+        StringBuilder line = new StringBuilder("startup ready_ms=").append(getTimeToReadyMillis());
+        for (PhaseStats stats : getPhases()) {
+            line.append(String.format(Locale.ROOT, " %1$s_ms=%2$.1f", stats.getName(), stats.getMillis()));
+            if (stats.getAllocatedBytes() >= 0) {
+                line.append(String.format(Locale.ROOT, " %1$s_alloc_kb=%2$d", stats.getName(),
+                        stats.getAllocatedBytes() / 1024));
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Clears all recorded phases so that startup can be profiled again.
+     */
+    static synchronized void reset() {
+        phases.clear();
+        timeToReadyMillis = -1;
+        isFinished = false;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
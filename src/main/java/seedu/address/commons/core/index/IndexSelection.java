@@ -0,0 +1,193 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a selection of items in a displayed list: single indexes, ranges of indexes, or all shown items.
+ *
+ * A selection is kept as it was given, in parts, and only turned into indexes for a list of a given size, so that
+ * {@link #allShown()} and ranges cost nothing until a command runs.
+ */
+public class IndexSelection {
+    public static final String ALL_SHOWN = "all-shown";
+    public static final char LIST_SEPARATOR = ',';
+    public static final char RANGE_SEPARATOR = '-';
+
+    private static final IndexSelection ALL_SHOWN_SELECTION = new IndexSelection(List.of(new Part(0, -1)));
+
+    private final List<Part> parts;
+
+    private IndexSelection(List<Part> parts) {
+        this.parts = List.copyOf(parts);
+    }
+
+    /**
+     * A single index, a range of indexes from {@code first} to {@code last} inclusive, or all shown items if
+     * {@code last} is -1. Indexes are zero-based.
+     */
+    private static class Part {
+        private final int first;
+        private final int last;
+
+        private Part(int first, int last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        private boolean isAllShown() {
+            return last < 0;
+        }
+
+        /** Returns the last index selected in a list of {@code size} items. */
+        private long lastIn(int size) {
+            return isAllShown() ? size - 1 : last;
+        }
+
+        private String toInputString() {
+            if (isAllShown()) {
+                return ALL_SHOWN;
+            }
+            return first == last
+                    ? String.valueOf(first + 1)
+                    : (first + 1) + String.valueOf(RANGE_SEPARATOR) + (last + 1);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Part && first == ((Part) other).first && last == ((Part) other).last;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(first, last);
+        }
+    }
+
+    /**
+     * Returns a selection of every item shown.
+     */
+    public static IndexSelection allShown() {
+        return ALL_SHOWN_SELECTION;
+    }
+
+    /**
+     * Returns a selection of the item at {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return new IndexSelection(List.of(new Part(index.getZeroBased(), index.getZeroBased())));
+    }
+
+    /**
+     * Returns a selection of the items from {@code first} to {@code last}, both included.
+     */
+    public static IndexSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        checkArgument(first.getZeroBased() <= last.getZeroBased(), "Range must not end before it starts");
+        return new IndexSelection(List.of(new Part(first.getZeroBased(), last.getZeroBased())));
+    }
+
+    /**
+     * Returns a selection of the items in any of {@code selections}, in the order given.
+     */
+    public static IndexSelection of(List<IndexSelection> selections) {
+        requireNonNull(selections);
+        checkArgument(!selections.isEmpty(), "Selection must not be empty");
+        List<Part> parts = new ArrayList<>();
+        for (IndexSelection selection : selections) {
+            parts.addAll(selection.parts);
+        }
+        return new IndexSelection(parts);
+    }
+
+    /**
+     * Returns the parts this selection was given in, each a single index, a range or all shown items.
+     */
+    public List<IndexSelection> getParts() {
+        return parts.stream().map(part -> new IndexSelection(List.of(part))).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the index selected if this selection is a single index only.
+     */
+    public Optional<Index> getSingleIndex() {
+        if (parts.size() != 1 || parts.get(0).isAllShown() || parts.get(0).first != parts.get(0).last) {
+            return Optional.empty();
+        }
+        return Optional.of(Index.fromZeroBased(parts.get(0).first));
+    }
+
+    /**
+     * Returns the first selected index that is not in a list of {@code size} items, if any.
+     */
+    public Optional<Index> findOutOfRange(int size) {
+        for (Part part : parts) {
+            if (part.lastIn(size) >= size) {
+                return Optional.of(Index.fromZeroBased(Math.max(part.first, size)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the selected indexes in a list of {@code size} items, in the order given, without repeats.
+     * None of the selected indexes may be out of range, as checked by {@link #findOutOfRange(int)}.
+     */
+    public List<Index> getIndexes(int size) {
+        checkArgument(findOutOfRange(size).isEmpty(), "Selection is out of range");
+        BitSet seen = new BitSet(size);
+        List<Index> indexes = new ArrayList<>();
+        for (Part part : parts) {
+            for (int i = part.first; i <= part.lastIn(size); i++) {
+                if (!seen.get(i)) {
+                    seen.set(i);
+                    indexes.add(Index.fromZeroBased(i));
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns this selection as it would be typed, e.g. {@code 1,4,9-20}.
+     */
+    public String toInputString() {
+        return parts.stream().map(Part::toInputString).collect(Collectors.joining(String.valueOf(LIST_SEPARATOR)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherIndexSelection = (IndexSelection) other;
+        return parts.equals(otherIndexSelection.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return parts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("indexes", toInputString()).toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading delimiter-separated values such as CSV.
+ * <p>
+ * A field may be enclosed in double quotes, in which case it may contain the separator, and a double quote
+ * is written as two double quotes. Quoted fields cannot span lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+
+    private CsvUtil() {
+    } // prevents instantiation
+
+    /**
+     * Splits {@code line} into its fields, separated by {@code separator}.
+     * Unquoted fields are returned as they are, including any surrounding whitespace.
+     *
+     * @throws IllegalValueException if a quoted field is not closed.
+     */
+    public static List<String> splitLine(String line, char separator) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        if (isQuoted) {
+            throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
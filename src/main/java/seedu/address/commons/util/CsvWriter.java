@@ -0,0 +1,148 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes delimiter-separated values such as CSV directly to a {@code Writer}, in the format read by
+ * {@link CsvUtil#splitLine(String, char)}.
+ * <p>
+ * A field is written with {@link #field(CharSequence)}, which quotes it only if it contains the separator, a
+ * double quote or a line break. A field can also be written in parts: {@link #startField()} or
+ * {@link #startQuotedField()}, then {@link #append(CharSequence)} for each part and {@link #endField()}.
+ * Nothing is buffered here, so wrap the destination in a {@code BufferedWriter}.
+ */
+public class CsvWriter implements Closeable {
+
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Writer out;
+    private final char separator;
+    private boolean isRowStart = true;
+    private boolean isInField;
+    private boolean isQuoted;
+
+    /**
+     * Creates a CsvWriter that writes to {@code out}, with fields separated by {@code separator}.
+     */
+    public CsvWriter(Writer out, char separator) {
+        requireNonNull(out);
+        this.out = out;
+        this.separator = separator;
+    }
+
+    /**
+     * Writes {@code value} as the next field of the current row.
+     */
+    public CsvWriter field(CharSequence value) throws IOException {
+        requireNonNull(value);
+        if (needsQuotes(value)) {
+            startQuotedField();
+        } else {
+            startField();
+        }
+        return append(value).endField();
+    }
+
+    /**
+     * Starts the next field of the current row, whose parts must not need quoting.
+     */
+    public CsvWriter startField() throws IOException {
+        return startField(false);
+    }
+
+    /**
+     * Starts the next field of the current row, enclosed in double quotes.
+     */
+    public CsvWriter startQuotedField() throws IOException {
+        return startField(true);
+    }
+
+    /**
+     * Appends {@code part} to the field started by {@link #startField()} or {@link #startQuotedField()}.
+     *
+     * @throws IllegalArgumentException if the field is not quoted and {@code part} needs quoting.
+     */
+    public CsvWriter append(CharSequence part) throws IOException {
+        requireNonNull(part);
+        if (!isInField) {
+            throw new IllegalStateException("No field has been started");
+        }
+        if (!isQuoted) {
+            if (needsQuotes(part)) {
+                throw new IllegalArgumentException("Unquoted field cannot contain " + part);
+            }
+            out.append(part);
+            return this;
+        }
+
+        for (int i = 0; i < part.length(); i++) {
+            char c = part.charAt(i);
+            if (c == QUOTE) {
+                out.write(QUOTE);
+            }
+            out.write(c);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the field started by {@link #startField()} or {@link #startQuotedField()}.
+     */
+    public CsvWriter endField() throws IOException {
+        if (!isInField) {
+            throw new IllegalStateException("No field has been started");
+        }
+        if (isQuoted) {
+            out.write(QUOTE);
+        }
+        isInField = false;
+        return this;
+    }
+
+    /**
+     * Ends the current row.
+     */
+    public void endRow() throws IOException {
+        if (isInField) {
+            throw new IllegalStateException("A field has not been ended");
+        }
+        out.write(LINE_SEPARATOR);
+        isRowStart = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private CsvWriter startField(boolean isQuoted) throws IOException {
+        if (isInField) {
+            throw new IllegalStateException("A field has not been ended");
+        }
+        if (!isRowStart) {
+            out.write(separator);
+        }
+        if (isQuoted) {
+            out.write(QUOTE);
+        }
+        isRowStart = false;
+        isInField = true;
+        this.isQuoted = isQuoted;
+        return this;
+    }
+
+    private boolean needsQuotes(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == separator || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
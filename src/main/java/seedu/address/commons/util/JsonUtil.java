@@ -3,6 +3,9 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +14,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -111,6 +115,30 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a generator that writes JSON to {@code out} with the same settings and pretty printing as
+     * {@link #toJsonString(Object)}, for callers that assemble a document piece by piece.
+     * Objects written with {@link JsonGenerator#writeObject(Object)} are serialized like {@code toJsonString} does.
+     */
+    public static JsonGenerator createGenerator(Writer out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Returns a generator that writes compact (not pretty-printed) UTF-8 JSON to {@code out} as it goes,
+     * with the same settings as {@link #toJsonString(Object)} otherwise. Closing the generator closes {@code out}.
+     */
+    public static JsonGenerator createCompactGenerator(OutputStream out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out);
+    }
+
+    /**
+     * Reads an instance of {@code instanceClass} from the JSON in {@code in}, parsing it as it is read.
+     */
+    public static <T> T fromJsonStream(InputStream in, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(in, instanceClass);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
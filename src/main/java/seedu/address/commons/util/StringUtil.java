@@ -68,6 +68,73 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns {@code text} with each run of whitespace replaced by a single space and leading and trailing
+     * whitespace removed, as {@code text.replaceAll("\\s+", " ").trim()} would, but without compiling a regex.
+     * Returns {@code text} itself if it needs no change.
+     */
+    public static String collapseWhitespace(String text) {
+        requireNonNull(text);
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        StringBuilder collapsed = null;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!isRegexWhitespace(c)) {
+                if (collapsed != null) {
+                    collapsed.append(c);
+                }
+                continue;
+            }
+
+            int runEnd = i + 1;
+            while (runEnd < end && isRegexWhitespace(text.charAt(runEnd))) {
+                runEnd++;
+            }
+            if (collapsed == null && (c != ' ' || runEnd > i + 1)) {
+                collapsed = new StringBuilder(end - start).append(text, start, i);
+            }
+            if (collapsed != null) {
+                collapsed.append(' ');
+            }
+            i = runEnd - 1;
+        }
+        return collapsed == null ? text.substring(start, end) : collapsed.toString();
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the number written in ASCII digits from {@code start} (inclusive) to {@code end} (exclusive)
+     * of {@code text}, or -1 if any of those characters is not a digit.
+     * At most 9 digits can be read.
+     */
+    public static int parseDigits(String text, int start, int end) {
+        requireNonNull(text);
+        assert end - start <= 9;
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
     /**
      * Capitalises the first letter of each word in the given {@code text}.
      */
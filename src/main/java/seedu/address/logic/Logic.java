@@ -8,6 +8,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
@@ -35,6 +36,12 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the address book as it was when the last command ended.
+     * Unlike the other methods, this can be called from any thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns an unmodifiable view of the filtered list of persons
      */
@@ -3,18 +3,26 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.Phase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.WorkspaceCache;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.person.Person;
@@ -30,11 +38,23 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String FILE_LOAD_ERROR_FORMAT = "Could not open data file %s: %s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WorkspaceCache workspaceCache;
+
+    /** Data file of the address book in {@code model}, to notice when a command switches to another one. */
+    private Path addressBookFilePath;
+
+    /** Address book as it was when the last command ended, for reads from other threads. */
+    private volatile AddressBookSnapshot addressBookSnapshot;
+
+    /** Address book as it was last saved to the data file, or null if it has not been saved there yet. */
+    private AddressBookSnapshot savedAddressBook;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -43,25 +63,124 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        workspaceCache = new WorkspaceCache(model.getUserPrefs().getIdleWorkspaceStudentLimit());
+        addressBookFilePath = model.getAddressBookFilePath();
+        addressBookSnapshot = model.getAddressBookSnapshot();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = addressBookParser.findCommandWord(commandText).orElse(CommandMetrics.UNKNOWN_COMMAND);
+        try (CommandMetrics.Sample sample = CommandMetrics.start(commandWord)) {
+            CommandResult commandResult;
+            Command command = addressBookParser.parseCommand(commandText);
+            sample.endPhase(Phase.PARSE);
+
+            UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+            commandResult = executeInTransaction(command);
+            model.commitAddressBook();
+            sample.endPhase(Phase.EXECUTE);
+
+            if (!model.getAddressBookFilePath().equals(addressBookFilePath)) {
+                openAddressBook(model.getAddressBookFilePath());
+            }
+            saveAddressBook();
+            if (!userPrefs.equals(model.getUserPrefs())) {
+                saveUserPrefs();
+            }
+            sample.endPhase(Phase.SAVE);
+
+            return commandResult;
+        } finally {
+            addressBookSnapshot = model.getAddressBookSnapshot();
+        }
+    }
+
+    /**
+     * Executes {@code command} in a model transaction, so that the reminders it changes are derived once at the end,
+     * and none of its changes are kept if it fails.
+     */
+    private CommandResult executeInTransaction(Command command) throws CommandException {
+        boolean isCommitted = false;
+        model.beginTransaction();
+        try {
+            CommandResult commandResult = command.execute(model);
+            model.commitTransaction();
+            isCommitted = true;
+            return commandResult;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+    }
+
+    /**
+     * Saves the address book in {@code model}, then replaces it with the address book at {@code filePath}.
+     * The replaced address book is kept in memory if it fits in the {@code workspaceCache}, so that switching
+     * back to it does not read its data file again.
+     */
+    private void openAddressBook(Path filePath) throws CommandException {
+        Path previousFilePath = addressBookFilePath;
+        try {
+            saveAddressBook();
+        } catch (CommandException e) {
+            model.setAddressBookFilePath(previousFilePath);
+            throw e;
+        }
+
+        boolean isDataCompressed = model.getUserPrefs().isDataCompressed();
+        storage.setAddressBookFilePath(filePath, isDataCompressed);
+
+        ReadOnlyAddressBook addressBook;
+        Optional<ReadOnlyAddressBook> cached = workspaceCache.remove(filePath);
+        if (cached.isPresent()) {
+            addressBook = cached.get();
+        } else {
+            try {
+                addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+            } catch (DataLoadingException e) {
+                storage.setAddressBookFilePath(previousFilePath, isDataCompressed);
+                model.setAddressBookFilePath(previousFilePath);
+                throw new CommandException(String.format(FILE_LOAD_ERROR_FORMAT, filePath, e.getMessage()), e);
+            }
+        }
+
+        logger.info("Switching data file from " + previousFilePath + " to " + filePath
+                + (cached.isPresent() ? " (kept in memory)" : ""));
+        workspaceCache.put(previousFilePath, model.openAddressBook(addressBook));
+        addressBookFilePath = filePath;
+        savedAddressBook = null;
+    }
+
+    /**
+     * Saves the address book in {@code model}, unless it is unchanged since it was last saved, so that commands
+     * that only read it do not write the data file or age its previous generations.
+     */
+    private void saveAddressBook() throws CommandException {
+        AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+        if (savedAddressBook != null && snapshot.isSameAs(savedAddressBook)) {
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
+            savedAddressBook = snapshot;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    private void saveUserPrefs() throws CommandException {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
     }
 
     @Override
@@ -69,6 +188,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBookSnapshot;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
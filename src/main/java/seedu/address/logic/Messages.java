@@ -4,6 +4,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
@@ -13,9 +14,13 @@ import seedu.address.model.reminder.Reminder;
  */
 public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command \"%1$s\", which could be: %2$s";
+    public static final String MESSAGE_INCOMPLETE_COMMAND = "\"%1$s\" must be entered in full as %2$s";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_OUT_OF_BOUNDS_DELETE_INDEX = "Invalid student index: %d (valid range: 1 to %d)";
     public static final String MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX = "The student index provided is invalid";
+    public static final String MESSAGE_INDEXES_FORMAT =
+            "INDEXES is an index, a list of indexes and ranges such as 1,4,9-20, or " + IndexSelection.ALL_SHOWN;
     public static final String MESSAGE_INVALID_REMINDER_DISPLAYED_INDEX = "The reminder index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
@@ -1,7 +1,16 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_OUT_OF_BOUNDS_DELETE_INDEX;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +26,27 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the students in the displayed list of {@code model} that {@code selection} selects, in the order
+     * given and without repeats.
+     *
+     * @throws CommandException if no students are shown or any selected index is out of range.
+     */
+    static List<Person> getSelectedPersons(Model model, IndexSelection selection) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+        }
+
+        Optional<Index> outOfRange = selection.findOutOfRange(lastShownList.size());
+        if (outOfRange.isPresent()) {
+            throw new CommandException(String.format(
+                    MESSAGE_OUT_OF_BOUNDS_DELETE_INDEX, outOfRange.get().getOneBased(), lastShownList.size()));
+        }
+
+        return selection.getIndexes(lastShownList.size()).stream()
+                .map(index -> lastShownList.get(index.getZeroBased()))
+                .toList();
+    }
+
 }
@@ -1,14 +1,15 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -24,21 +25,24 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_WORD = "delete-student";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes a student either by index or by search keyword.\n"
+            + ": Deletes students either by index or by search keyword.\n"
             + "Parameters:\n"
-            + "  " + PREFIX_INDEX + "INDEX (positive integer), OR\n"
+            + "  " + PREFIX_INDEX + "INDEXES, OR\n"
             + "  " + PREFIX_KEYWORD + "KEYWORD(S)\n"
+            + Messages.MESSAGE_INDEXES_FORMAT + "\n"
             + "Examples:\n"
             + "  " + COMMAND_WORD + " " + PREFIX_INDEX + "1\n"
+            + "  " + COMMAND_WORD + " " + PREFIX_INDEX + "1-3,5\n"
             + "  " + COMMAND_WORD + " " + PREFIX_KEYWORD + "marcus ng";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Student Deleted: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d students: %2$s";
     public static final String MESSAGE_MULTIPLE_MATCHES =
             "Multiple students match the given keyword(s). Please refine your search:\n";
     public static final String MESSAGE_NO_MATCH = "No students match the given keyword(s).";
 
 
-    private final Optional<Index> targetIndex;
+    private final Optional<IndexSelection> targetIndexes;
     private final Optional<StudentFieldsContainsKeywordsPredicate> predicate;
 
     /**
@@ -47,7 +51,16 @@ public class DeleteCommand extends Command {
      * @param targetIndex the index of the student in the displayed list to delete
      */
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = Optional.of(targetIndex);
+        this(IndexSelection.of(targetIndex));
+    }
+
+    /**
+     * Constructs a {@code DeleteCommand} to delete a selection of students by their indexes, as one change.
+     *
+     * @param targetIndexes the students in the displayed list to delete
+     */
+    public DeleteCommand(IndexSelection targetIndexes) {
+        this.targetIndexes = Optional.of(targetIndexes);
         this.predicate = Optional.empty();
     }
 
@@ -57,7 +70,7 @@ public class DeleteCommand extends Command {
      * @param predicate the predicate used to filter which students to delete
      */
     public DeleteCommand(StudentFieldsContainsKeywordsPredicate predicate) {
-        this.targetIndex = Optional.empty();
+        this.targetIndexes = Optional.empty();
         this.predicate = Optional.of(predicate);
     }
 
@@ -66,18 +79,28 @@ public class DeleteCommand extends Command {
      *
      * @param model the {@code Model} containing the student list to modify.
      * @return a {@code CommandResult} indicating successful deletion.
-     * @throws CommandException if the given index is invalid.
+     * @throws CommandException if any of the given indexes is invalid.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
         // deleting by index
-        if (targetIndex.isPresent()) {
-            Person personToDelete = getPersonToDeleteByIndex(model);
-            model.deletePerson(personToDelete);
+        if (targetIndexes.isPresent()) {
+            List<Person> personsToDelete = getSelectedPersons(model, targetIndexes.get());
+            if (personsToDelete.size() == 1) {
+                Person personToDelete = personsToDelete.get(0);
+                model.deletePerson(personToDelete);
+                model.refreshReminders();
+                return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+            }
+
+            model.deletePersons(personsToDelete);
             model.refreshReminders();
-            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+            String names = personsToDelete.stream()
+                    .map(person -> person.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size(), names));
         }
 
         // deleting by keywords
@@ -161,29 +184,6 @@ public class DeleteCommand extends Command {
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
-    /**
-     * Retrieves the person to delete from the model based on the provided index.
-     *
-     * @throws CommandException if the index is invalid.
-     */
-    private Person getPersonToDeleteByIndex(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (lastShownList.isEmpty()) {
-            throw new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
-        }
-
-        Index index = targetIndex.get();
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(String.format(
-                    Messages.MESSAGE_OUT_OF_BOUNDS_DELETE_INDEX,
-                    index.getOneBased(), lastShownList.size())
-            );
-        }
-
-        return lastShownList.get(index.getZeroBased());
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -196,13 +196,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
@@ -24,7 +24,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.ParticipationRecord;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
@@ -134,17 +133,8 @@ public class EditCommand extends Command {
             }
         }
 
-        Person newPerson = new Person(updatedName, updatedPhone, updateLessonTime);
-        newPerson.setAllPaymentStatus(personToEdit.getPaymentStatusBitSet());
-        newPerson.setHomeworkList(personToEdit.getHomeworkList());
-        for (ParticipationRecord r : personToEdit.getParticipation().asList()) {
-            try {
-                newPerson.getParticipation().add(r);
-            } catch (Exception ignored) {
-                // skip invalid rows instead of failing whole file
-            }
-        }
-        return newPerson;
+        // Payments, homework and participation are kept as they are
+        return personToEdit.withFields(updatedName, updatedPhone, updateLessonTime);
     }
 
     @Override
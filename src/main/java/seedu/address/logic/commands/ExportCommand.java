@@ -0,0 +1,287 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.LessonTime;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports the students in the displayed list to a CSV file, or a TSV file if the file name ends with ".tsv".
+ * <p>
+ * Each student is written to the file as it is visited, field by field, so the export does not build the
+ * rows in memory. The file is written in the format read by {@link ImportCommand} when only the name, phone,
+ * lessons, groups and payments columns are selected and each student is in at most one group.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export-students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the students in the displayed list to a CSV file, or a TSV file if FILE ends with .tsv.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE "
+            + "[" + PREFIX_COLUMN + "COLUMN]... "
+            + "[" + PREFIX_GROUP + "GROUP]\n"
+            + "COLUMN: one of " + Column.names() + " (default: all, in this order)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/billing.csv "
+            + PREFIX_COLUMN + "name " + PREFIX_COLUMN + "payments " + PREFIX_GROUP + "Sec 3";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d students to %2$s";
+    public static final String MESSAGE_GROUP_NOT_FOUND = "Group \"%1$s\" not found.";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    private static final char CSV_SEPARATOR = ',';
+    private static final char TSV_SEPARATOR = '\t';
+    private static final String TSV_EXTENSION = ".tsv";
+    private static final String VALUE_SEPARATOR = ";";
+
+    /**
+     * A column of the exported file.
+     */
+    public enum Column {
+        NAME, PHONE, LESSONS, GROUPS, PAYMENTS, HOMEWORK, PARTICIPATION;
+
+        public static final String MESSAGE_CONSTRAINTS = "Column should be one of " + names();
+
+        /**
+         * Returns the column called {@code name}, ignoring case.
+         *
+         * @throws IllegalArgumentException if there is no such column.
+         */
+        public static Column of(String name) {
+            requireNonNull(name);
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, e);
+            }
+        }
+
+        /**
+         * Returns the names of all columns, separated by commas.
+         */
+        public static String names() {
+            return Arrays.stream(values()).map(Column::toString).collect(Collectors.joining(", "));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Path filePath;
+    private final List<Column> columns;
+    private final Optional<GroupName> group;
+
+    /**
+     * Creates an ExportCommand to write {@code columns} of the displayed students, or only those in
+     * {@code group} if present, to the file at {@code filePath}.
+     */
+    public ExportCommand(Path filePath, List<Column> columns, Optional<GroupName> group) {
+        requireNonNull(filePath);
+        requireNonNull(columns);
+        requireNonNull(group);
+        this.filePath = filePath;
+        this.columns = columns.isEmpty() ? List.of(Column.values()) : List.copyOf(columns);
+        this.group = group;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (group.isPresent() && !model.hasGroup(group.get())) {
+            throw new CommandException(String.format(MESSAGE_GROUP_NOT_FOUND, group.get()));
+        }
+
+        // Group memberships are kept outside the student, so only look them up when needed
+        boolean needsGroups = group.isPresent() || columns.contains(Column.GROUPS);
+        int count = 0;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (CsvWriter writer = new CsvWriter(
+                    Files.newBufferedWriter(filePath, StandardCharsets.UTF_8), separatorFor(filePath))) {
+                writeHeader(writer);
+                for (Person student : model.getFilteredPersonList()) {
+                    Set<GroupName> studentGroups = needsGroups ? model.getGroupsOf(student) : Set.of();
+                    if (group.isPresent() && !studentGroups.contains(group.get())) {
+                        continue;
+                    }
+                    writeStudent(writer, student, studentGroups, model.getGroupList());
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()), e);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, filePath));
+    }
+
+    private static char separatorFor(Path filePath) {
+        Path fileName = filePath.getFileName();
+        boolean isTsv = fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(TSV_EXTENSION);
+        return isTsv ? TSV_SEPARATOR : CSV_SEPARATOR;
+    }
+
+    private void writeHeader(CsvWriter writer) throws IOException {
+        for (Column column : columns) {
+            writer.field(column.toString());
+        }
+        writer.endRow();
+    }
+
+    private void writeStudent(CsvWriter writer, Person student, Set<GroupName> studentGroups,
+                              List<Group> groups) throws IOException {
+        for (Column column : columns) {
+            switch (column) {
+            case NAME:
+                writer.field(student.getName().fullName);
+                break;
+
+            case PHONE:
+                writer.field(student.getPhone().value);
+                break;
+
+            case LESSONS:
+                writeLessons(writer, student.getLessonTime());
+                break;
+
+            case GROUPS:
+                writeGroups(writer, studentGroups, groups);
+                break;
+
+            case PAYMENTS:
+                writePayments(writer, student);
+                break;
+
+            case HOMEWORK:
+                writeHomework(writer, student.getHomeworkList());
+                break;
+
+            case PARTICIPATION:
+                writeParticipation(writer, student.getParticipation().records());
+                break;
+
+            default:
+                throw new AssertionError("Unknown column: " + column);
+            }
+        }
+        writer.endRow();
+    }
+
+    private static void writeLessons(CsvWriter writer, Set<LessonTime> lessonTimes) throws IOException {
+        writer.startField();
+        String separator = "";
+        for (LessonTime lessonTime : lessonTimes) {
+            writer.append(separator).append(lessonTime.toInputString());
+            separator = VALUE_SEPARATOR;
+        }
+        writer.endField();
+    }
+
+    /**
+     * Writes the groups of the student in the order they were created, so that the output does not depend on
+     * the iteration order of {@code studentGroups}.
+     */
+    private static void writeGroups(CsvWriter writer, Set<GroupName> studentGroups, List<Group> groups)
+            throws IOException {
+        writer.startField();
+        String separator = "";
+        for (Group group : groups) {
+            if (studentGroups.contains(group.getName())) {
+                writer.append(separator).append(group.getName().toString());
+                separator = VALUE_SEPARATOR;
+            }
+        }
+        writer.endField();
+    }
+
+    private static void writePayments(CsvWriter writer, Person student) throws IOException {
+        writer.startField();
+        for (int month = 1; month <= 12; month++) {
+            writer.append(student.isPaidForMonth(month) ? "1" : "0");
+        }
+        writer.endField();
+    }
+
+    private static void writeHomework(CsvWriter writer, List<Homework> homeworkList) throws IOException {
+        if (homeworkList.isEmpty()) {
+            writer.field("");
+            return;
+        }
+
+        writer.startQuotedField();
+        String separator = "";
+        for (Homework homework : homeworkList) {
+            writer.append(separator)
+                    .append(homework.getDescription())
+                    .append(" (due ")
+                    .append(homework.getDeadline().toString())
+                    .append(homework.isDone() ? ", done)" : ", not done)");
+            separator = VALUE_SEPARATOR + " ";
+        }
+        writer.endField();
+    }
+
+    private static void writeParticipation(CsvWriter writer, Iterable<ParticipationRecord> records)
+            throws IOException {
+        writer.startField();
+        String separator = "";
+        for (ParticipationRecord record : records) {
+            writer.append(separator)
+                    .append(record.getDate().toString())
+                    .append(":")
+                    .append(String.valueOf(record.getScore()));
+            separator = VALUE_SEPARATOR;
+        }
+        writer.endField();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && columns.equals(otherExportCommand.columns)
+                && group.equals(otherExportCommand.group);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("columns", columns)
+                .add("group", group)
+                .toString();
+    }
+}
@@ -4,12 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -19,7 +20,8 @@ import seedu.address.model.person.Person;
 /**
  * Adds one or more students to a group.
  * <p>
- * Format: {@code group-add g/GROUP i/INDEX [i/INDEX ...]}
+ * Format: {@code group-add g/GROUP i/INDEXES [i/INDEXES ...]}, where each {@code INDEXES} is an index, a list of
+ * indexes and ranges, or {@value IndexSelection#ALL_SHOWN}.
  */
 public class GroupAddCommand extends Command {
 
@@ -28,8 +30,9 @@ public class GroupAddCommand extends Command {
 
     /** Usage message shown on format errors. */
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds students to a group.\n"
-            + "Parameters: g/GROUP i/INDEX...\n"
-            + "Example: " + COMMAND_WORD + " g/Group A i/1 i/3 i/4";
+            + "Parameters: g/GROUP i/INDEXES...\n"
+            + Messages.MESSAGE_INDEXES_FORMAT + "\n"
+            + "Example: " + COMMAND_WORD + " g/Group A i/1 i/3-5";
 
     /** Summary message templates. */
     public static final String MESSAGE_ADDED_FMT = "Added %d student(s) to %s";
@@ -42,7 +45,7 @@ public class GroupAddCommand extends Command {
     public static final String MESSAGE_GROUP_NOT_FOUND = "Group \"%1$s\" not found.";
 
     private final GroupName groupName;
-    private final List<Index> targetIndices;
+    private final IndexSelection targetIndices;
 
     /**
      * Constructs a command that adds the given displayed-list {@code targetIndices} to {@code groupName}.
@@ -51,8 +54,18 @@ public class GroupAddCommand extends Command {
      * @param targetIndices one or more 1-based indices from the current filtered person list (non-null).
      */
     public GroupAddCommand(GroupName groupName, List<Index> targetIndices) {
+        this(groupName, IndexSelection.of(targetIndices.stream().map(IndexSelection::of).toList()));
+    }
+
+    /**
+     * Constructs a command that adds the students selected by {@code targetIndices} to {@code groupName}.
+     *
+     * @param groupName     validated group name to add members to (non-null).
+     * @param targetIndices indexes, ranges or all shown students of the current filtered person list (non-null).
+     */
+    public GroupAddCommand(GroupName groupName, IndexSelection targetIndices) {
         this.groupName = requireNonNull(groupName);
-        this.targetIndices = List.copyOf(requireNonNull(targetIndices));
+        this.targetIndices = requireNonNull(targetIndices);
     }
 
     @Override
@@ -72,9 +85,26 @@ public class GroupAddCommand extends Command {
         final Set<Integer> seenZeroBased = new LinkedHashSet<>();
         final List<String> duplicateTokens = new ArrayList<>();
         final List<String> invalidTokens = new ArrayList<>();
-        final List<Person> uniqueTargets = new LinkedList<>();
+        final List<Person> uniqueTargets = new ArrayList<>();
+
+        for (IndexSelection part : targetIndices.getParts()) {
+            Optional<Index> singleIndex = part.getSingleIndex();
+            if (singleIndex.isEmpty()) {
+                // a range or all shown is skipped whole if any of it is out of range;
+                // overlaps with earlier indices are skipped silently
+                if (part.findOutOfRange(shown.size()).isPresent()) {
+                    invalidTokens.add("i/" + part.toInputString());
+                    continue;
+                }
+                for (Index idx : part.getIndexes(shown.size())) {
+                    if (seenZeroBased.add(idx.getZeroBased())) {
+                        uniqueTargets.add(shown.get(idx.getZeroBased()));
+                    }
+                }
+                continue;
+            }
 
-        for (Index idx : targetIndices) {
+            Index idx = singleIndex.get();
             int z = idx.getZeroBased();
             // duplicated in the same command
             if (!seenZeroBased.add(z)) {
@@ -0,0 +1,219 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.LessonTime;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Imports students from a CSV file into the student list.
+ * <p>
+ * Each line holds {@code NAME,PHONE,LESSON_TIMES[,GROUP[,PAYMENTS]]}, where {@code LESSON_TIMES} are separated by
+ * {@code ;} and {@code PAYMENTS} is 12 digits of {@code 1} (paid) or {@code 0} (unpaid) from January to December.
+ * The file is read one line at a time. Lines that are invalid are reported with their line number and skipped;
+ * all other students are added at once.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import-students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students in a CSV file to the student list.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE\n"
+            + "Each line of FILE: NAME,PHONE,LESSON_TIME[;LESSON_TIME...][,GROUP[,PAYMENTS]]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students from %2$s";
+    public static final String MESSAGE_SKIPPED = "\nSkipped %1$d invalid lines:\n%2$s";
+    public static final String MESSAGE_MORE_SKIPPED = "\n... and %1$d more";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_MISSING_FIELDS = "Expected at least NAME, PHONE and LESSON_TIME";
+    public static final String MESSAGE_TOO_MANY_FIELDS =
+            "Expected at most NAME, PHONE, LESSON_TIME, GROUP and PAYMENTS";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Student %1$s already exists";
+    public static final String MESSAGE_INVALID_PAYMENTS =
+            "PAYMENTS must be 12 digits of 1 (paid) or 0 (unpaid), from January to December";
+
+    /** Number of skipped lines listed in the result; the rest are only counted. */
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private static final char SEPARATOR = ',';
+    private static final String LESSON_TIME_SEPARATOR = ";";
+    private static final int MONTHS = 12;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the students in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<Name> names = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            names.add(person.getName());
+        }
+
+        List<Person> students = new ArrayList<>();
+        Map<GroupName, List<Person>> groups = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+
+                try {
+                    List<String> fields = CsvUtil.splitLine(line, SEPARATOR);
+                    Person student = parseStudent(fields);
+                    Optional<GroupName> group = parseGroup(fields);
+                    if (!names.add(student.getName())) {
+                        throw new ParseException(String.format(MESSAGE_DUPLICATE_STUDENT, student.getName()));
+                    }
+                    students.add(student);
+                    group.ifPresent(name -> groups.computeIfAbsent(name, unused -> new ArrayList<>()).add(student));
+                } catch (IllegalValueException e) {
+                    errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        model.addPersons(students);
+        for (Map.Entry<GroupName, List<Person>> group : groups.entrySet()) {
+            if (!model.hasGroup(group.getKey())) {
+                model.createGroup(group.getKey());
+            }
+            model.addToGroup(group.getKey(), group.getValue());
+        }
+        model.refreshReminders();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, students.size(), filePath) + formatErrors(errors));
+    }
+
+    private static boolean isHeader(String line) {
+        return line.trim().toLowerCase().startsWith("name" + SEPARATOR);
+    }
+
+    private static Person parseStudent(List<String> fields) throws ParseException {
+        if (fields.size() < 3) {
+            throw new ParseException(MESSAGE_MISSING_FIELDS);
+        }
+        if (fields.size() > 5) {
+            throw new ParseException(MESSAGE_TOO_MANY_FIELDS);
+        }
+
+        Name name = ParserUtil.parseName(fields.get(0));
+        Phone phone = ParserUtil.parsePhone(fields.get(1));
+        Set<LessonTime> lessonTimes = ParserUtil.parseLessonTimeSet(
+                Arrays.asList(fields.get(2).split(LESSON_TIME_SEPARATOR)));
+        BitSet payments = fields.size() > 4 ? parsePayments(fields.get(4)) : new BitSet(MONTHS);
+        return new Person(name, phone, lessonTimes, payments);
+    }
+
+    private static Optional<GroupName> parseGroup(List<String> fields) throws ParseException {
+        if (fields.size() < 4 || fields.get(3).isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(GroupName.of(fields.get(3)));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(GroupName.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static BitSet parsePayments(String field) throws ParseException {
+        String trimmed = field.trim();
+        BitSet payments = new BitSet(MONTHS);
+        if (trimmed.isEmpty()) {
+            return payments;
+        }
+        if (trimmed.length() != MONTHS) {
+            throw new ParseException(MESSAGE_INVALID_PAYMENTS);
+        }
+
+        for (int month = 0; month < MONTHS; month++) {
+            char bit = trimmed.charAt(month);
+            if (bit != '0' && bit != '1') {
+                throw new ParseException(MESSAGE_INVALID_PAYMENTS);
+            }
+            payments.set(month, bit == '1');
+        }
+        return payments;
+    }
+
+    private static String formatErrors(List<String> errors) {
+        if (errors.isEmpty()) {
+            return "";
+        }
+
+        List<String> reported = errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS));
+        String message = String.format(MESSAGE_SKIPPED, errors.size(), String.join("\n", reported));
+        if (errors.size() > reported.size()) {
+            message += String.format(MESSAGE_MORE_SKIPPED, errors.size() - reported.size());
+        }
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
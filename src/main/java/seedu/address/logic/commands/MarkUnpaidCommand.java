@@ -4,28 +4,39 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Marks a student as unpaid for a specific month.
+ * Marks a student, or a selection of students, as unpaid for a specific month.
  */
 public class MarkUnpaidCommand extends Command {
     public static final String COMMAND_WORD = "mark-unpaid";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks a student as unpaid for a month.\n"
-            + "Parameters: " + PREFIX_INDEX + "INDEX " + PREFIX_MONTH + "MONTH\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks students as unpaid for a month.\n"
+            + "Parameters: " + PREFIX_INDEX + "INDEXES " + PREFIX_MONTH + "MONTH\n"
+            + Messages.MESSAGE_INDEXES_FORMAT + "\n"
             + "MONTH must be a number from 1 to 12 (January to December)\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_INDEX + "1 " + PREFIX_MONTH + "9";
+            + "Example: " + COMMAND_WORD + " " + PREFIX_INDEX + "1-3,5 " + PREFIX_MONTH + "9";
 
     public static final String MESSAGE_MARK_UNPAID_SUCCESS =
             "Marked student as unpaid: %1$s\nMonth: %2$s\n%3$s";
     public static final String MESSAGE_ALREADY_UNPAID = "Student %1$s is already marked as unpaid for %2$s.";
+    public static final String MESSAGE_MARK_ALL_UNPAID_SUCCESS = "Marked %1$d students as unpaid for %2$s";
+    public static final String MESSAGE_SKIPPED_ALREADY_UNPAID = "\nAlready marked as unpaid: %1$s";
+    public static final String MESSAGE_ALL_ALREADY_UNPAID =
+            "All selected students are already marked as unpaid for %1$s.";
     public static final String MESSAGE_INVALID_MONTH = "Invalid month. Month must be between 1 and 12.";
 
-    private final Index index;
+    private final IndexSelection selection;
     private final int month;
 
     /**
@@ -35,8 +46,18 @@ public class MarkUnpaidCommand extends Command {
      * @param month the month to be marked as unpaid
      */
     public MarkUnpaidCommand(Index index, int month) {
-        requireNonNull(index);
-        this.index = index;
+        this(IndexSelection.of(index), month);
+    }
+
+    /**
+     * Constructs a {@code MarkUnpaidCommand} to mark a selection of students as unpaid for a month.
+     *
+     * @param selection the students in the displayed list to be marked
+     * @param month the month to be marked as unpaid
+     */
+    public MarkUnpaidCommand(IndexSelection selection, int month) {
+        requireNonNull(selection);
+        this.selection = selection;
         this.month = month;
     }
 
@@ -48,6 +69,12 @@ public class MarkUnpaidCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_MONTH);
         }
 
+        Optional<Index> singleIndex = selection.getSingleIndex();
+        if (singleIndex.isEmpty()) {
+            return markAllUnpaid(model);
+        }
+
+        Index index = singleIndex.get();
         var lastShownList = model.getFilteredPersonList();
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException("Invalid student index provided.");
@@ -60,18 +87,56 @@ public class MarkUnpaidCommand extends Command {
                     String.format(MESSAGE_ALREADY_UNPAID, personToUpdate.getName(), getMonthName(month)));
         }
 
-        personToUpdate.setPaymentStatus(month, false);
+        Person updatedPerson = personToUpdate.withPaymentStatus(month, false);
+        model.setPerson(personToUpdate, updatedPerson);
 
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         model.refreshReminders();
 
         String monthName = getMonthName(month);
-        String statusDisplay = personToUpdate.getPaymentStatusDisplay();
+        String statusDisplay = updatedPerson.getPaymentStatusDisplay();
 
         return new CommandResult(
                 String.format(MESSAGE_MARK_UNPAID_SUCCESS, personToUpdate.getName(), monthName, statusDisplay));
     }
 
+    /**
+     * Marks all selected students as unpaid as one change, skipping those who are already unpaid.
+     * Reminders are refreshed once for the whole selection.
+     */
+    private CommandResult markAllUnpaid(Model model) throws CommandException {
+        List<Person> selectedPersons = getSelectedPersons(model, selection);
+        List<Person> personsToUpdate = new ArrayList<>();
+        List<String> skippedNames = new ArrayList<>();
+        for (Person person : selectedPersons) {
+            if (person.isPaidForMonth(month)) {
+                personsToUpdate.add(person);
+            } else {
+                skippedNames.add(person.getName().fullName);
+            }
+        }
+
+        String monthName = getMonthName(month);
+        if (personsToUpdate.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ALL_ALREADY_UNPAID, monthName));
+        }
+
+        List<Person> updatedPersons = new ArrayList<>();
+        for (Person person : personsToUpdate) {
+            updatedPersons.add(person.withPaymentStatus(month, false));
+        }
+        model.setPersons(personsToUpdate, updatedPersons);
+
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.refreshReminders();
+
+        String result = String.format(MESSAGE_MARK_ALL_UNPAID_SUCCESS, personsToUpdate.size(), monthName);
+        if (!skippedNames.isEmpty()) {
+            result += String.format(MESSAGE_SKIPPED_ALREADY_UNPAID, String.join(", ", skippedNames));
+        }
+        return new CommandResult(result);
+    }
+
     private String getMonthName(int month) {
         String[] monthNames = { "January", "February", "March", "April", "May", "June",
             "July", "August", "September", "October", "November", "December" };
@@ -87,6 +152,6 @@ public class MarkUnpaidCommand extends Command {
             return false;
         }
         MarkUnpaidCommand otherCommand = (MarkUnpaidCommand) other;
-        return index.equals(otherCommand.index) && month == otherCommand.month;
+        return selection.equals(otherCommand.selection) && month == otherCommand.month;
     }
 }
@@ -0,0 +1,145 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a file, one per line, as a single change.
+ * <p>
+ * The commands run in one model transaction, so reminders are refreshed once at the end instead of after each
+ * command, and the data file is saved once afterwards. If any command fails, the changes made by the commands
+ * before it are rolled back. Blank lines and lines starting with {@value #COMMENT_START} are skipped.
+ */
+public class RunScriptCommand extends Command {
+    public static final String COMMAND_WORD = "run-script";
+    public static final String COMMENT_START = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/rollover.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_LINE_RESULT = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d of %2$s failed, so no changes were kept: %3$s";
+    public static final String MESSAGE_NOT_ALLOWED = "%1$s cannot be used in a script";
+    public static final String MESSAGE_DATA_FILE_CHANGED = "A script cannot switch to another workspace";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    private final Path filePath;
+    private final AddressBookParser parser;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in the file at {@code filePath}, parsed by {@code parser},
+     * i.e. the parser of the {@code run-script} command itself.
+     */
+    public RunScriptCommand(Path filePath, AddressBookParser parser) {
+        requireNonNull(filePath);
+        requireNonNull(parser);
+        this.filePath = filePath;
+        this.parser = parser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines = readLines();
+        Path dataFilePath = model.getAddressBookFilePath();
+
+        StringBuilder results = new StringBuilder();
+        int commandCount = 0;
+        int lineNumber = 0;
+        boolean isCommitted = false;
+        model.beginTransaction();
+        try {
+            for (String line : lines) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_START)) {
+                    continue;
+                }
+
+                CommandResult result = executeLine(trimmedLine, model);
+                if (!model.getAddressBookFilePath().equals(dataFilePath)) {
+                    throw new CommandException(MESSAGE_DATA_FILE_CHANGED);
+                }
+                commandCount++;
+                results.append(String.format(MESSAGE_LINE_RESULT, lineNumber, firstLine(result.getFeedbackToUser())));
+            }
+            model.commitTransaction();
+            isCommitted = true;
+        } catch (CommandException | ParseException e) {
+            throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumber, filePath, e.getMessage()), e);
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, filePath) + results);
+    }
+
+    private List<String> readLines() throws CommandException {
+        try {
+            return Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses and executes one line of the script.
+     * Commands that would undo the script's own changes, end the app or nest scripts are not allowed.
+     */
+    private CommandResult executeLine(String line, Model model) throws CommandException, ParseException {
+        Command command = parser.parseCommand(line);
+        if (command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof ExitCommand || command instanceof RunScriptCommand) {
+            throw new CommandException(String.format(MESSAGE_NOT_ALLOWED, line.split("\\s+", 2)[0]));
+        }
+        return command.execute(model);
+    }
+
+    private static String firstLine(String text) {
+        int end = text.indexOf('\n');
+        return end < 0 ? text : text.substring(0, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunScriptCommand)) {
+            return false;
+        }
+
+        RunScriptCommand otherRunScriptCommand = (RunScriptCommand) other;
+        return filePath.equals(otherRunScriptCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
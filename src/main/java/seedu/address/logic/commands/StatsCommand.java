@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.CommandStats;
+import seedu.address.commons.core.CommandMetrics.Phase;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.StartupProfile;
+import seedu.address.commons.core.StartupProfile.PhaseStats;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of the app's startup took and how much memory it allocated, or how long each command
+ * run since startup took.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    public static final String TOPIC_STARTUP = "startup";
+    public static final String TOPIC_COMMANDS = "commands";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each phase of startup took, "
+            + "or how long each command took since startup.\n"
+            + "Parameters: " + TOPIC_STARTUP + " or " + TOPIC_COMMANDS + "\n"
+            + "Example: " + COMMAND_WORD + " " + TOPIC_COMMANDS;
+
+    public static final String MESSAGE_SUCCESS = "Startup phases:";
+    public static final String MESSAGE_PHASE = "\n%1$s: %2$.1f ms";
+    public static final String MESSAGE_ALLOCATED = ", %1$d KB allocated";
+    public static final String MESSAGE_READY = "\nReady for input %1$d ms after launch";
+    public static final String MESSAGE_NO_PHASES = "No startup phases were recorded.";
+
+    public static final String MESSAGE_COMMANDS_SUCCESS = "Command times in ms (median / 99th percentile / longest):";
+    public static final String MESSAGE_COMMAND = "\n%1$s: run %2$d times, failed %3$d times";
+    public static final String MESSAGE_COMMAND_PHASE = "\n    %1$s: %2$.2f / %3$.2f / %4$.2f";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have run yet.";
+
+    private final String topic;
+
+    /**
+     * Creates a StatsCommand to show the stats of {@code topic}, which is {@link #TOPIC_STARTUP} or
+     * {@link #TOPIC_COMMANDS}.
+     */
+    public StatsCommand(String topic) {
+        requireNonNull(topic);
+        if (!topic.equals(TOPIC_STARTUP) && !topic.equals(TOPIC_COMMANDS)) {
+            throw new IllegalArgumentException("Unknown stats topic: " + topic);
+        }
+        this.topic = topic;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (topic.equals(TOPIC_COMMANDS)) {
+            return new CommandResult(formatCommands(CommandMetrics.getCommands()));
+        }
+        return new CommandResult(format(StartupProfile.getPhases(), StartupProfile.getTimeToReadyMillis()));
+    }
+
+    /**
+     * Returns the message listing {@code phases}, followed by {@code timeToReadyMillis} unless it is negative.
+     */
+    static String format(List<PhaseStats> phases, long timeToReadyMillis) {
+        if (phases.isEmpty()) {
+            return MESSAGE_NO_PHASES;
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_SUCCESS);
+        for (PhaseStats phase : phases) {
+            message.append(String.format(Locale.ROOT, MESSAGE_PHASE, phase.getName(), phase.getMillis()));
+            if (phase.getAllocatedBytes() >= 0) {
+                message.append(String.format(MESSAGE_ALLOCATED, phase.getAllocatedBytes() / 1024));
+            }
+        }
+        if (timeToReadyMillis >= 0) {
+            message.append(String.format(MESSAGE_READY, timeToReadyMillis));
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns the message listing {@code commands} with the times of the phases each has reached.
+     */
+    static String formatCommands(List<CommandStats> commands) {
+        if (commands.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_COMMANDS_SUCCESS);
+        for (CommandStats command : commands) {
+            message.append(String.format(MESSAGE_COMMAND, command.getCommandWord(), command.getCount(),
+                    command.getErrorCount()));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram latencies = command.getLatencies(phase);
+                if (latencies.getCount() == 0) {
+                    continue;
+                }
+                message.append(String.format(Locale.ROOT, MESSAGE_COMMAND_PHASE, phase.getName(),
+                        CommandMetrics.toMillis(latencies.getValueAtPercentile(50)),
+                        CommandMetrics.toMillis(latencies.getValueAtPercentile(99)),
+                        CommandMetrics.toMillis(latencies.getMaxNanos())));
+            }
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return topic.equals(otherStatsCommand.topic);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("topic", topic)
+                .toString();
+    }
+}
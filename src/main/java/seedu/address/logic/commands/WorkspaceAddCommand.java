@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKSPACE;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Registers a data file as a workspace, which can then be switched to with {@link WorkspaceSwitchCommand}.
+ * <p>
+ * If the data file in use is not a workspace yet, it is registered as {@value #DEFAULT_WORKSPACE_NAME}
+ * too, so that it can be switched back to.
+ */
+public class WorkspaceAddCommand extends Command {
+    public static final String COMMAND_WORD = "workspace-add";
+
+    public static final String DEFAULT_WORKSPACE_NAME = "default";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a workspace with its own data file. "
+            + "The data file is created when the workspace is first used.\n"
+            + "Parameters: " + PREFIX_WORKSPACE + "NAME " + PREFIX_FILE + "FILE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_WORKSPACE + "bedok " + PREFIX_FILE + "data/bedok.json";
+
+    public static final String MESSAGE_SUCCESS = "Added workspace %1$s with data file %2$s";
+    public static final String MESSAGE_DUPLICATE_WORKSPACE = "Workspace %1$s already exists";
+    public static final String MESSAGE_DUPLICATE_FILE = "Data file %1$s is already used by workspace %2$s";
+
+    private final String name;
+    private final Path filePath;
+
+    /**
+     * Creates a WorkspaceAddCommand to register the data file at {@code filePath} as workspace {@code name}.
+     */
+    public WorkspaceAddCommand(String name, Path filePath) {
+        requireNonNull(name);
+        requireNonNull(filePath);
+        this.name = name;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        if (userPrefs.getWorkspaces().containsKey(name)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_WORKSPACE, name));
+        }
+        Optional<String> existing = userPrefs.findWorkspace(filePath);
+        if (existing.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_FILE, filePath, existing.get()));
+        }
+
+        Path currentFilePath = model.getAddressBookFilePath();
+        if (userPrefs.findWorkspace(currentFilePath).isEmpty()
+                && !userPrefs.getWorkspaces().containsKey(DEFAULT_WORKSPACE_NAME)
+                && !name.equals(DEFAULT_WORKSPACE_NAME)) {
+            userPrefs.addWorkspace(DEFAULT_WORKSPACE_NAME, currentFilePath);
+        }
+        userPrefs.addWorkspace(name, filePath);
+        model.setUserPrefs(userPrefs);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WorkspaceAddCommand)) {
+            return false;
+        }
+
+        WorkspaceAddCommand otherWorkspaceAddCommand = (WorkspaceAddCommand) other;
+        return name.equals(otherWorkspaceAddCommand.name)
+                && filePath.equals(otherWorkspaceAddCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+
+/**
+ * Lists the workspaces and their data files, marking the one in use.
+ */
+public class WorkspaceListCommand extends Command {
+    public static final String COMMAND_WORD = "workspace-list";
+
+    public static final String MESSAGE_SUCCESS = "Workspaces:";
+    public static final String MESSAGE_WORKSPACE = "\n%1$s: %2$s";
+    public static final String MESSAGE_CURRENT = " (current)";
+    public static final String MESSAGE_NO_WORKSPACES = "No workspaces yet. The data file in use is %1$s. "
+            + "Add a workspace with " + WorkspaceAddCommand.COMMAND_WORD + ".";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<String, Path> workspaces = model.getUserPrefs().getWorkspaces();
+        if (workspaces.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_WORKSPACES, model.getAddressBookFilePath()));
+        }
+
+        Optional<String> current = model.getUserPrefs().findWorkspace(model.getAddressBookFilePath());
+        StringBuilder message = new StringBuilder(MESSAGE_SUCCESS);
+        for (Map.Entry<String, Path> workspace : workspaces.entrySet()) {
+            message.append(String.format(MESSAGE_WORKSPACE, workspace.getKey(), workspace.getValue()));
+            if (current.filter(workspace.getKey()::equals).isPresent()) {
+                message.append(MESSAGE_CURRENT);
+            }
+        }
+        return new CommandResult(message.toString());
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKSPACE;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Switches to another workspace, by making its data file the one in use.
+ * <p>
+ * The data of the workspace is opened by {@link seedu.address.logic.LogicManager} once the data file changes,
+ * after the data of the current workspace is saved.
+ */
+public class WorkspaceSwitchCommand extends Command {
+    public static final String COMMAND_WORD = "workspace-switch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the data of another workspace.\n"
+            + "Parameters: " + PREFIX_WORKSPACE + "NAME\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_WORKSPACE + "bedok";
+
+    public static final String MESSAGE_SUCCESS = "Switched to workspace %1$s";
+    public static final String MESSAGE_WORKSPACE_NOT_FOUND = "Workspace %1$s not found. Add it with "
+            + WorkspaceAddCommand.COMMAND_WORD + " first.";
+    public static final String MESSAGE_ALREADY_IN_WORKSPACE = "Already in workspace %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a WorkspaceSwitchCommand to switch to the workspace called {@code name}.
+     */
+    public WorkspaceSwitchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path filePath = model.getUserPrefs().getWorkspaces().get(name);
+        if (filePath == null) {
+            throw new CommandException(String.format(MESSAGE_WORKSPACE_NOT_FOUND, name));
+        }
+        if (model.getUserPrefs().findWorkspace(model.getAddressBookFilePath()).filter(name::equals).isPresent()) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_WORKSPACE, name));
+        }
+
+        model.setAddressBookFilePath(filePath);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WorkspaceSwitchCommand)) {
+            return false;
+        }
+
+        WorkspaceSwitchCommand otherWorkspaceSwitchCommand = (WorkspaceSwitchCommand) other;
+        return name.equals(otherWorkspaceSwitchCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
@@ -70,7 +70,7 @@ public class AddHomeworkCommand extends Command {
             resultMessage += "\n⚠️ " + MESSAGE_DUE_DATE_PASSED;
         }
 
-        target.addHomework(homework);
+        model.setPerson(target, target.withHomework(homework));
         model.refreshReminders();
 
         return new CommandResult(resultMessage);
@@ -78,9 +78,7 @@ public class DeleteHomeworkCommand extends Command {
         }
 
         Homework toDelete = homeworkList.get(zeroBased);
-        target.removeHomework(toDelete);
-
-        target.removeHomework(toDelete);
+        model.setPerson(target, target.withoutHomework(toDelete));
         model.refreshReminders();
 
         return new CommandResult(String.format(
@@ -78,7 +78,7 @@ public class MarkDoneHwCommand extends Command {
         Homework toMark = homeworkList.get(zeroBased);
 
         if (!toMark.isDone()) {
-            toMark.markDone();
+            model.setPerson(target, target.withHomeworkReplaced(toMark, toMark.withDone(true)));
             model.refreshReminders();
         }
 
@@ -79,7 +79,7 @@ public class MarkUndoneHwCommand extends Command {
         Homework toUnmark = homeworkList.get(zeroBased);
 
         if (toUnmark.isDone()) {
-            toUnmark.markUndone();
+            model.setPerson(target, target.withHomeworkReplaced(toUnmark, toUnmark.withDone(false)));
             model.refreshReminders();
         }
 
@@ -1,11 +1,10 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -17,16 +16,25 @@ import seedu.address.logic.commands.DeleteReminderCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditReminderCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.GroupAddCommand;
 import seedu.address.logic.commands.GroupCreateCommand;
 import seedu.address.logic.commands.GroupDeleteCommand;
 import seedu.address.logic.commands.GroupRemoveCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkPaidCommand;
 import seedu.address.logic.commands.MarkUnpaidCommand;
 import seedu.address.logic.commands.ParticipationCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkspaceAddCommand;
+import seedu.address.logic.commands.WorkspaceListCommand;
+import seedu.address.logic.commands.WorkspaceSwitchCommand;
 import seedu.address.logic.commands.homeworkcommands.AddHomeworkCommand;
 import seedu.address.logic.commands.homeworkcommands.DeleteHomeworkCommand;
 import seedu.address.logic.commands.homeworkcommands.MarkDoneHwCommand;
@@ -37,17 +45,66 @@ import seedu.address.logic.parser.homeworkparsers.DeleteHomeworkCommandParser;
 import seedu.address.logic.parser.homeworkparsers.MarkDoneHwParser;
 import seedu.address.logic.parser.homeworkparsers.MarkUndoneHwParser;
 
-
 /**
  * Parses user input.
  */
 public class AddressBookParser {
     /**
-     * Used for initial separation of command word and args.
+     * The built-in commands. Parsers are stateless, so one instance of each is shared by every parse.
+     * {@link RunScriptCommand} is added by each {@code AddressBookParser}, which parses the commands of its scripts.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public static final CommandRegistry DEFAULT_COMMANDS = CommandRegistry.builder()
+            .register(AddCommand.COMMAND_WORD, new AddCommandParser())
+            .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+            .registerExact(DeleteCommand.COMMAND_WORD, new DeleteCommandParser())
+            .registerExact(ClearCommand.COMMAND_WORD, args -> new ClearCommand())
+            .register(SearchCommand.COMMAND_WORD, new SearchCommandParser(), "find")
+            .register(ImportCommand.COMMAND_WORD, new ImportCommandParser())
+            .register(ExportCommand.COMMAND_WORD, new ExportCommandParser())
+            .register(ListCommand.COMMAND_WORD, args -> new ListCommand())
+            .register(ExitCommand.COMMAND_WORD, args -> new ExitCommand(), "quit")
+            .register(HelpCommand.COMMAND_WORD, args -> new HelpCommand())
+            .register(UndoCommand.COMMAND_WORD, args -> new UndoCommand())
+            .register(RedoCommand.COMMAND_WORD, args -> new RedoCommand())
+            .register(WorkspaceAddCommand.COMMAND_WORD, new WorkspaceAddCommandParser())
+            .register(WorkspaceSwitchCommand.COMMAND_WORD, new WorkspaceSwitchCommandParser())
+            .register(WorkspaceListCommand.COMMAND_WORD, args -> new WorkspaceListCommand())
+            .register(StatsCommand.COMMAND_WORD, new StatsCommandParser())
+            .register(ParticipationCommand.COMMAND_WORD, new ParticipationCommandParser())
+            .register(AddReminderCommand.COMMAND_WORD, new AddReminderCommandParser())
+            .register(EditReminderCommand.COMMAND_WORD, new EditReminderCommandParser())
+            .registerExact(DeleteReminderCommand.COMMAND_WORD, new DeleteReminderCommandParser())
+            .register(MarkPaidCommand.COMMAND_WORD, new MarkPaidCommandParser())
+            .register(MarkUnpaidCommand.COMMAND_WORD, new MarkUnpaidCommandParser())
+            .register(AddHomeworkCommand.COMMAND_WORD, new AddHomeworkCommandParser())
+            .register(MarkDoneHwCommand.COMMAND_WORD, new MarkDoneHwParser()::parse)
+            .register(MarkUndoneHwCommand.COMMAND_WORD, new MarkUndoneHwParser()::parse)
+            .registerExact(DeleteHomeworkCommand.COMMAND_WORD, new DeleteHomeworkCommandParser())
+            .register(GroupCreateCommand.COMMAND_WORD, new GroupCreateCommandParser())
+            .registerExact(GroupDeleteCommand.COMMAND_WORD, new GroupDeleteCommandParser())
+            .register(GroupAddCommand.COMMAND_WORD, new GroupAddCommandParser())
+            .registerExact(GroupRemoveCommand.COMMAND_WORD, new GroupRemoveCommandParser())
+            .build();
+
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandRegistry commands;
+
+    public AddressBookParser() {
+        this(DEFAULT_COMMANDS);
+    }
+
+    /**
+     * Creates a parser for the commands in {@code commands}, e.g. {@link #DEFAULT_COMMANDS} with more added
+     * through {@link CommandRegistry#toBuilder()}.
+     */
+    public AddressBookParser(CommandRegistry commands) {
+        requireNonNull(commands);
+        this.commands = commands.toBuilder()
+                .register(RunScriptCommand.COMMAND_WORD, new RunScriptCommandParser(this))
+                .build();
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -56,90 +113,47 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = findCommandWordEnd(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case SearchCommand.COMMAND_WORD:
-            return new SearchCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case ParticipationCommand.COMMAND_WORD:
-            return new ParticipationCommandParser().parse(arguments);
-
-        case AddReminderCommand.COMMAND_WORD:
-            return new AddReminderCommandParser().parse(arguments);
-
-        case EditReminderCommand.COMMAND_WORD:
-            return new EditReminderCommandParser().parse(arguments);
-
-        case DeleteReminderCommand.COMMAND_WORD:
-            return new DeleteReminderCommandParser().parse(arguments);
-
-        case MarkPaidCommand.COMMAND_WORD:
-            return new MarkPaidCommandParser().parse(arguments);
-
-        case MarkUnpaidCommand.COMMAND_WORD:
-            return new MarkUnpaidCommandParser().parse(arguments);
-
-        case AddHomeworkCommand.COMMAND_WORD:
-            return new AddHomeworkCommandParser().parse(arguments);
-
-        case MarkDoneHwCommand.COMMAND_WORD:
-            return new MarkDoneHwParser().parse(arguments);
-
-        case MarkUndoneHwCommand.COMMAND_WORD:
-            return new MarkUndoneHwParser().parse(arguments);
-
-        case DeleteHomeworkCommand.COMMAND_WORD:
-            return new DeleteHomeworkCommandParser().parse(arguments);
-
-        case GroupCreateCommand.COMMAND_WORD:
-            return new GroupCreateCommandParser().parse(arguments);
-
-        case GroupDeleteCommand.COMMAND_WORD:
-            return new GroupDeleteCommandParser().parse(arguments);
-
-        case GroupAddCommand.COMMAND_WORD:
-            return new GroupAddCommandParser().parse(arguments);
+        try {
+            return commands.getParser(commandWord).parse(arguments);
+        } catch (ParseException pe) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw pe;
+        }
+    }
 
-        case GroupRemoveCommand.COMMAND_WORD:
-            return new GroupRemoveCommandParser().parse(arguments);
+    /**
+     * Returns the full command word of the command that {@code userInput} runs, or an empty {@code Optional} if it
+     * runs no command.
+     */
+    public Optional<String> findCommandWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        return commands.findCommandWord(trimmedInput.substring(0, findCommandWordEnd(trimmedInput)));
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns the end of the command word in {@code trimmedInput}.
+     * The command word runs up to the first whitespace; the arguments are the rest, including that whitespace.
+     */
+    private static int findCommandWordEnd(String trimmedInput) {
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
         }
+        return commandWordEnd;
     }
 }
@@ -18,4 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_GROUP = new Prefix("g/");
     public static final Prefix PREFIX_ADD_LESSON_TIME = new Prefix("t+/");
     public static final Prefix PREFIX_DELETE_LESSON_TIME = new Prefix("t-/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
+    public static final Prefix PREFIX_COLUMN = new Prefix("c/");
+    public static final Prefix PREFIX_WORKSPACE = new Prefix("w/");
 }
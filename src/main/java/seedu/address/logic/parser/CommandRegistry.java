@@ -0,0 +1,186 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_INCOMPLETE_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * <p>
+ * A registry is built once by a {@link Builder} and cannot be changed afterwards. Its parsers are shared by every
+ * parse, so they must not keep state between calls. Command words and aliases are matched ignoring case, and a
+ * word that is neither matches the command whose word or alias it is the start of, if there is only one.
+ * Commands registered through {@link Builder#registerExact} are not matched by the start of their words, so that
+ * e.g. deleting data always takes the full command word or an alias chosen for it.
+ */
+public class CommandRegistry {
+
+    // Sorted, so that all the keys starting with a prefix are next to each other
+    private final NavigableMap<String, Registration> registrations;
+
+    private CommandRegistry(NavigableMap<String, Registration> registrations) {
+        this.registrations = Collections.unmodifiableNavigableMap(new TreeMap<>(registrations));
+    }
+
+    /**
+     * A command word with its parser.
+     */
+    private static class Registration {
+        private final String commandWord;
+        private final Parser<? extends Command> parser;
+        private final boolean isExactOnly;
+
+        private Registration(String commandWord, Parser<? extends Command> parser, boolean isExactOnly) {
+            this.commandWord = commandWord;
+            this.parser = parser;
+            this.isExactOnly = isExactOnly;
+        }
+    }
+
+    /**
+     * Returns a builder for a new registry.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder that starts with the commands of this registry, so that more can be added.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.registrations.putAll(registrations);
+        return builder;
+    }
+
+    /**
+     * Returns the parser of the command named by {@code word}.
+     *
+     * @throws ParseException if {@code word} names no command, is the start of more than one, or is only the start
+     *     of a command that must be entered in full.
+     */
+    public Parser<? extends Command> getParser(String word) throws ParseException {
+        return find(word).parser;
+    }
+
+    /**
+     * Returns the full command word of the command named by {@code word}, e.g. {@code search} for {@code find}
+     * or {@code sea}, or an empty {@code Optional} if {@code word} names no command or more than one.
+     */
+    public Optional<String> findCommandWord(String word) {
+        try {
+            return Optional.of(find(word).commandWord);
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+    }
+
+    private Registration find(String word) throws ParseException {
+        requireNonNull(word);
+        String key = toKey(word);
+        Registration exactMatch = registrations.get(key);
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+
+        Set<String> candidates = new TreeSet<>();
+        Registration prefixMatch = null;
+        for (Registration registration : registrations.subMap(key, true, key + Character.MAX_VALUE, true).values()) {
+            candidates.add(registration.commandWord);
+            prefixMatch = registration;
+        }
+        if (candidates.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (candidates.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, word, String.join(", ", candidates)));
+        }
+        if (prefixMatch.isExactOnly) {
+            throw new ParseException(String.format(MESSAGE_INCOMPLETE_COMMAND, word, prefixMatch.commandWord));
+        }
+        return prefixMatch;
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Collects the commands of a {@code CommandRegistry}.
+     */
+    public static class Builder {
+        private final NavigableMap<String, Registration> registrations = new TreeMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers {@code parser} for the command {@code commandWord}, which can also be entered as any of
+         * {@code aliases}.
+         *
+         * @throws IllegalArgumentException if a word is blank, contains whitespace, or is already registered.
+         */
+        public Builder register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+            return register(commandWord, parser, false, aliases);
+        }
+
+        /**
+         * Registers {@code parser} for the command {@code commandWord} like {@link #register}, but the command can
+         * only be entered as {@code commandWord} or one of {@code aliases} in full, not as the start of either.
+         * Meant for commands that delete data, so that a mistyped word does not run them.
+         *
+         * @throws IllegalArgumentException if a word is blank, contains whitespace, or is already registered.
+         */
+        public Builder registerExact(String commandWord, Parser<? extends Command> parser, String... aliases) {
+            return register(commandWord, parser, true, aliases);
+        }
+
+        private Builder register(String commandWord, Parser<? extends Command> parser, boolean isExactOnly,
+                String... aliases) {
+            requireNonNull(commandWord);
+            requireNonNull(parser);
+            Set<String> keys = new LinkedHashSet<>();
+            checkWord(commandWord, keys);
+            for (String alias : aliases) {
+                checkWord(alias, keys);
+            }
+
+            Registration registration = new Registration(commandWord, parser, isExactOnly);
+            for (String key : keys) {
+                registrations.put(key, registration);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the key of {@code word} to {@code keys}, checking that it is not already registered or in {@code keys}.
+         */
+        private void checkWord(String word, Set<String> keys) {
+            requireNonNull(word);
+            if (word.isEmpty() || word.chars().anyMatch(Character::isWhitespace)) {
+                throw new IllegalArgumentException("Command word cannot be blank or contain whitespace: " + word);
+            }
+            String key = toKey(word);
+            if (registrations.containsKey(key) || !keys.add(key)) {
+                throw new IllegalArgumentException("Command word is already registered: " + word);
+            }
+        }
+
+        public CommandRegistry build() {
+            return new CommandRegistry(registrations);
+        }
+    }
+}
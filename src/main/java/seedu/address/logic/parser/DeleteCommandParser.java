@@ -10,7 +10,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
@@ -19,9 +19,9 @@ import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
 /**
  * Parses input arguments and creates a new DeleteCommand object
  *
- * This parser expects an index to be provided as an argument in the form:
- * {@code delete i/INDEX}, where {@code INDEX} refers to the position of the student
- * in the displayed list that should be deleted.
+ * This parser expects indexes to be provided as an argument in the form:
+ * {@code delete i/INDEXES}, where {@code INDEXES} refers to the positions of the students
+ * in the displayed list that should be deleted, or a keyword in the form {@code delete k/KEYWORD}.
  */
 public class DeleteCommandParser implements Parser<DeleteCommand> {
     private static final Pattern VALID_KEYWORDS = Pattern.compile("[A-Za-z0-9 ':]+");
@@ -46,8 +46,8 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
         if (hasIndex) {
             argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_INDEX);
             try {
-                Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
-                return new DeleteCommand(index);
+                IndexSelection indexes = ParserUtil.parseIndexSelection(argMultimap.getValue(PREFIX_INDEX).get());
+                return new DeleteCommand(indexes);
             } catch (ParseException pe) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
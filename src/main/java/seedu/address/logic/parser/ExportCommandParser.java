@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Column;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE, PREFIX_COLUMN, PREFIX_GROUP);
+
+        if (argMultimap.getValue(PREFIX_FILE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE, PREFIX_GROUP);
+        Path filePath = ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_FILE).get());
+
+        List<Column> columns = new ArrayList<>();
+        for (String column : argMultimap.getAllValues(PREFIX_COLUMN)) {
+            try {
+                Column parsed = Column.of(column);
+                if (!columns.contains(parsed)) {
+                    columns.add(parsed);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(Column.MESSAGE_CONSTRAINTS);
+            }
+        }
+
+        Optional<GroupName> group = Optional.empty();
+        if (argMultimap.getValue(PREFIX_GROUP).isPresent()) {
+            try {
+                group = Optional.of(GroupName.of(argMultimap.getValue(PREFIX_GROUP).get()));
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(GroupName.MESSAGE_CONSTRAINTS);
+            }
+        }
+
+        return new ExportCommand(filePath, columns, group);
+    }
+}
@@ -7,7 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.GroupAddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -41,12 +41,12 @@ public class GroupAddCommandParser implements Parser<GroupAddCommand> {
                     Messages.MESSAGE_INVALID_COMMAND_FORMAT, GroupAddCommand.MESSAGE_USAGE));
         }
 
-        List<Index> indices = new ArrayList<>(rawIdx.size());
+        List<IndexSelection> indices = new ArrayList<>(rawIdx.size());
         for (String s : rawIdx) {
-            indices.add(ParserUtil.parseIndex(s));
+            indices.add(ParserUtil.parseIndexSelection(s));
         }
 
-        return new GroupAddCommand(groupName, indices);
+        return new GroupAddCommand(groupName, IndexSelection.of(indices));
     }
 
     private static boolean arePresent(ArgumentMultimap m, Prefix... ps) {
@@ -6,7 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.MarkUnpaidCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -30,10 +30,10 @@ public class MarkUnpaidCommandParser implements Parser<MarkUnpaidCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_INDEX, PREFIX_MONTH);
 
-        Index index = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
+        IndexSelection selection = ParserUtil.parseIndexSelection(argMultimap.getValue(PREFIX_INDEX).get());
         int month = ParserUtil.parseMonth(argMultimap.getValue(PREFIX_MONTH).get());
 
-        return new MarkUnpaidCommand(index, month);
+        return new MarkUnpaidCommand(selection, month);
     }
 
     private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
@@ -2,13 +2,19 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.LessonTime;
@@ -22,7 +28,14 @@ import seedu.address.model.reminder.DueDate;
  */
 public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range should be written as FIRST-LAST, where FIRST is not greater than LAST.";
     public static final String MESSAGE_INVALID_MONTH = "Month must be a valid number between 1 and 12";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not valid.";
+    public static final String MESSAGE_INVALID_WORKSPACE_NAME =
+            "Workspace name: 1-30 characters; letters, digits, spaces, '-' or '_', starting with a letter or digit.";
+
+    private static final int MAX_WORKSPACE_NAME_LENGTH = 30;
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
@@ -38,6 +51,50 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code selection} into an {@code IndexSelection} and returns it.
+     * A selection is either {@value IndexSelection#ALL_SHOWN}, or a comma-separated list of indexes and
+     * ranges of indexes such as {@code 1,4,9-20}. Leading and trailing whitespaces of each part will be trimmed.
+     *
+     * @throws ParseException if any index or range in the selection is invalid.
+     */
+    public static IndexSelection parseIndexSelection(String selection) throws ParseException {
+        requireNonNull(selection);
+        String trimmedSelection = selection.trim();
+        if (trimmedSelection.equalsIgnoreCase(IndexSelection.ALL_SHOWN)) {
+            return IndexSelection.allShown();
+        }
+
+        List<IndexSelection> parts = new ArrayList<>();
+        int start = 0;
+        while (start <= trimmedSelection.length()) {
+            int end = trimmedSelection.indexOf(IndexSelection.LIST_SEPARATOR, start);
+            if (end < 0) {
+                end = trimmedSelection.length();
+            }
+            parts.add(parseIndexRange(trimmedSelection.substring(start, end)));
+            start = end + 1;
+        }
+        return IndexSelection.of(parts);
+    }
+
+    /**
+     * Parses a single index, or a range of indexes written as {@code FIRST-LAST}.
+     */
+    private static IndexSelection parseIndexRange(String range) throws ParseException {
+        int separator = range.indexOf(IndexSelection.RANGE_SEPARATOR);
+        if (separator < 0) {
+            return IndexSelection.of(parseIndex(range));
+        }
+
+        Index first = parseIndex(range.substring(0, separator));
+        Index last = parseIndex(range.substring(separator + 1));
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexSelection.ofRange(first, last);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -77,7 +134,7 @@ public class ParserUtil {
      */
     public static String parseDescription(String description) throws ParseException {
         requireNonNull(description);
-        String trimmedDescription = description.trim().replaceAll("\\s+", " ");
+        String trimmedDescription = StringUtil.collapseWhitespace(description);
         if (trimmedDescription.isEmpty()) {
             throw new ParseException("Description cannot be empty.");
         }
@@ -107,13 +164,63 @@ public class ParserUtil {
      */
     public static LessonTime parseLessonTime(String lessonTime) throws ParseException {
         requireNonNull(lessonTime);
-        String trimmedLessonTime = lessonTime.replaceAll("\\s+", " ").trim().toLowerCase();
+        String trimmedLessonTime = StringUtil.collapseWhitespace(lessonTime);
         if (!LessonTime.isValidLessonTime(trimmedLessonTime)) {
             throw new ParseException(LessonTime.MESSAGE_CONSTRAINTS);
         }
         return new LessonTime(trimmedLessonTime);
     }
 
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
+    /**
+     * Parses a {@code String name} of a workspace.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code name} is invalid.
+     */
+    public static String parseWorkspaceName(String name) throws ParseException {
+        requireNonNull(name);
+        String trimmedName = name.trim();
+        if (!isValidWorkspaceName(trimmedName)) {
+            throw new ParseException(MESSAGE_INVALID_WORKSPACE_NAME);
+        }
+        return trimmedName;
+    }
+
+    /**
+     * Returns true if {@code name} is 1 to 30 letters, digits, spaces, '-' or '_', starting with a letter or digit.
+     */
+    private static boolean isValidWorkspaceName(String name) {
+        if (name.isEmpty() || name.length() > MAX_WORKSPACE_NAME_LENGTH || !isAsciiLetterOrDigit(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != ' ' && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
     /**
      * Parses a {@code String month} into an {@code integer}.
      * Leading and trailing whitespaces will be trimmed.
@@ -153,7 +260,7 @@ public class ParserUtil {
      */
     public static DueDate parseDueDate(String dueDate) throws ParseException {
         requireNonNull(dueDate);
-        String trimmedDueDate = dueDate.replaceAll("\\s+", " ").trim();
+        String trimmedDueDate = StringUtil.collapseWhitespace(dueDate);
         if (!DueDate.isValidDueDate(trimmedDueDate)) {
             throw new ParseException(DueDate.MESSAGE_CONSTRAINTS);
         }
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKSPACE;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.WorkspaceAddCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new WorkspaceAddCommand object
+ */
+public class WorkspaceAddCommandParser implements Parser<WorkspaceAddCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the WorkspaceAddCommand
+     * and returns a WorkspaceAddCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WorkspaceAddCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_WORKSPACE, PREFIX_FILE);
+
+        if (argMultimap.getValue(PREFIX_WORKSPACE).isEmpty() || argMultimap.getValue(PREFIX_FILE).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WorkspaceAddCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WORKSPACE, PREFIX_FILE);
+        String name = ParserUtil.parseWorkspaceName(argMultimap.getValue(PREFIX_WORKSPACE).get());
+        Path filePath = ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_FILE).get());
+        return new WorkspaceAddCommand(name, filePath);
+    }
+}
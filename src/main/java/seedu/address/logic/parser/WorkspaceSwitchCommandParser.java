@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKSPACE;
+
+import seedu.address.logic.commands.WorkspaceSwitchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new WorkspaceSwitchCommand object
+ */
+public class WorkspaceSwitchCommandParser implements Parser<WorkspaceSwitchCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the WorkspaceSwitchCommand
+     * and returns a WorkspaceSwitchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WorkspaceSwitchCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_WORKSPACE);
+
+        if (argMultimap.getValue(PREFIX_WORKSPACE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, WorkspaceSwitchCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WORKSPACE);
+        return new WorkspaceSwitchCommand(ParserUtil.parseWorkspaceName(argMultimap.getValue(PREFIX_WORKSPACE).get()));
+    }
+}
@@ -5,7 +5,9 @@ import static seedu.address.model.reminder.UniqueReminderList.createHomeworkRemi
 import static seedu.address.model.util.SampleDataUtil.getMonthName;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -20,7 +22,6 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.model.reminder.UniqueReminderList;
-import seedu.address.model.reminder.UnmodifiableHwReminder;
 import seedu.address.model.reminder.UnmodifiablePaymentReminder;
 
 /**
@@ -33,6 +34,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueReminderList reminders;
     private final MembershipIndex memberships;
 
+    // The date for which the reminders generated from students are up to date, or null if they are not kept up
+    // to date, e.g. before the first refresh. While set, each change to a student updates that student's reminders.
+    private LocalDate remindersDerivedOn;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -66,6 +71,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        remindersDerivedOn = null;
     }
 
     /**
@@ -74,6 +80,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setReminders(List<Reminder> reminders) {
         this.reminders.setReminders(reminders);
+        remindersDerivedOn = null;
     }
 
     /**
@@ -95,6 +102,27 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
 
+    /**
+     * Returns the current contents of this address book. This takes constant time, as the snapshot shares
+     * its structure with this address book instead of copying it.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), groups.snapshot(), memberships.snapshot(),
+                reminders.snapshot(), remindersDerivedOn);
+    }
+
+    /**
+     * Replaces the contents of this address book, including groups and their members, with {@code snapshot}.
+     */
+    public void restore(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        persons.restore(snapshot.getPersons());
+        groups.restore(snapshot.getGroupVector());
+        memberships.restore(snapshot.getMemberships());
+        reminders.restore(snapshot.getReminders());
+        remindersDerivedOn = snapshot.getRemindersDerivedOn();
+    }
+
     //// person-level operations
 
     /**
@@ -111,6 +139,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        updateDerivedReminders(List.of(), List.of(p));
+    }
+
+    /**
+     * Adds all of {@code persons} to the address book at once.
+     * None of them may already exist in the address book, and no two of them may be the same person.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        updateDerivedReminders(List.of(), persons);
     }
 
     /**
@@ -121,9 +159,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
-        // Memberships are keyed by Person identity (equals/hashCode).
-        // If your Person identity fields change, memberships still refer to the new instance in the list,
-        // because AB3's setPerson preserves identity semantics.
+        // Memberships are kept by name, so they only change when the person is renamed
+        if (!target.getName().equals(editedPerson.getName())) {
+            memberships.renameMember(target.getName(), editedPerson.getName());
+        }
+        updateDerivedReminders(List.of(target), List.of(editedPerson));
+    }
+
+    /**
+     * Replaces each of {@code targets} with the person at the same position in {@code editedPersons} as a single
+     * change. All of {@code targets} must exist in the address book, and each edited person must be the same
+     * person as its target.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setPersons(targets, editedPersons);
+        updateDerivedReminders(targets, editedPersons);
     }
 
     /**
@@ -134,6 +184,19 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
         // NEW: also remove from all groups to avoid orphans
         memberships.removeAllForPerson(key);
+        updateDerivedReminders(List.of(key), List.of());
+        key.releaseDetails();
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} and from all groups as a single change.
+     * All of them must exist in the address book.
+     */
+    public void removePersons(List<Person> keys) {
+        persons.removeAll(keys);
+        memberships.removeAllForPersons(keys);
+        updateDerivedReminders(keys, List.of());
+        keys.forEach(Person::releaseDetails);
     }
 
     //// group-level operations (NEW)
@@ -272,23 +335,78 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Refreshes the list of UnmodifiableReminders in the reminder list to reflect the lastest state
      * of student list. User generated reminders are left untouched in the reminder list.
+     * <p>
+     * Once refreshed, changes to students update their own reminders as they happen, so this only goes through
+     * every student again on the first refresh, or when the date has changed since.
      */
     public void refreshUnmodifiableReminders() {
-        reminders.removeIf(r -> !r.isModifiable());
+        LocalDate today = LocalDate.now();
+        if (today.equals(remindersDerivedOn)) {
+            return;
+        }
 
+        Set<Reminder> derived = new LinkedHashSet<>();
         for (Person p : getPersonList()) {
-            int currentMonth = LocalDate.now().getMonthValue();
-
-            if (!p.isPaidForMonth(currentMonth)) {
-                reminders.add(UnmodifiablePaymentReminder.of(currentMonth, p, getMonthName(currentMonth)));
+            derived.addAll(derivedRemindersOf(p));
+        }
+        // Reminders that are still due are kept as they are, so an unchanged list stays the same list
+        reminders.removeIf(r -> !r.isModifiable() && !derived.contains(r));
+        for (Reminder reminder : derived) {
+            if (!reminders.contains(reminder)) {
+                reminders.add(reminder);
             }
+        }
+        remindersDerivedOn = today;
+    }
+
+    /**
+     * Replaces the reminders generated from {@code removed} by those generated from {@code added}, if reminders
+     * are kept up to date. Reminders that both generate are left as they are.
+     */
+    private void updateDerivedReminders(List<Person> removed, List<Person> added) {
+        if (remindersDerivedOn == null) {
+            return;
+        }
+        if (!remindersDerivedOn.equals(LocalDate.now())) {
+            // Every student's reminders may have changed with the date, so the next refresh goes through all
+            remindersDerivedOn = null;
+            return;
+        }
 
-            for (UnmodifiableHwReminder hwReminder : createHomeworkReminder(p)) {
-                reminders.add(hwReminder);
+        Set<Reminder> stale = new LinkedHashSet<>();
+        for (Person p : removed) {
+            stale.addAll(derivedRemindersOf(p));
+        }
+        Set<Reminder> fresh = new LinkedHashSet<>();
+        for (Person p : added) {
+            fresh.addAll(derivedRemindersOf(p));
+        }
+        for (Reminder reminder : stale) {
+            if (!fresh.contains(reminder) && reminders.contains(reminder)) {
+                reminders.remove(reminder);
+            }
+        }
+        for (Reminder reminder : fresh) {
+            if (!reminders.contains(reminder)) {
+                reminders.add(reminder);
             }
         }
     }
 
+    /**
+     * Returns the reminders generated from {@code person}: for the current month if unpaid, and for undone
+     * homework that is due within a day.
+     */
+    private static List<Reminder> derivedRemindersOf(Person person) {
+        List<Reminder> derived = new ArrayList<>();
+        int currentMonth = LocalDate.now().getMonthValue();
+        if (!person.isPaidForMonth(currentMonth)) {
+            derived.add(UnmodifiablePaymentReminder.of(currentMonth, person, getMonthName(currentMonth)));
+        }
+        derived.addAll(createHomeworkReminder(person));
+        return derived;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.MembershipIndex;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.util.PersistentHashMap;
+import seedu.address.model.util.PersistentVector;
+
+/**
+ * The students, groups, memberships and reminders of an {@link AddressBook} at one point in time.
+ * <p>
+ * Taking a snapshot does not copy any data: it shares the persistent structures the address book keeps, and
+ * later changes to the address book leave the snapshot as it was. Students are immutable, so a changed student
+ * is a new {@link Person} in the address book and the snapshot keeps the one it had.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentVector<Person> persons;
+    private final PersistentVector<Group> groups;
+    private final PersistentHashMap<GroupName, PersistentHashMap<Name, Boolean>> memberships;
+    private final PersistentVector<Reminder> reminders;
+    private final LocalDate remindersDerivedOn;
+
+    AddressBookSnapshot(PersistentVector<Person> persons, PersistentVector<Group> groups,
+                        PersistentHashMap<GroupName, PersistentHashMap<Name, Boolean>> memberships,
+                        PersistentVector<Reminder> reminders, LocalDate remindersDerivedOn) {
+        this.persons = persons;
+        this.groups = groups;
+        this.memberships = memberships;
+        this.reminders = reminders;
+        this.remindersDerivedOn = remindersDerivedOn;
+    }
+
+    PersistentVector<Person> getPersons() {
+        return persons;
+    }
+
+    PersistentVector<Group> getGroupVector() {
+        return groups;
+    }
+
+    PersistentHashMap<GroupName, PersistentHashMap<Name, Boolean>> getMemberships() {
+        return memberships;
+    }
+
+    PersistentVector<Reminder> getReminders() {
+        return reminders;
+    }
+
+    /**
+     * Returns the date for which the reminders generated from students were up to date, or null if they were not
+     * kept up to date.
+     */
+    LocalDate getRemindersDerivedOn() {
+        return remindersDerivedOn;
+    }
+
+    /**
+     * Returns true if this and {@code other} have the same students, groups, memberships and reminders.
+     * Each of them is only ever replaced when it changes, so they are compared by reference in constant time.
+     */
+    public boolean isSameAs(AddressBookSnapshot other) {
+        return persons == other.persons
+                && groups == other.groups
+                && memberships == other.memberships
+                && reminders == other.reminders
+                && Objects.equals(remindersDerivedOn, other.remindersDerivedOn);
+    }
+
+    /**
+     * Returns true if this and {@code other} have the same groups and memberships, compared by reference.
+     */
+    public boolean hasSameGroupsAs(AddressBookSnapshot other) {
+        return groups == other.groups && memberships == other.memberships;
+    }
+
+    /**
+     * Returns true if this and {@code other} have the same reminders, compared by reference.
+     */
+    public boolean hasSameRemindersAs(AddressBookSnapshot other) {
+        return reminders == other.reminders;
+    }
+
+    /**
+     * Returns the names of the groups {@code person} belongs to.
+     */
+    public Set<GroupName> getGroupsOf(Person person) {
+        return MembershipIndex.groupsOf(memberships, person);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+    }
+
+    @Override
+    public ObservableList<Group> getGroups() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(groups.asList()));
+    }
+
+    @Override
+    public ObservableList<Reminder> getReminderList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(reminders.asList()));
+    }
+}
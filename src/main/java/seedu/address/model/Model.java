@@ -65,11 +65,23 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the data in {@code addressBook}, read from another data file,
+     * and forgets the changes that could be undone.
+     * Returns the replaced data, which is not affected by later changes.
+     */
+    ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook addressBook);
+
     /**
      * Returns the AddressBook
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the address book as it is now, unaffected by later changes. Taking it does not copy any data.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,11 +92,22 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all of the given persons as a single change. All of them must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person. {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of {@code persons} at once, as a single change to the person list.
+     * None of them may already exist in the address book, and no two of them may be the same person.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -92,6 +115,62 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each of {@code targets} with the person at the same position in {@code editedPersons}, as a single
+     * change to the person list. Each edited person must be the same person as its target, e.g. a copy of it with
+     * other payments.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Saves the current address book state for undo/redo.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if the model has a previous address book state to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has an undone address book state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book, and the attendance of its students, to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Starts a transaction. Until it ends, {@link #commitAddressBook()} does nothing and {@link #refreshReminders()}
+     * is deferred, so that every change in the transaction is undone as one and reminders are derived once.
+     * A transaction started inside another one ends with it: its changes are only kept when the outermost
+     * transaction commits, and rolling it back rolls back the outermost transaction too.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction, keeping its changes and refreshing reminders if any change needed it.
+     * The changes still have to be committed with {@link #commitAddressBook()}.
+     *
+     * @throws IllegalStateException if no transaction has started, or it has been rolled back.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the transaction, putting back the address book, attendance, user prefs and filters as they were when the
+     * outermost transaction started.
+     *
+     * @throws IllegalStateException if no transaction has started.
+     */
+    void rollbackTransaction();
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -2,8 +2,10 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.StringUtil.collapseWhitespace;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -25,11 +27,22 @@ import seedu.address.model.reminder.Reminder;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Reminder> filteredReminders;
-    private final AttendanceIndex attendanceIndex = new AttendanceIndex();
+    private final AttendanceIndex attendanceIndex;
+
+    // Number of transactions started and not yet ended; only the outermost one takes effect
+    private int transactionDepth;
+    // Data, user prefs and filters when the outermost transaction started
+    private AddressBookSnapshot addressBookBeforeTransaction;
+    private AttendanceIndex.Snapshot attendanceBeforeTransaction;
+    private UserPrefs userPrefsBeforeTransaction;
+    private Predicate<? super Person> personFilterBeforeTransaction;
+    private Predicate<? super Reminder> reminderFilterBeforeTransaction;
+    private boolean isReminderRefreshPending;
+    private boolean isTransactionRolledBack;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,11 +52,14 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook);
+        attendanceIndex = this.addressBook.getAttendanceIndex();
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredReminders = new FilteredList<>(this.addressBook.getReminderList());
         initializePaymentReset();
+        // The reset is part of the initial state, not a change that can be undone
+        this.addressBook.resetHistory();
     }
 
     public ModelManager() {
@@ -142,11 +158,34 @@ public class ModelManager implements Model {
         attendanceIndex.clear();
     }
 
+    @Override
+    public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        AddressBookSnapshot replaced = addressBook.snapshot();
+        if (newData instanceof AddressBookSnapshot) {
+            // Restoring a snapshot shares its data instead of copying it
+            addressBook.restore((AddressBookSnapshot) newData);
+        } else {
+            addressBook.resetData(newData);
+        }
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        initializePaymentReset();
+        attendanceIndex.clear();
+        refreshReminders();
+        addressBook.resetHistory();
+        return replaced;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -159,18 +198,137 @@ public class ModelManager implements Model {
         attendanceIndex.removeAllForName(target.getName().fullName);
     }
 
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireAllNonNull(targets);
+        addressBook.removePersons(targets);
+        for (Person target : targets) {
+            attendanceIndex.removeAllForName(target.getName().fullName);
+        }
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        addressBook.setPersons(targets, editedPersons);
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        if (isInTransaction()) {
+            return;
+        }
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
+    }
+
+    //=========== Transactions =============================================================================
+
+    private boolean isInTransaction() {
+        return transactionDepth > 0;
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (transactionDepth++ > 0) {
+            return;
+        }
+        addressBookBeforeTransaction = addressBook.snapshot();
+        attendanceBeforeTransaction = attendanceIndex.snapshot();
+        userPrefsBeforeTransaction = new UserPrefs(userPrefs);
+        personFilterBeforeTransaction = filteredPersons.getPredicate();
+        reminderFilterBeforeTransaction = filteredReminders.getPredicate();
+        isTransactionRolledBack = false;
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("No transaction has started");
+        }
+        if (isTransactionRolledBack) {
+            throw new IllegalStateException("The transaction has been rolled back");
+        }
+        if (--transactionDepth > 0) {
+            return;
+        }
+        endTransaction();
+        if (isReminderRefreshPending) {
+            isReminderRefreshPending = false;
+            refreshReminders();
+        }
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("No transaction has started");
+        }
+        // A nested transaction cannot be undone on its own, so the outermost one is undone with it
+        addressBook.rollbackTo(addressBookBeforeTransaction);
+        attendanceIndex.restore(attendanceBeforeTransaction);
+        userPrefs.resetData(userPrefsBeforeTransaction);
+        filteredPersons.setPredicate(personFilterBeforeTransaction);
+        filteredReminders.setPredicate(reminderFilterBeforeTransaction);
+        isReminderRefreshPending = false;
+        isTransactionRolledBack = true;
+        if (--transactionDepth == 0) {
+            endTransaction();
+        }
+    }
+
+    private void endTransaction() {
+        addressBookBeforeTransaction = null;
+        attendanceBeforeTransaction = null;
+        userPrefsBeforeTransaction = null;
+        personFilterBeforeTransaction = null;
+        reminderFilterBeforeTransaction = null;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -213,9 +371,9 @@ public class ModelManager implements Model {
 
     @Override
     public boolean hasPersonName(String name) {
-        String norm = name.trim().replaceAll("\\s+", " ").toLowerCase();
-        return filteredPersons.stream()
-                .anyMatch(p -> p.getName().fullName.trim().replaceAll("\\s+", " ").toLowerCase().equals(norm));
+        // Stored names already have their whitespace collapsed, so only the given name needs it
+        String collapsedName = collapseWhitespace(name);
+        return filteredPersons.stream().anyMatch(p -> p.getName().fullName.equalsIgnoreCase(collapsedName));
     }
 
     // ========== Reminder List ====================================================================
@@ -260,6 +418,10 @@ public class ModelManager implements Model {
 
     @Override
     public void refreshReminders() {
+        if (isInTransaction()) {
+            isReminderRefreshPending = true;
+            return;
+        }
         addressBook.refreshUnmodifiableReminders();
         updateFilteredReminderList(PREDICATE_SHOW_ALL_REMINDERS);
     }
@@ -268,8 +430,17 @@ public class ModelManager implements Model {
      * Initializes payment reset for all students if it's a new year
      */
     private void initializePaymentReset() {
-        for (Person person : filteredPersons) {
-            person.resetPaymentsIfNewYear();
+        List<Person> targets = new ArrayList<>();
+        List<Person> resetPersons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            Person resetPerson = person.withPaymentsResetIfNewYear();
+            if (resetPerson != person) {
+                targets.add(person);
+                resetPersons.add(resetPerson);
+            }
+        }
+        if (!targets.isEmpty()) {
+            addressBook.setPersons(targets, resetPersons);
         }
     }
 }
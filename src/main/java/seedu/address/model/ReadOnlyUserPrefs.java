@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +15,30 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book should be saved as compressed JSON.
+     */
+    boolean isDataCompressed();
+
+    /**
+     * Returns the data files of the registered workspaces, by workspace name.
+     */
+    Map<String, Path> getWorkspaces();
+
+    /**
+     * Returns the number of students that workspaces not in use may keep in memory altogether.
+     */
+    int getIdleWorkspaceStudentLimit();
+
+    /**
+     * Returns the name of the workspace whose data file is {@code filePath}, if any.
+     */
+    default Optional<String> findWorkspace(Path filePath) {
+        Path target = filePath.toAbsolutePath().normalize();
+        return getWorkspaces().entrySet().stream()
+                .filter(workspace -> workspace.getValue().toAbsolutePath().normalize().equals(target))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
 }
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +16,13 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_IDLE_WORKSPACE_STUDENT_LIMIT = 10000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "classconnect.json");
+    private boolean isDataCompressed = false;
+    private Map<String, Path> workspaces = new LinkedHashMap<>();
+    private int idleWorkspaceStudentLimit = DEFAULT_IDLE_WORKSPACE_STUDENT_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDataCompressed(newUserPrefs.isDataCompressed());
+        setWorkspaces(newUserPrefs.getWorkspaces());
+        setIdleWorkspaceStudentLimit(newUserPrefs.getIdleWorkspaceStudentLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +67,40 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isDataCompressed() {
+        return isDataCompressed;
+    }
+
+    public void setDataCompressed(boolean isDataCompressed) {
+        this.isDataCompressed = isDataCompressed;
+    }
+
+    public Map<String, Path> getWorkspaces() {
+        return Collections.unmodifiableMap(workspaces);
+    }
+
+    public void setWorkspaces(Map<String, Path> workspaces) {
+        requireNonNull(workspaces);
+        this.workspaces = new LinkedHashMap<>(workspaces);
+    }
+
+    /**
+     * Registers the data file at {@code filePath} as the workspace called {@code name}.
+     */
+    public void addWorkspace(String name, Path filePath) {
+        requireNonNull(name);
+        requireNonNull(filePath);
+        workspaces.put(name, filePath);
+    }
+
+    public int getIdleWorkspaceStudentLimit() {
+        return idleWorkspaceStudentLimit;
+    }
+
+    public void setIdleWorkspaceStudentLimit(int idleWorkspaceStudentLimit) {
+        this.idleWorkspaceStudentLimit = idleWorkspaceStudentLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +114,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && isDataCompressed == otherUserPrefs.isDataCompressed
+                && workspaces.equals(otherUserPrefs.workspaces)
+                && idleWorkspaceStudentLimit == otherUserPrefs.idleWorkspaceStudentLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isDataCompressed, workspaces, idleWorkspaceStudentLimit);
     }
 
     @Override
@@ -82,6 +130,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompress data file : " + isDataCompressed);
+        sb.append("\nWorkspaces : " + workspaces);
+        sb.append("\nStudents kept in idle workspaces : " + idleWorkspaceStudentLimit);
         return sb.toString();
     }
 
@@ -0,0 +1,155 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.attendance.AttendanceIndex;
+
+/**
+ * An {@code AddressBook} that remembers its states after each committed change, so that changes can be undone
+ * and redone.
+ * <p>
+ * A state is an {@link AddressBookSnapshot}, which shares structure with the address book instead of copying
+ * it, so each state costs memory proportional to what changed. Students are immutable, so a state keeps the
+ * students it had even after they are replaced by changed copies.
+ * <p>
+ * The attendance taken of the students is kept in an {@link AttendanceIndex} next to the address book, and each
+ * state holds a snapshot of it too, so undoing e.g. a deletion brings back the deleted students' attendance.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final int DEFAULT_HISTORY_LIMIT = 50;
+    public static final String MESSAGE_CONSTRAINTS = "History limit must be positive";
+
+    private final int historyLimit;
+    private final AttendanceIndex attendanceIndex = new AttendanceIndex();
+    private final List<State> addressBookStateList = new ArrayList<>();
+    private int currentStatePointer;
+
+    /**
+     * A committed state: the address book with the attendance of its students.
+     */
+    private static class State {
+        private final AddressBookSnapshot addressBook;
+        private final AttendanceIndex.Snapshot attendance;
+
+        private State(AddressBookSnapshot addressBook, AttendanceIndex.Snapshot attendance) {
+            this.addressBook = addressBook;
+            this.attendance = attendance;
+        }
+    }
+
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a versioned address book with the data in {@code initialState}, which keeps at most
+     * {@code historyLimit} states that can be undone.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
+        super(initialState);
+        checkArgument(historyLimit > 0, MESSAGE_CONSTRAINTS);
+        this.historyLimit = historyLimit;
+        addressBookStateList.add(currentStateNow());
+    }
+
+    /**
+     * Returns the attendance of the students in this address book, which is undone and redone with it.
+     */
+    public AttendanceIndex getAttendanceIndex() {
+        return attendanceIndex;
+    }
+
+    /**
+     * Saves the current state in the history, discarding states that were undone.
+     * Does nothing if nothing changed since the current state.
+     */
+    public void commit() {
+        State state = currentStateNow();
+        if (state.addressBook.isSameAs(currentState().addressBook)
+                && state.attendance.isSameAs(currentState().attendance)) {
+            return;
+        }
+
+        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        addressBookStateList.add(state);
+        if (addressBookStateList.size() > historyLimit + 1) {
+            addressBookStateList.remove(0);
+        }
+        currentStatePointer = addressBookStateList.size() - 1;
+    }
+
+    /**
+     * Returns true if there is a committed change to undo.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if there is an undone change to redo.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < addressBookStateList.size() - 1;
+    }
+
+    /**
+     * Restores the state before the latest committed change that has not been undone.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No change to undo");
+        }
+        currentStatePointer--;
+        restoreState(currentState());
+    }
+
+    /**
+     * Restores the state after the latest undone change.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No change to redo");
+        }
+        currentStatePointer++;
+        restoreState(currentState());
+    }
+
+    /**
+     * Discards the changes made since {@code state} was taken, without changing the history.
+     * Does nothing if nothing changed since then.
+     */
+    public void rollbackTo(AddressBookSnapshot state) {
+        requireNonNull(state);
+        if (snapshot().isSameAs(state)) {
+            return;
+        }
+        restore(state);
+    }
+
+    /**
+     * Forgets all changes that can be undone or redone, so that the current state becomes the first one.
+     */
+    public void resetHistory() {
+        addressBookStateList.clear();
+        addressBookStateList.add(currentStateNow());
+        currentStatePointer = 0;
+    }
+
+    private State currentState() {
+        return addressBookStateList.get(currentStatePointer);
+    }
+
+    private State currentStateNow() {
+        return new State(snapshot(), attendanceIndex.snapshot());
+    }
+
+    private void restoreState(State state) {
+        restore(state.addressBook);
+        attendanceIndex.restore(state.attendance);
+    }
+}
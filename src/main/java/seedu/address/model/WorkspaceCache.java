@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the address books of workspaces not in use in memory, so that switching back to them does not read
+ * their data files again.
+ * <p>
+ * The number of students kept altogether is limited. When adding an address book exceeds the limit, the least
+ * recently used address books are dropped; their data files must already be saved.
+ */
+public class WorkspaceCache {
+
+    public static final String MESSAGE_CONSTRAINTS = "Student limit must not be negative";
+
+    private final int studentLimit;
+    private final Map<Path, ReadOnlyAddressBook> addressBooks = new LinkedHashMap<>(16, 0.75f, true);
+    private int studentCount;
+
+    /**
+     * Creates a WorkspaceCache that keeps at most {@code studentLimit} students altogether.
+     */
+    public WorkspaceCache(int studentLimit) {
+        checkArgument(studentLimit >= 0, MESSAGE_CONSTRAINTS);
+        this.studentLimit = studentLimit;
+    }
+
+    /**
+     * Keeps {@code addressBook}, saved at {@code filePath}, in place of any address book kept for the same file.
+     * An address book with more students than the limit is not kept.
+     */
+    public void put(Path filePath, ReadOnlyAddressBook addressBook) {
+        requireNonNull(filePath);
+        requireNonNull(addressBook);
+        remove(filePath);
+        int size = addressBook.getPersonList().size();
+        if (size > studentLimit) {
+            return;
+        }
+
+        addressBooks.put(keyOf(filePath), addressBook);
+        studentCount += size;
+        Iterator<ReadOnlyAddressBook> leastRecentlyUsed = addressBooks.values().iterator();
+        while (studentCount > studentLimit) {
+            studentCount -= leastRecentlyUsed.next().getPersonList().size();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Removes and returns the address book kept for the data file at {@code filePath}, if any.
+     */
+    public Optional<ReadOnlyAddressBook> remove(Path filePath) {
+        requireNonNull(filePath);
+        ReadOnlyAddressBook removed = addressBooks.remove(keyOf(filePath));
+        if (removed != null) {
+            studentCount -= removed.getPersonList().size();
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    /**
+     * Returns true if an address book is kept for the data file at {@code filePath}.
+     */
+    public boolean contains(Path filePath) {
+        requireNonNull(filePath);
+        return addressBooks.containsKey(keyOf(filePath));
+    }
+
+    /**
+     * Returns the number of students in the address books kept.
+     */
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    private static Path keyOf(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
+    }
+}
@@ -1,29 +1,65 @@
 package seedu.address.model.attendance;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
+import seedu.address.model.util.PersistentHashMap;
+
 /**
  * In-memory attendance tracker.
  * Maps normalized student name → (date → present?).
+ * <p>
+ * The records are held in a {@link PersistentHashMap} of unmodifiable maps, so a {@link Snapshot} of the index
+ * takes constant time and can be restored to roll back changes made since.
  */
 public final class AttendanceIndex {
-    private final Map<String, Map<LocalDate, Boolean>> data = new HashMap<>();
+    private PersistentHashMap<String, Map<LocalDate, Boolean>> data = PersistentHashMap.empty();
     private LocalDate currentUiDate = LocalDate.now();
 
+    /**
+     * The attendance records and UI date of an {@code AttendanceIndex} at one point in time.
+     */
+    public static final class Snapshot {
+        private final PersistentHashMap<String, Map<LocalDate, Boolean>> data;
+        private final LocalDate currentUiDate;
+
+        private Snapshot(PersistentHashMap<String, Map<LocalDate, Boolean>> data, LocalDate currentUiDate) {
+            this.data = data;
+            this.currentUiDate = currentUiDate;
+        }
+
+        /**
+         * Returns true if {@code other} has the same records and UI date as this snapshot. Records are only ever
+         * replaced when they change, so they are compared by reference in constant time.
+         */
+        public boolean isSameAs(Snapshot other) {
+            return data == other.data && currentUiDate.equals(other.currentUiDate);
+        }
+    }
+
     private static String normalize(String name) {
         return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
 
     public Optional<Boolean> get(String name, LocalDate date) {
-        return Optional.ofNullable(data.getOrDefault(normalize(name), Map.of()).get(date));
+        Map<LocalDate, Boolean> dates = data.get(normalize(name));
+        return dates == null ? Optional.empty() : Optional.ofNullable(dates.get(date));
     }
 
+    /**
+     * Records whether the student named {@code name} was present on {@code date}.
+     */
     public void put(String name, LocalDate date, boolean present) {
-        data.computeIfAbsent(normalize(name), n -> new HashMap<>()).put(date, present);
+        String key = normalize(name);
+        Map<LocalDate, Boolean> dates = data.get(key);
+        Map<LocalDate, Boolean> updated = dates == null ? new HashMap<>() : new HashMap<>(dates);
+        updated.put(date, present);
+        data = data.put(key, Map.copyOf(updated));
     }
 
     public boolean isTaken(String name, LocalDate date) {
@@ -42,7 +78,7 @@ public final class AttendanceIndex {
      * Removes all attendance records and resets the UI date to today.
      */
     public void clear() {
-        data.clear();
+        data = PersistentHashMap.empty();
         currentUiDate = LocalDate.now();
     }
 
@@ -53,7 +89,23 @@ public final class AttendanceIndex {
      * @param name the student's name (raw; will be normalized)
      */
     public void removeAllForName(String name) {
-        data.remove(normalize(name));
+        data = data.remove(normalize(name));
+    }
+
+    /**
+     * Returns the current records and UI date, which later changes to this index do not affect.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(data, currentUiDate);
+    }
+
+    /**
+     * Replaces the records and UI date of this index with those in {@code snapshot}.
+     */
+    public void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        data = snapshot.data;
+        currentUiDate = snapshot.currentUiDate;
     }
 
 }
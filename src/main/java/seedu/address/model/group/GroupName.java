@@ -1,6 +1,7 @@
 package seedu.address.model.group;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.collapseWhitespace;
 
 import java.util.Locale;
 import java.util.Objects;
@@ -14,8 +15,7 @@ public final class GroupName {
     public static final String MESSAGE_CONSTRAINTS =
             "Group name: 1–30 characters; letters/digits/spaces and '-' or '/'; not only spaces.";
 
-    // Accepts letters/digits/spaces and - or /
-    private static final String BASIC_REGEX = "[A-Za-z0-9\\-\\/ ]+";
+    private static final int MAX_LENGTH = 30;
 
     private final String canonical; // trimmed + collapsed spaces (keeps original case)
     private final String key; // lowercase key for identity (case-insensitive)
@@ -28,13 +28,34 @@ public final class GroupName {
     /** Factory with validation + normalization. */
     public static GroupName of(String name) {
         requireNonNull(name);
-        String trimmed = name.trim().replaceAll("\\s+", " ");
-        if (trimmed.isEmpty() || trimmed.length() > 30 || !trimmed.matches(BASIC_REGEX)) {
+        String trimmed = collapseWhitespace(name);
+        if (trimmed.isEmpty() || trimmed.length() > MAX_LENGTH || !hasOnlyValidCharacters(trimmed)) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         return new GroupName(trimmed, trimmed.toLowerCase(Locale.ROOT));
     }
 
+    /** Accepts letters/digits/spaces and - or / */
+    private static boolean hasOnlyValidCharacters(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean isLetterOrDigit = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+            if (!isLetterOrDigit && c != ' ' && c != '-' && c != '/') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a {@code GroupName} for a name already in canonical form, skipping validation.
+     * {@code canonical} must have come from {@link #toString()} of a valid group name.
+     */
+    public static GroupName fromValidated(String canonical) {
+        requireNonNull(canonical);
+        return new GroupName(canonical, canonical.toLowerCase(Locale.ROOT));
+    }
+
     /** Canonical display form (trimmed, collapsed spaces, original letter case preserved). */
     @Override
     public String toString() {
@@ -2,103 +2,149 @@ package seedu.address.model.group;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.PersistentHashMap;
 
 /**
  * Stores membership relations: which persons belong to a given group.
- * Backed by Map(GroupName -> Set(Person)).
+ * Backed by Map(GroupName -> Set(Name)).
+ * <p>
+ * Members are kept by name, which identifies a person, rather than by {@code Person}. Editing a person replaces
+ * it with a changed copy, so the index neither has to be updated for each edit nor keeps replaced copies alive.
+ * <p>
+ * The groups and the members of each group are held in {@link PersistentHashMap}s, so a change copies only
+ * the entries it touches, and {@link #snapshot()} can return the current memberships without copying them.
  */
 public final class MembershipIndex {
 
-    private final Map<GroupName, Set<Person>> map = new HashMap<>();
+    private PersistentHashMap<GroupName, PersistentHashMap<Name, Boolean>> map = PersistentHashMap.empty();
 
     /** Ensure the group key exists. Idempotent. */
     public void ensureGroup(GroupName group) {
         requireNonNull(group);
-        map.computeIfAbsent(group, k -> new HashSet<>());
+        if (!map.containsKey(group)) {
+            map = map.put(group, PersistentHashMap.empty());
+        }
     }
 
     /** Remove a group and all its memberships. Idempotent if group not present. */
     public void removeGroup(GroupName group) {
         requireNonNull(group);
-        map.remove(group);
+        map = map.remove(group);
     }
 
     /** Add members to a group (duplicates ignored). */
     public void addMembers(GroupName group, Iterable<Person> persons) {
         requireNonNull(group);
-        ensureGroup(group);
-        Set<Person> set = map.get(group);
+        PersistentHashMap<Name, Boolean> members = map.get(group);
+        if (members == null) {
+            members = PersistentHashMap.empty();
+        }
         for (Person p : persons) {
             if (p != null) {
-                set.add(p);
+                members = members.put(p.getName(), Boolean.TRUE);
             }
         }
+        map = map.put(group, members);
     }
 
     /** Remove members from a group (non-members ignored). */
     public void removeMembers(GroupName group, Iterable<Person> persons) {
         requireNonNull(group);
-        Set<Person> set = map.get(group);
-        if (set == null) {
+        PersistentHashMap<Name, Boolean> members = map.get(group);
+        if (members == null) {
             return;
         }
         for (Person p : persons) {
             if (p != null) {
-                set.remove(p);
+                members = members.remove(p.getName());
             }
         }
+        map = map.put(group, members);
     }
 
     /** Returns true if the person is a member of the group. */
     public boolean contains(GroupName group, Person person) {
         requireNonNull(group);
         requireNonNull(person);
-        Set<Person> set = map.get(group);
-        return set != null && set.contains(person);
+        PersistentHashMap<Name, Boolean> members = map.get(group);
+        return members != null && members.containsKey(person.getName());
     }
 
-    /** Unmodifiable view of members in a group (empty if missing). */
-    public Set<Person> getMembers(GroupName group) {
+    /** Unmodifiable view of the names of the members in a group (empty if missing). */
+    public Set<Name> getMemberNames(GroupName group) {
         requireNonNull(group);
-        Set<Person> set = map.get(group);
-        return set == null ? Collections.emptySet() : Collections.unmodifiableSet(set);
+        PersistentHashMap<Name, Boolean> members = map.get(group);
+        return members == null ? Collections.emptySet() : members.asMap().keySet();
+    }
+
+    /** Moves the memberships of the person named {@code oldName} to {@code newName}, e.g. after a rename. */
+    public void renameMember(Name oldName, Name newName) {
+        requireNonNull(oldName);
+        requireNonNull(newName);
+        for (Map.Entry<GroupName, PersistentHashMap<Name, Boolean>> e : map.asMap().entrySet()) {
+            if (e.getValue().containsKey(oldName)) {
+                map = map.put(e.getKey(), e.getValue().remove(oldName).put(newName, Boolean.TRUE));
+            }
+        }
     }
 
     /** Remove this person from ALL groups. */
     public void removeAllForPerson(Person person) {
         requireNonNull(person);
-        for (Set<Person> set : map.values()) {
-            set.remove(person);
+        removeAllForPersons(Collections.singleton(person));
+    }
+
+    /** Remove all of these persons from ALL groups. */
+    public void removeAllForPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        for (Map.Entry<GroupName, PersistentHashMap<Name, Boolean>> e : map.asMap().entrySet()) {
+            PersistentHashMap<Name, Boolean> members = e.getValue();
+            for (Person person : persons) {
+                members = members.remove(person.getName());
+            }
+            map = map.put(e.getKey(), members);
         }
     }
 
     /** Remove all memberships (keeps no groups). */
     public void clear() {
-        map.clear();
+        map = PersistentHashMap.empty();
     }
 
-    /** Returns a shallow copy of the mapping for read-only purposes (e.g., debugging). */
-    public Map<GroupName, Set<Person>> snapshot() {
-        Map<GroupName, Set<Person>> copy = new HashMap<>();
-        for (var e : map.entrySet()) {
-            copy.put(e.getKey(), Collections.unmodifiableSet(new HashSet<>(e.getValue())));
-        }
-        return Collections.unmodifiableMap(copy);
+    /** Returns the current mapping; it is not affected by later changes to this index. */
+    public PersistentHashMap<GroupName, PersistentHashMap<Name, Boolean>> snapshot() {
+        return map;
+    }
+
+    /** Replaces all memberships with {@code snapshot}, previously returned by {@link #snapshot()}. */
+    public void restore(PersistentHashMap<GroupName, PersistentHashMap<Name, Boolean>> snapshot) {
+        requireNonNull(snapshot);
+        map = snapshot;
     }
 
     /** Returns all groups that contain the given person. */
     public Set<GroupName> groupsOf(Person person) {
+        return groupsOf(map, person);
+    }
+
+    /**
+     * Returns all groups in {@code memberships}, previously returned by {@link #snapshot()}, that contain
+     * {@code person}.
+     */
+    public static Set<GroupName> groupsOf(PersistentHashMap<GroupName, PersistentHashMap<Name, Boolean>> memberships,
+                                         Person person) {
         requireNonNull(person);
         Set<GroupName> out = new HashSet<>();
-        for (Map.Entry<GroupName, Set<Person>> e : map.entrySet()) {
-            if (e.getValue().contains(person)) {
+        for (Map.Entry<GroupName, PersistentHashMap<Name, Boolean>> e : memberships.asMap().entrySet()) {
+            if (e.getValue().containsKey(person.getName())) {
                 out.add(e.getKey());
             }
         }
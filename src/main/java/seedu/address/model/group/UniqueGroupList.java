@@ -6,8 +6,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.util.ObservableVector;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * A list of {@link Group} that enforces uniqueness by {@link GroupName} (case-insensitive).
@@ -16,13 +17,13 @@ import javafx.collections.ObservableList;
  * <ul>
  *   <li>All modifying operations validate inputs and preserve the uniqueness invariant.</li>
  *   <li>Provides an unmodifiable {@link ObservableList} view for UI binding.</li>
+ *   <li>Holds the groups in a {@link PersistentVector} that the observable view only shows, so
+ *   {@link #snapshot()} does not copy them.</li>
  * </ul>
  */
 public final class UniqueGroupList implements Iterable<Group> {
 
-    private final ObservableList<Group> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Group> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableVector<Group> internalList = new ObservableVector<>();
 
     /**
      * Returns {@code true} if a group with the given {@code name} exists in the list.
@@ -56,7 +57,8 @@ public final class UniqueGroupList implements Iterable<Group> {
         if (contains(toAdd.getName())) {
             throw new IllegalArgumentException("Duplicate group: " + toAdd);
         }
-        internalList.add(toAdd);
+        PersistentVector<Group> groups = internalList.getVector();
+        internalList.setVector(groups.append(toAdd), groups.size(), 0);
     }
 
     /**
@@ -67,10 +69,13 @@ public final class UniqueGroupList implements Iterable<Group> {
      */
     public void remove(GroupName name) {
         requireNonNull(name);
-        boolean removed = internalList.removeIf(g -> g.getName().equals(name));
-        if (!removed) {
-            throw new IllegalArgumentException("Group not found: " + name);
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i).getName().equals(name)) {
+                internalList.setVector(internalList.getVector().remove(i), i, 1);
+                return;
+            }
         }
+        throw new IllegalArgumentException("Group not found: " + name);
     }
 
     /**
@@ -83,18 +88,35 @@ public final class UniqueGroupList implements Iterable<Group> {
      */
     public void setGroups(List<Group> groups) {
         requireNonNull(groups);
-        internalList.setAll(groups);
-        long distinct = internalList.stream().map(g -> g.getName().key()).distinct().count();
-        if (distinct != internalList.size()) {
+        long distinct = groups.stream().map(g -> g.getName().key()).distinct().count();
+        if (distinct != groups.size()) {
             throw new IllegalArgumentException("Groups contain duplicates");
         }
+        internalList.setVector(PersistentVector.of(groups));
+    }
+
+    /**
+     * Returns the current groups. Later changes to this list do not affect the returned vector.
+     */
+    public PersistentVector<Group> snapshot() {
+        return internalList.getVector();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, previously returned by {@link #snapshot()}.
+     *
+     * @param snapshot groups to restore (non-null)
+     */
+    public void restore(PersistentVector<Group> snapshot) {
+        requireNonNull(snapshot);
+        internalList.setVector(snapshot);
     }
 
     /**
      * Returns an unmodifiable observable view of the groups for UI binding.
      */
     public ObservableList<Group> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList;
     }
 
     /**
@@ -103,7 +125,7 @@ public final class UniqueGroupList implements Iterable<Group> {
      */
     @Override
     public Iterator<Group> iterator() {
-        return internalUnmodifiableList.iterator();
+        return internalList.iterator();
     }
 
     /**
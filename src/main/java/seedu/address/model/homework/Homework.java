@@ -8,11 +8,12 @@ import java.util.Objects;
 /**
  * Represents a piece of homework assigned to a student.
  * Contains a description,deadline, and completion status.
+ * Guarantees: immutable.
  */
 public class Homework {
     private final String description;
     private final LocalDate deadline;
-    private boolean isDone;
+    private final boolean isDone;
 
     /**
      * Constructs a {@code Homework} object with the specified description and deadline.
@@ -22,11 +23,18 @@ public class Homework {
      * @param deadline The date by which the homework is due.
      */
     public Homework(String description, LocalDate deadline) {
+        this(description, deadline, false);
+    }
+
+    /**
+     * Constructs a {@code Homework} object with the specified description, deadline and completion status.
+     */
+    public Homework(String description, LocalDate deadline, boolean isDone) {
         requireNonNull(description);
         requireNonNull(deadline);
         this.description = description;
         this.deadline = deadline;
-        this.isDone = false;
+        this.isDone = isDone;
     }
 
     public String getDescription() {
@@ -41,12 +49,11 @@ public class Homework {
         return isDone;
     }
 
-    public void markDone() {
-        isDone = true;
-    }
-
-    public void markUndone() {
-        isDone = false;
+    /**
+     * Returns this homework with its completion status set to {@code isDone}.
+     */
+    public Homework withDone(boolean isDone) {
+        return isDone == this.isDone ? this : new Homework(description, deadline, isDone);
     }
 
     //to prevent adding duplicate homework
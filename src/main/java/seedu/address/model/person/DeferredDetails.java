@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.homework.Homework;
+
+/**
+ * Holds the homework and participation of a {@link Person} that are read from storage on first access, and
+ * that a {@link DetailResidency} may release again. Copies of the person that keep its details share this.
+ * <p>
+ * Thread-safe: loading and releasing are synchronized, and the residency is told of accesses outside the lock.
+ */
+class DeferredDetails {
+
+    private final DetailLoader loader;
+    private final DetailResidency residency;
+
+    // Null until loaded, and again once released
+    private volatile PersonDetails details;
+
+    // Released details stay reachable for as long as something else, e.g. a displayed card, still holds them.
+    // They are reused when the details are next loaded instead of being read from storage again.
+    // Guarded by this.
+    private WeakReference<PersonDetails> released = new WeakReference<>(null);
+
+    /**
+     * @param loader reads a person's homework and participation from storage.
+     * @param residency bounds how many persons hold their details at once, or null for no bound.
+     */
+    DeferredDetails(DetailLoader loader, DetailResidency residency) {
+        requireNonNull(loader);
+        this.loader = loader;
+        this.residency = residency;
+    }
+
+    boolean isLoaded() {
+        return details != null;
+    }
+
+    /**
+     * Returns the details, loading them first if needed, and records the access with the residency.
+     */
+    PersonDetails get() {
+        PersonDetails loaded = details;
+        if (loaded == null) {
+            loaded = load();
+        }
+
+        if (residency != null) {
+            residency.accessed(this);
+        }
+        return loaded;
+    }
+
+    private synchronized PersonDetails load() {
+        PersonDetails loaded = details;
+        if (loaded == null) {
+            PersonDetails reused = released.get();
+            loaded = reused == null ? requireNonNull(loader.get()) : reused;
+            details = loaded;
+            released = new WeakReference<>(null);
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the undone homework due from {@code from} to {@code to} inclusive. Unless the details are in
+     * memory, they are only read if the loader cannot find the homework without them.
+     */
+    List<Homework> getUndoneHomeworkDue(LocalDate from, LocalDate to) {
+        PersonDetails current = inMemory();
+        if (current == null) {
+            Optional<List<Homework>> found = loader.findUndoneHomeworkDue(from, to);
+            if (found.isPresent()) {
+                return found.get();
+            }
+            current = get();
+        }
+        return current.getUndoneHomeworkDue(from, to);
+    }
+
+    /**
+     * Drops the details from memory and stops the residency from counting them, e.g. once the person is
+     * deleted. They are read from storage again if accessed later, e.g. after an undo.
+     */
+    void discard() {
+        if (residency != null) {
+            residency.remove(this);
+        }
+        release();
+    }
+
+    /**
+     * Drops the details from memory, to be read from storage again on next access.
+     */
+    synchronized void release() {
+        if (details != null) {
+            released = new WeakReference<>(details);
+            details = null;
+        }
+    }
+
+    /**
+     * Returns the details if they are loaded, or were released but are still reachable, or null otherwise.
+     */
+    private synchronized PersonDetails inMemory() {
+        return details != null ? details : released.get();
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import seedu.address.model.homework.Homework;
+
+/**
+ * Reads the homework and participation of a {@link Person} from storage.
+ */
+@FunctionalInterface
+public interface DetailLoader extends Supplier<PersonDetails> {
+
+    /**
+     * Returns the undone homework due from {@code from} to {@code to} inclusive, if storage can find it without
+     * reading all of the details, or an empty {@code Optional} if the details must be read to find it.
+     */
+    default Optional<List<Homework>> findUndoneHomeworkDue(LocalDate from, LocalDate to) {
+        return Optional.empty();
+    }
+}
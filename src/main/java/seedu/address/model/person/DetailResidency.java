@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounds how many persons loaded lazily from storage hold their homework and participation in memory at once.
+ * <p>
+ * When more than {@code capacity} persons hold their details, the least recently used persons release theirs,
+ * to be read from storage again on next access. Persons are immutable, so details read from storage can always
+ * be read again; copies of a person that keep its details share them, and count once.
+ * <p>
+ * Details are accessed from whichever thread reads the person, e.g. the UI, a background load or the API
+ * server, so the residency is thread-safe. Released details are released outside its lock.
+ */
+public class DetailResidency {
+    public static final String MESSAGE_CONSTRAINTS = "Capacity must be positive.";
+
+    private final int capacity;
+    // Access-ordered, so iteration starts from the least recently used details
+    private final Map<DeferredDetails, Boolean> residents = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a residency that lets at most {@code capacity} persons hold their details.
+     */
+    public DetailResidency(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of persons currently holding their details under this residency.
+     */
+    public synchronized int size() {
+        return residents.size();
+    }
+
+    /**
+     * Records that {@code details} were just accessed, releasing others' details if over capacity.
+     */
+    void accessed(DeferredDetails details) {
+        List<DeferredDetails> evicted = new ArrayList<>();
+        synchronized (this) {
+            residents.put(details, Boolean.TRUE);
+
+            Iterator<DeferredDetails> leastRecentlyUsed = residents.keySet().iterator();
+            while (residents.size() > capacity && leastRecentlyUsed.hasNext()) {
+                DeferredDetails resident = leastRecentlyUsed.next();
+                if (resident != details) {
+                    evicted.add(resident);
+                    leastRecentlyUsed.remove();
+                }
+            }
+        }
+        evicted.forEach(DeferredDetails::release);
+    }
+
+    /**
+     * Stops counting {@code details}, e.g. because their person was deleted.
+     */
+    synchronized void remove(DeferredDetails details) {
+        residents.remove(details);
+    }
+}
@@ -2,11 +2,12 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.collapseWhitespace;
+import static seedu.address.commons.util.StringUtil.parseDigits;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.format.TextStyle;
 import java.util.Locale;
 import java.util.Objects;
@@ -19,11 +20,10 @@ public class LessonTime {
     public static final String MESSAGE_CONSTRAINTS =
             "Lesson time should be in 24-hour format (0000 to 2359) followed by a 3-letter day abbreviation";
 
-    /**
-     * Day of the week is case-insensitive, but must be a valid 3-letter abbreviation.
-     */
-    public static final String VALIDATION_REGEX =
-            "(?i)(?:[01][0-9]|2[0-3])[0-5][0-9] (mon|tue|wed|thu|fri|sat|sun)$";
+    // "HHmm ddd", where the day of the week is a case-insensitive 3-letter abbreviation
+    private static final int LENGTH = 8;
+    private static final int DAY_START = 5;
+    private static final String[] DAY_ABBREVIATIONS = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
 
     public static final DateTimeFormatter VALID_INPUT_TIME_FORMAT =
             DateTimeFormatter.ofPattern("HHmm", Locale.ENGLISH);
@@ -45,27 +45,65 @@ public class LessonTime {
      */
     public LessonTime(String lessonTime) {
         requireNonNull(lessonTime);
-        String collapsedLessonTime = lessonTime.replaceAll("\\s+", " ").trim().toLowerCase();
+        String collapsedLessonTime = collapseWhitespace(lessonTime);
         checkArgument(isValidLessonTime(collapsedLessonTime), MESSAGE_CONSTRAINTS);
-        String[] parts = collapsedLessonTime.split(" ");
-        this.time = LocalTime.parse(parts[0], VALID_INPUT_TIME_FORMAT);
-        this.day = parseDayOfWeek(parts[1]);
+        this.time = LocalTime.of(parseDigits(collapsedLessonTime, 0, 2), parseDigits(collapsedLessonTime, 2, 4));
+        this.day = findDayOfWeek(collapsedLessonTime);
+    }
+
+    /**
+     * Constructs a {@code LessonTime} directly from its parsed components.
+     */
+    public LessonTime(LocalTime time, DayOfWeek day) {
+        requireNonNull(time);
+        requireNonNull(day);
+        this.time = time;
+        this.day = day;
     }
 
     /**
      * Returns true if a given string is a valid lesson time.
      */
     public static boolean isValidLessonTime(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (test.length() != LENGTH || test.charAt(DAY_START - 1) != ' ') {
             return false;
         }
+        int hour = parseDigits(test, 0, 2);
+        int minute = parseDigits(test, 2, 4);
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && findDayOfWeek(test) != null;
+    }
 
-        try {
-            LocalTime.parse(test.split(" ")[0], VALID_INPUT_TIME_FORMAT);
-            return true;
-        } catch (DateTimeParseException e) {
+    /**
+     * Returns the day of the week abbreviated at the end of {@code lessonTime}, ignoring case,
+     * or null if it is not a valid abbreviation.
+     */
+    private static DayOfWeek findDayOfWeek(String lessonTime) {
+        for (int i = 0; i < DAY_ABBREVIATIONS.length; i++) {
+            if (equalsIgnoreAsciiCase(lessonTime, DAY_START, DAY_ABBREVIATIONS[i])) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code text} from {@code start} to its end is {@code lowerCaseWord}, ignoring the case of
+     * ASCII letters only.
+     */
+    private static boolean equalsIgnoreAsciiCase(String text, int start, String lowerCaseWord) {
+        if (text.length() - start != lowerCaseWord.length()) {
             return false;
         }
+        for (int i = 0; i < lowerCaseWord.length(); i++) {
+            char c = text.charAt(start + i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c - 'A' + 'a');
+            }
+            if (c != lowerCaseWord.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
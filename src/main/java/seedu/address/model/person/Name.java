@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.collapseWhitespace;
 import static seedu.address.commons.util.StringUtil.toTitleCase;
 
 /**
@@ -13,10 +14,8 @@ public class Name {
             "Names should only contain letters, spaces, comma, round brackets, hyphens, apostrophes, slash, at sign,"
                 + " full stop.\nIt must contain at least one letter, with a maximum length of 50 characters";
 
-    /**
-     * Names are stored and displayed in all lowercase.
-     */
-    public static final String VALIDATION_REGEX = "(?=.*[A-Za-z])[A-Za-z\\s'@/(),.-]{1,50}";
+    private static final int MAX_LENGTH = 50;
+    private static final String VALID_SYMBOLS = " \t\n\u000B\f\r'@/(),.-";
 
     public final String fullName;
 
@@ -27,17 +26,55 @@ public class Name {
      */
     public Name(String name) {
         requireNonNull(name);
-        String collapsedName = name.replaceAll("\\s+", " ").trim().toLowerCase();
-        checkArgument(isValidName(collapsedName), MESSAGE_CONSTRAINTS);
+        String collapsedName = collapseWhitespace(name).toLowerCase();
+        checkArgument(isValidCollapsedName(collapsedName), MESSAGE_CONSTRAINTS);
         fullName = toTitleCase(collapsedName);
     }
 
+    /**
+     * Constructs a {@code Name} from a name that is already in canonical (title-cased) form.
+     */
+    private Name(String fullName, boolean isCanonical) {
+        assert isCanonical;
+        this.fullName = fullName;
+    }
+
+    /**
+     * Returns a {@code Name} wrapping {@code fullName} without re-running validation.
+     * {@code fullName} must have been produced by {@link #Name(String)}, e.g. when read back from a
+     * checksummed snapshot.
+     */
+    public static Name fromValidated(String fullName) {
+        requireNonNull(fullName);
+        return new Name(fullName, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        String collapsedName = test.replaceAll("\\s+", " ").trim().toLowerCase();
-        return collapsedName.matches(VALIDATION_REGEX);
+        return isValidCollapsedName(collapseWhitespace(test).toLowerCase());
+    }
+
+    /**
+     * Returns true if {@code collapsedName}, with its whitespace already collapsed, is 1 to 50 letters, whitespace
+     * and allowed symbols, including at least one letter.
+     */
+    private static boolean isValidCollapsedName(String collapsedName) {
+        if (collapsedName.isEmpty() || collapsedName.length() > MAX_LENGTH) {
+            return false;
+        }
+
+        boolean hasLetter = false;
+        for (int i = 0; i < collapsedName.length(); i++) {
+            char c = collapsedName.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                hasLetter = true;
+            } else if (VALID_SYMBOLS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return hasLetter;
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.NavigableMap;
@@ -15,6 +16,7 @@ import java.util.TreeMap;
  * - Adding a record with a date that already exists replaces the score for that date.
  * - The structure always keeps at most 5 unique dates: the five most recent by date.
  * - Iteration/order APIs return oldest -> newest (so UI rightmost = newest).
+ * - Histories are immutable; adding a record returns a new history.
  */
 public class ParticipationHistory {
     private static final int MAX = 5;
@@ -32,18 +34,34 @@ public class ParticipationHistory {
     public ParticipationHistory(List<ParticipationRecord> records) {
         if (records != null) {
             for (ParticipationRecord r : records) {
-                add(r);
+                put(r);
             }
         }
     }
 
     /**
-     * Add or replace a record.
-     * - If {@code record} is null, it is ignored.
+     * Returns this history with {@code record} added or replaced.
+     * - If {@code record} is null, this history is returned.
      * - If the date already exists, its score is replaced by the new one.
      * - If size exceeds 5 after insertion/replacement, the oldest date is dropped.
      */
-    public void add(ParticipationRecord record) {
+    public ParticipationHistory with(ParticipationRecord record) {
+        if (record == null) {
+            return this;
+        }
+        ParticipationHistory copy = new ParticipationHistory(asList());
+        copy.put(record);
+        return copy;
+    }
+
+    public ParticipationHistory with(LocalDate date, int score) {
+        return with(new ParticipationRecord(date, score));
+    }
+
+    /**
+     * Adds or replaces {@code record} while this history is being created.
+     */
+    private void put(ParticipationRecord record) {
         if (record == null) {
             return;
         }
@@ -57,15 +75,16 @@ public class ParticipationHistory {
         }
     }
 
-    public void add(LocalDate date, int score) {
-        add(new ParticipationRecord(date, score));
-    }
-
     /** Returns an immutable list (oldest -> newest) of up to 5 records. */
     public List<ParticipationRecord> asList() {
         return Collections.unmodifiableList(new ArrayList<>(byDate.values()));
     }
 
+    /** Returns an unmodifiable view (oldest -> newest) of the records, without copying them. */
+    public Collection<ParticipationRecord> records() {
+        return Collections.unmodifiableCollection(byDate.values());
+    }
+
     /**
      * Returns a list padded to 5 entries, with nulls for the missing oldest entries.
      * Oldest entries come first, newest last, so UI can render left->right.
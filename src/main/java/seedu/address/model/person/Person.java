@@ -1,7 +1,10 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
@@ -9,21 +12,16 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.geometry.Pos;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Text;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.homework.Homework;
+import seedu.address.model.util.ModificationClock;
 
 
 /**
  * Represents a Student in the student list.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Changing a student creates a changed copy of it, e.g. with {@link #withPaymentStatus(int, boolean)}.
  */
 public class Person {
 
@@ -37,35 +35,78 @@ public class Person {
     private final Phone phone;
 
     // Data fields
-    private BitSet paymentStatus;
-    private final ObservableList<Homework> homeworkList = FXCollections.observableArrayList();
+    private final BitSet paymentStatus;
 
     private final Set<LessonTime> lessonTime = new HashSet<>();
 
-    // Participation (mutable history of last 5 records)
-    private final ParticipationHistory participation = new ParticipationHistory();
+    // Homework and participation, or null if they are read from storage on first access through deferredDetails
+    private final PersonDetails details;
+    private final DeferredDetails deferredDetails;
+
+    // Every change creates a new person, so the stamp of its creation is that of its latest change
+    private final long modificationStamp = ModificationClock.next();
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Set<LessonTime> lessonTime) {
-        requireAllNonNull(name, phone, lessonTime);
-        this.name = name;
-        this.phone = phone;
-        this.lessonTime.addAll(lessonTime);
-        this.paymentStatus = new BitSet(12);
+        this(name, phone, lessonTime, new BitSet(12));
     }
 
     /**
      * Every field must be present and not null.
-     * Second constructor used by storage layer to reconstruct a person with existing payment data
+     * Second constructor used by storage layer to reconstruct a person with existing payment data.
+     * {@code paymentStatus} is copied, so changing it afterwards does not change this person.
      */
     public Person(Name name, Phone phone, Set<LessonTime> lessonTime, BitSet paymentStatus) {
+        this(name, phone, lessonTime, paymentStatus, PersonDetails.EMPTY);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Used by storage layer to reconstruct a person with existing payment data, homework and participation.
+     */
+    public Person(Name name, Phone phone, Set<LessonTime> lessonTime, BitSet paymentStatus,
+                  PersonDetails details) {
+        this(name, phone, lessonTime, copyOf(paymentStatus), requireNonNull(details), null);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Used by storage layer to reconstruct a person whose homework and participation are only read from
+     * storage, by {@code detailLoader}, when first accessed.
+     */
+    public Person(Name name, Phone phone, Set<LessonTime> lessonTime, BitSet paymentStatus,
+                  DetailLoader detailLoader) {
+        this(name, phone, lessonTime, copyOf(paymentStatus), null, new DeferredDetails(detailLoader, null));
+    }
+
+    /**
+     * Similar to {@link #Person(Name, Phone, Set, BitSet, DetailLoader)}, but the details are held in memory under
+     * {@code residency}, which may release them when unused; {@code detailLoader} then runs again on next access.
+     */
+    public Person(Name name, Phone phone, Set<LessonTime> lessonTime, BitSet paymentStatus,
+                  DetailLoader detailLoader, DetailResidency residency) {
+        this(name, phone, lessonTime, copyOf(paymentStatus), null, new DeferredDetails(detailLoader, residency));
+    }
+
+    /**
+     * {@code paymentStatus} is held as is, so it must not be changed afterwards; copies of this person share it.
+     */
+    private Person(Name name, Phone phone, Set<LessonTime> lessonTime, BitSet paymentStatus,
+                   PersonDetails details, DeferredDetails deferredDetails) {
         requireAllNonNull(name, phone, lessonTime, paymentStatus);
         this.name = name;
         this.phone = phone;
         this.lessonTime.addAll(lessonTime);
         this.paymentStatus = paymentStatus;
+        this.details = details;
+        this.deferredDetails = deferredDetails;
+    }
+
+    private static BitSet copyOf(BitSet paymentStatus) {
+        requireNonNull(paymentStatus);
+        return (BitSet) paymentStatus.clone();
     }
 
     public Name getName() {
@@ -85,23 +126,115 @@ public class Person {
     }
 
     public ObservableList<Homework> getHomeworkList() {
-        return FXCollections.unmodifiableObservableList(homeworkList);
+        return getDetails().getHomeworkList();
+    }
+
+    public ParticipationHistory getParticipation() {
+        return getDetails().getParticipation();
+    }
+
+    /**
+     * Returns the undone homework due from {@code from} to {@code to} inclusive. Deferred details are not
+     * loaded if storage can find the homework without them.
+     */
+    public List<Homework> getUndoneHomeworkDue(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return details != null
+                ? details.getUndoneHomeworkDue(from, to)
+                : deferredDetails.getUndoneHomeworkDue(from, to);
+    }
+
+    /**
+     * Drops deferred details from memory and from their {@link DetailResidency}, e.g. once this person is
+     * deleted. They are read from storage again if accessed later. Does nothing if the details were never deferred.
+     */
+    public void releaseDetails() {
+        if (deferredDetails != null) {
+            deferredDetails.discard();
+        }
+    }
+
+    /**
+     * Returns the homework and participation of this person, loading deferred details first if needed.
+     */
+    private PersonDetails getDetails() {
+        return details != null ? details : deferredDetails.get();
+    }
+
+    /**
+     * Returns a copy of this person with the given name, phone and lesson times, and the same payments,
+     * homework and participation. Details not yet read from storage are shared with the copy, not read.
+     */
+    public Person withFields(Name name, Phone phone, Set<LessonTime> lessonTime) {
+        return new Person(name, phone, lessonTime, paymentStatus, details, deferredDetails);
     }
 
-    public void addHomework(Homework hw) {
+    /**
+     * Returns a copy of this person with {@code hw} added to its homework list.
+     */
+    public Person withHomework(Homework hw) {
+        requireNonNull(hw);
+        List<Homework> homeworkList = new ArrayList<>(getHomeworkList());
         homeworkList.add(hw);
+        return withHomeworkList(homeworkList);
     }
 
-    public void removeHomework(Homework hw) {
+    /**
+     * Returns a copy of this person with {@code hw} removed from its homework list.
+     */
+    public Person withoutHomework(Homework hw) {
+        requireNonNull(hw);
+        List<Homework> homeworkList = new ArrayList<>(getHomeworkList());
         homeworkList.remove(hw);
+        return withHomeworkList(homeworkList);
     }
 
-    public void setHomeworkList(List<Homework> list) {
-        homeworkList.setAll(list);
+    /**
+     * Returns a copy of this person with the homework equal to {@code target} replaced by {@code replacement},
+     * e.g. {@code target} marked as done.
+     */
+    public Person withHomeworkReplaced(Homework target, Homework replacement) {
+        requireAllNonNull(target, replacement);
+        List<Homework> homeworkList = new ArrayList<>(getHomeworkList());
+        int index = homeworkList.indexOf(target);
+        if (index == -1) {
+            throw new IllegalArgumentException("Homework not found: " + target);
+        }
+        homeworkList.set(index, replacement);
+        return withHomeworkList(homeworkList);
     }
 
-    public ParticipationHistory getParticipation() {
-        return participation;
+    /**
+     * Returns a copy of this person with {@code list} as its homework list.
+     */
+    public Person withHomeworkList(List<Homework> list) {
+        return new Person(name, phone, lessonTime, paymentStatus,
+                new PersonDetails(list, getParticipation()), null);
+    }
+
+    /**
+     * Returns a copy of this person with {@code record} added to its participation.
+     */
+    public Person withParticipation(ParticipationRecord record) {
+        requireNonNull(record);
+        return new Person(name, phone, lessonTime, paymentStatus,
+                new PersonDetails(getHomeworkList(), getParticipation().with(record)), null);
+    }
+
+    /**
+     * Returns the {@link ModificationClock} stamp of the latest change to this person. The stamp only grows,
+     * so a person whose stamp equals one remembered earlier has not changed since. Does not load deferred details.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    /**
+     * Returns true if homework and participation are in memory, i.e. they were never deferred,
+     * or have been read from storage since and not released.
+     */
+    public boolean isDetailLoaded() {
+        return details != null || deferredDetails.isLoaded();
     }
 
     /**
@@ -164,21 +297,23 @@ public class Person {
     }
 
     /**
-     * Replaces the current {@code paymentStatus} with the given {@code status}.
+     * Returns a copy of this person with {@code status} as its payment status.
      */
-    public void setAllPaymentStatus(BitSet status) {
-        this.paymentStatus = status;
+    public Person withAllPaymentStatus(BitSet status) {
+        requireNonNull(status);
+        return new Person(name, phone, lessonTime, (BitSet) status.clone(), details, deferredDetails);
     }
 
     /**
-     * Updates the payment status for a specific month.
-     * Modifies the current person object instead of creating a new one.
+     * Returns a copy of this person with the payment status for a specific month updated.
      */
-    public void setPaymentStatus(int month, boolean isPaid) {
+    public Person withPaymentStatus(int month, boolean isPaid) {
         if (month < 1 || month > 12) {
             throw new IllegalArgumentException("Month must be between 1 and 12");
         }
-        paymentStatus.set(month - 1, isPaid);
+        BitSet status = getPaymentStatusBitSet();
+        status.set(month - 1, isPaid);
+        return new Person(name, phone, lessonTime, status, details, deferredDetails);
     }
 
     /**
@@ -201,55 +336,18 @@ public class Person {
         return sb.toString();
     }
 
-    /**
-     * Creates a JavaFX VBox containing visual representation of payment status using Rectangles.
-     * Displays month labels on top row and colored rectangles on bottom row (green for paid, red for unpaid).
-     *
-     * @return VBox containing payment status visualization
-     */
-    public HBox getPaymentStatusRectangles() {
-        HBox container = new HBox(4);
-
-        for (int i = 0; i < 12; i++) {
-            VBox monthColumn = new VBox(3);
-            monthColumn.setAlignment(Pos.CENTER);
-
-            Text monthLabel = new Text(MONTH_NAMES[i]);
-            monthLabel.setStyle("-fx-font-family: \"Segoe UI\"; -fx-font-size: 16px; -fx-fill: white;");
-
-            Rectangle rect = new Rectangle(24, 24);
-            if (paymentStatus.get(i)) {
-                rect.setFill(Color.GREEN);
-            } else {
-                rect.setFill(Color.RED);
-            }
-            rect.setStroke(Color.BLACK);
-            rect.setStrokeWidth(1);
-
-            monthColumn.getChildren().addAll(monthLabel, rect);
-            container.getChildren().add(monthColumn);
-        }
-
-        return container;
-    }
-
     public BitSet getPaymentStatusBitSet() {
         return (BitSet) paymentStatus.clone();
     }
 
-    private void copyParticipationHistory(Person source, Person target) {
-        for (ParticipationRecord record : source.participation.asList()) {
-            target.participation.add(record);
-        }
-    }
-
     /**
-     * Resets all payments if it's a new year
+     * Returns a copy of this person with all payments reset if it's a new year, or this person otherwise.
      */
-    public void resetPaymentsIfNewYear() {
-        java.time.LocalDate now = java.time.LocalDate.now();
-        if (now.getMonthValue() == 1 && now.getDayOfMonth() == 1) {
-            this.paymentStatus = new BitSet(12);
+    public Person withPaymentsResetIfNewYear() {
+        LocalDate now = LocalDate.now();
+        if (now.getMonthValue() == 1 && now.getDayOfMonth() == 1 && !paymentStatus.isEmpty()) {
+            return new Person(name, phone, lessonTime, new BitSet(12), details, deferredDetails);
         }
+        return this;
     }
 }
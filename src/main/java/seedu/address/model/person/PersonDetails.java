@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.homework.Homework;
+
+/**
+ * The homework and participation of a {@link Person}, which storage may read separately from the rest of the
+ * person; see {@link Person#Person(Name, Phone, java.util.Set, java.util.BitSet, DetailLoader)}.
+ * Guarantees: immutable.
+ */
+public final class PersonDetails {
+
+    static final PersonDetails EMPTY = new PersonDetails(List.of(), new ParticipationHistory());
+
+    private final ObservableList<Homework> homeworkList;
+    private final ParticipationHistory participation;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonDetails(List<Homework> homeworkList, ParticipationHistory participation) {
+        requireAllNonNull(homeworkList, participation);
+        this.homeworkList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(homeworkList));
+        this.participation = participation;
+    }
+
+    public ObservableList<Homework> getHomeworkList() {
+        return homeworkList;
+    }
+
+    public ParticipationHistory getParticipation() {
+        return participation;
+    }
+
+    /**
+     * Returns the undone homework due from {@code from} to {@code to} inclusive.
+     */
+    List<Homework> getUndoneHomeworkDue(LocalDate from, LocalDate to) {
+        return homeworkList.stream()
+                .filter(homework -> !homework.isDone()
+                        && !homework.getDeadline().isBefore(from) && !homework.getDeadline().isAfter(to))
+                .toList();
+    }
+}
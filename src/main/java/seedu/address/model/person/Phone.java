@@ -11,7 +11,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be 8 digits long starting with 8 or 9";
 
-    public static final String VALIDATION_REGEX = "[89]\\d{7}";
+    private static final int LENGTH = 8;
 
     public final String value;
 
@@ -27,10 +27,36 @@ public class Phone {
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Constructs a {@code Phone} from a number that is known to be valid.
+     */
+    private Phone(String phone, boolean isValidated) {
+        assert isValidated;
+        value = phone;
+    }
+
+    /**
+     * Returns a {@code Phone} wrapping {@code phone} without re-running validation.
+     * {@code phone} must have been produced by {@link #Phone(String)}, e.g. when read back from a
+     * checksummed snapshot.
+     */
+    public static Phone fromValidated(String phone) {
+        requireNonNull(phone);
+        return new Phone(phone, true);
+    }
+
+    /**
+     * Returns true if a given string is a valid phone number, i.e. 8 digits starting with 8 or 9.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH || (test.charAt(0) != '8' && test.charAt(0) != '9')) {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            if (test.charAt(i) < '0' || test.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -1,15 +1,23 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.ObservableVector;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,15 +26,17 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The persons are held in a {@link PersistentVector}, which the
+ * observable list only shows, so that {@link #snapshot()} can hand out the current contents without copying them.
+ * Each operation replaces the vector once, so listeners see it as a single change.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    public static final String MESSAGE_MISMATCHED_EDITS = "Each edited person must be the same person as its target";
+
+    private final ObservableVector<Person> internalList = new ObservableVector<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -45,7 +55,32 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        PersistentVector<Person> persons = internalList.getVector();
+        internalList.setVector(persons.append(toAdd), persons.size(), 0);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list as a single change.
+     * None of them may already exist in the list, and no two of them may be the same person.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        for (Person person : internalList) {
+            names.add(person.getName());
+        }
+        for (Person person : toAdd) {
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        PersistentVector<Person> persons = internalList.getVector();
+        PersistentVector<Person> added = persons;
+        for (Person person : toAdd) {
+            added = added.append(person);
+        }
+        internalList.setVector(added, persons.size(), 0);
     }
 
     /**
@@ -65,7 +100,36 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        internalList.setVector(internalList.getVector().set(index, editedPerson), index, 1);
+    }
+
+    /**
+     * Replaces each of {@code targets} with the person at the same position in {@code editedPersons}, as a single
+     * change. All of {@code targets} must exist in the list, and each edited person must be the same person as
+     * its target.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), MESSAGE_MISMATCHED_EDITS);
+        Map<Person, Person> edits = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            checkArgument(targets.get(i).isSamePerson(editedPersons.get(i)), MESSAGE_MISMATCHED_EDITS);
+            edits.put(targets.get(i), editedPersons.get(i));
+        }
+
+        PersistentVector<Person> edited = internalList.getVector();
+        int found = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            Person editedPerson = edits.get(internalList.get(i));
+            if (editedPerson != null) {
+                edited = edited.set(i, editedPerson);
+                found++;
+            }
+        }
+        if (found != edits.size()) {
+            throw new PersonNotFoundException();
+        }
+        internalList.setVector(edited);
     }
 
     /**
@@ -74,14 +138,41 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.setVector(internalList.getVector().remove(index), index, 1);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list as a single change.
+     * All of them must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = new HashSet<>(toRemove);
+        List<Integer> indices = new ArrayList<>(removed.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            if (removed.contains(internalList.get(i))) {
+                indices.add(i);
+            }
+        }
+        if (indices.size() != removed.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        // Removing from the back keeps the remaining indices valid
+        PersistentVector<Person> remaining = internalList.getVector();
+        for (int i = indices.size() - 1; i >= 0; i--) {
+            remaining = remaining.remove(indices.get(i));
+        }
+        internalList.setVector(remaining);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setVector(replacement.internalList.getVector());
     }
 
     /**
@@ -94,14 +185,29 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        internalList.setVector(PersistentVector.of(persons));
+    }
+
+    /**
+     * Returns the current contents of this list. Later changes to this list do not affect the returned vector.
+     */
+    public PersistentVector<Person> snapshot() {
+        return internalList.getVector();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, previously returned by {@link #snapshot()}.
+     */
+    public void restore(PersistentVector<Person> snapshot) {
+        requireNonNull(snapshot);
+        internalList.setVector(snapshot);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList;
     }
 
     @Override
@@ -138,11 +244,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Person#isSamePerson compares names only, so hashing names finds the same duplicates in one pass.
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
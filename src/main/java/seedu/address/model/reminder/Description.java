@@ -10,7 +10,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Description {
     public static final String MESSAGE_CONSTRAINTS = "Description should not be empty, must contain at least"
             + " one letter or number, and with a maximum length of 200 characters";
-    public static final String VALID_DESC_REGEX = ".*[A-Za-z0-9].*";
     public static final int MAX_LENGTH = 200;
 
     private final String description;
@@ -27,10 +26,41 @@ public class Description {
     }
 
     /**
-     * Returns true if a given string is a valid description.
+     * Constructs a {@code Description} from a trimmed description that is known to be valid.
+     */
+    private Description(String description, boolean isValidated) {
+        assert isValidated;
+        this.description = description;
+    }
+
+    /**
+     * Returns a {@code Description} wrapping {@code description} without re-running validation.
+     * {@code description} must have been produced by {@link #Description(String)}, e.g. when read back
+     * from a checksummed snapshot.
+     */
+    public static Description fromValidated(String description) {
+        requireNonNull(description);
+        return new Description(description, true);
+    }
+
+    /**
+     * Returns true if a given string is a valid description, i.e. a single line of at most 200 characters
+     * with at least one letter or number.
      */
     public static boolean isValidDescription(String test) {
-        return test != null && !test.trim().isEmpty() && test.matches(VALID_DESC_REGEX) && test.length() <= MAX_LENGTH;
+        if (test == null || test.length() > MAX_LENGTH) {
+            return false;
+        }
+
+        boolean hasLetterOrDigit = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            hasLetterOrDigit |= (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+        }
+        return hasLetterOrDigit;
     }
 
     @Override
@@ -2,13 +2,17 @@ package seedu.address.model.reminder;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.collapseWhitespace;
+import static seedu.address.commons.util.StringUtil.parseDigits;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 
 /**
@@ -28,7 +32,6 @@ public class DueDate implements Comparable<DueDate> {
     public static final DateTimeFormatter VALID_OUTPUT_DATE_FORMAT =
             DateTimeFormatter.ofPattern("dd MMM uuuu", Locale.ENGLISH)
                     .withResolverStyle(ResolverStyle.STRICT);
-    public static final String VALIDATION_DATE_REGEX = "\\d{4}-\\d{2}-\\d{2}";
 
     // DateTime format
     public static final DateTimeFormatter VALID_INPUT_DATETIME_FORMAT =
@@ -37,7 +40,10 @@ public class DueDate implements Comparable<DueDate> {
     public static final DateTimeFormatter VALID_OUTPUT_DATETIME_FORMAT =
             DateTimeFormatter.ofPattern("dd MMM uuuu hh:mm a", Locale.ENGLISH)
                     .withResolverStyle(ResolverStyle.STRICT);
-    public static final String VALIDATION_DATETIME_REGEX = "\\d{4}-\\d{2}-\\d{2} \\d{4}";
+
+    // Lengths of "uuuu-MM-dd" and "uuuu-MM-dd HHmm"
+    private static final int DATE_LENGTH = 10;
+    private static final int DATETIME_LENGTH = 15;
 
     private final LocalDate date;
     private final LocalDateTime dateTime;
@@ -50,36 +56,80 @@ public class DueDate implements Comparable<DueDate> {
      */
     public DueDate(String dueDate) {
         requireNonNull(dueDate);
-        String collapsedDueDate = dueDate.replaceAll("\\s+", " ").trim();
+        String collapsedDueDate = collapseWhitespace(dueDate);
         checkArgument(isValidDueDate(collapsedDueDate), MESSAGE_CONSTRAINTS);
 
-        if (collapsedDueDate.matches(VALIDATION_DATE_REGEX)) {
-            this.date = LocalDate.parse(collapsedDueDate, VALID_INPUT_DATE_FORMAT);
+        LocalDate parsedDate = LocalDate.of(parseDigits(collapsedDueDate, 0, 4),
+                parseDigits(collapsedDueDate, 5, 7), parseDigits(collapsedDueDate, 8, 10));
+        if (collapsedDueDate.length() == DATE_LENGTH) {
+            this.date = parsedDate;
             this.dateTime = null;
             isDateOnly = true;
         } else {
             this.date = null;
-            this.dateTime = LocalDateTime.parse(collapsedDueDate, VALID_INPUT_DATETIME_FORMAT);
+            this.dateTime = parsedDate.atTime(parseDigits(collapsedDueDate, 11, 13),
+                    parseDigits(collapsedDueDate, 13, 15));
             isDateOnly = false;
         }
     }
 
+    /**
+     * Constructs a {@code DueDate} directly from a parsed date or date-time.
+     */
+    private DueDate(LocalDate date, LocalDateTime dateTime) {
+        this.date = date;
+        this.dateTime = dateTime;
+        this.isDateOnly = date != null;
+    }
+
+    /**
+     * Returns a date-only {@code DueDate} on {@code date}.
+     */
+    public static DueDate of(LocalDate date) {
+        requireNonNull(date);
+        return new DueDate(date, null);
+    }
+
+    /**
+     * Returns a {@code DueDate} at {@code dateTime}, truncated to the minute.
+     */
+    public static DueDate of(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return new DueDate(null, dateTime.truncatedTo(ChronoUnit.MINUTES));
+    }
+
     /**
      * Returns true if a given string is a valid due date.
      */
     public static boolean isValidDueDate(String test) {
-        try {
-            if (test.matches(VALIDATION_DATETIME_REGEX)) {
-                LocalDateTime.parse(test, VALID_INPUT_DATETIME_FORMAT);
-            } else if (test.matches(VALIDATION_DATE_REGEX)) {
-                LocalDate.parse(test, VALID_INPUT_DATE_FORMAT);
-            } else {
-                return false;
-            }
-            return true;
-        } catch (DateTimeParseException e) {
+        if (test.length() == DATE_LENGTH) {
+            return isValidDate(test);
+        }
+        return test.length() == DATETIME_LENGTH && test.charAt(DATE_LENGTH) == ' '
+                && isValidDate(test) && isValidTime(test);
+    }
+
+    /**
+     * Returns true if {@code test} starts with a date in the {@code uuuu-MM-dd} format that exists.
+     */
+    private static boolean isValidDate(String test) {
+        if (test.charAt(4) != '-' || test.charAt(7) != '-') {
             return false;
         }
+        int year = parseDigits(test, 0, 4);
+        int month = parseDigits(test, 5, 7);
+        int day = parseDigits(test, 8, 10);
+        return year >= 0 && month >= 1 && month <= 12
+                && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * Returns true if {@code test} ends with a time in the {@code HHmm} format after its date.
+     */
+    private static boolean isValidTime(String test) {
+        int hour = parseDigits(test, 11, 13);
+        int minute = parseDigits(test, 13, 15);
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
     }
 
     /**
@@ -90,6 +140,13 @@ public class DueDate implements Comparable<DueDate> {
         return isDateOnly ? date.atStartOfDay() : dateTime;
     }
 
+    /**
+     * Returns true if this due date has no time component.
+     */
+    public boolean isDateOnly() {
+        return isDateOnly;
+    }
+
     /**
      * Converts dueDate into the Input string format for storing in JSON.
      */
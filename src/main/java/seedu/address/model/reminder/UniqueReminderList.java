@@ -3,17 +3,23 @@ package seedu.address.model.reminder;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
+import seedu.address.model.util.ObservableVector;
+import seedu.address.model.util.PersistentVector;
 
 /**
  * A list of reminders that enforces uniqueness between its elements and does not allow nulls.
@@ -23,29 +29,60 @@ import seedu.address.model.reminder.exceptions.ReminderNotFoundException;
  * UniqueReminderList. However, the removal of a reminder uses Reminder#equals(Object) to ensure
  * that the reminder with exactly the same fields will be removed.
  * <p>
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The reminders are held in a {@link PersistentVector}, which the
+ * observable list only shows, so that {@link #snapshot()} can hand out the current contents without copying them.
  *
  * @see Reminder#equals(Object)
  */
 public class UniqueReminderList implements Iterable<Reminder> {
     private static final Logger logger = LogsCenter.getLogger(UniqueReminderList.class);
-    private final ObservableList<Reminder> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Reminder> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableVector<Reminder> internalList = new ObservableVector<>();
+
+    // The reminders in the list, so that contains takes constant time; null until next needed after the list
+    // is replaced as a whole
+    private Set<Reminder> members = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent reminder as the given argument.
      */
     public boolean contains(Reminder toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return members().contains(toCheck);
+    }
+
+    private Set<Reminder> members() {
+        if (members == null) {
+            members = new HashSet<>(internalList);
+        }
+        return members;
     }
 
     /**
      * Sorts the reminder list based on upcoming due date
      */
     public void sort() {
-        internalList.sort(Reminder::compareTo);
+        if (isSorted()) {
+            return;
+        }
+        List<Reminder> sorted = new ArrayList<>(internalList);
+        sorted.sort(Reminder::compareTo);
+        // Only the positions whose reminder moved are copied
+        PersistentVector<Reminder> reordered = internalList.getVector();
+        for (int i = 0; i < sorted.size(); i++) {
+            if (reordered.get(i) != sorted.get(i)) {
+                reordered = reordered.set(i, sorted.get(i));
+            }
+        }
+        internalList.setVector(reordered);
+    }
+
+    private boolean isSorted() {
+        for (int i = 1; i < internalList.size(); i++) {
+            if (internalList.get(i - 1).compareTo(internalList.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -57,7 +94,9 @@ public class UniqueReminderList implements Iterable<Reminder> {
         if (contains(toAdd)) {
             throw new DuplicateReminderException();
         }
-        internalList.add(toAdd);
+        PersistentVector<Reminder> reminders = internalList.getVector();
+        internalList.setVector(reminders.append(toAdd), reminders.size(), 0);
+        members().add(toAdd);
     }
 
     /**
@@ -77,7 +116,9 @@ public class UniqueReminderList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
-        internalList.set(index, editedReminder);
+        internalList.setVector(internalList.getVector().set(index, editedReminder), index, 1);
+        members().remove(target);
+        members().add(editedReminder);
     }
 
     /**
@@ -86,9 +127,12 @@ public class UniqueReminderList implements Iterable<Reminder> {
      */
     public void remove(Reminder toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ReminderNotFoundException();
         }
+        internalList.setVector(internalList.getVector().remove(index), index, 1);
+        members().remove(toRemove);
     }
 
     /**
@@ -96,12 +140,27 @@ public class UniqueReminderList implements Iterable<Reminder> {
      */
     public void removeIf(Predicate<Reminder> predicate) {
         requireNonNull(predicate);
-        internalList.removeIf(predicate);
+        BitSet removed = new BitSet(internalList.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            removed.set(i, predicate.test(internalList.get(i)));
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        // Removing from the back keeps the remaining indices valid
+        PersistentVector<Reminder> remaining = internalList.getVector();
+        for (int i = removed.length() - 1; i >= 0; i = removed.previousSetBit(i - 1)) {
+            members().remove(internalList.get(i));
+            remaining = remaining.remove(i);
+        }
+        internalList.setVector(remaining);
     }
 
     public void setReminders(UniqueReminderList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setVector(replacement.internalList.getVector());
+        members = null;
     }
 
     /**
@@ -114,7 +173,27 @@ public class UniqueReminderList implements Iterable<Reminder> {
             throw new DuplicateReminderException();
         }
 
-        internalList.setAll(reminders);
+        internalList.setVector(PersistentVector.of(reminders));
+        members = null;
+    }
+
+    /**
+     * Returns the current contents of this list. Later changes to this list do not affect the returned vector.
+     */
+    public PersistentVector<Reminder> snapshot() {
+        return internalList.getVector();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, previously returned by {@link #snapshot()}.
+     */
+    public void restore(PersistentVector<Reminder> snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot == internalList.getVector()) {
+            return;
+        }
+        internalList.setVector(snapshot);
+        members = null;
     }
 
     /**
@@ -123,7 +202,7 @@ public class UniqueReminderList implements Iterable<Reminder> {
     public ObservableList<Reminder> asUnmodifiableObservableList() {
         logger.info("--- Sorting reminder list ---");
         this.sort();
-        return internalUnmodifiableList;
+        return internalList;
     }
 
     @Override
@@ -176,8 +255,10 @@ public class UniqueReminderList implements Iterable<Reminder> {
      * @return A list of UnmodifiableHwReminder instances for undone homework.
      */
     public static List<UnmodifiableHwReminder> createHomeworkReminder(Person person) {
-        return person.getHomeworkList().stream()
-                .filter(homework -> !homework.isDone())
+        // Only homework due from today to 2 days from now can be due within 1 day of the current time, and
+        // fetching just that homework does not read a student's homework from storage if it can be avoided
+        LocalDate today = LocalDate.now();
+        return person.getUndoneHomeworkDue(today, today.plusDays(2)).stream()
                 .map(homework -> UnmodifiableHwReminder.of(person, homework))
                 .filter(homework
                         -> homework.daysUntilDueDate() <= 1 && homework.daysUntilDueDate() >= 0)
@@ -32,7 +32,7 @@ public class UnmodifiableHwReminder extends UnmodifiableReminder {
      * @return An UnmodifiableHwReminder instance.
      */
     public static UnmodifiableHwReminder of(Person person, Homework homework) {
-        DueDate dueDate = new DueDate(homework.getDeadline().format(DueDate.VALID_INPUT_DATE_FORMAT));
+        DueDate dueDate = DueDate.of(homework.getDeadline());
         Description description = parseDescription(person, homework);
         return new UnmodifiableHwReminder(dueDate, description);
     }
@@ -56,8 +56,7 @@ public class UnmodifiablePaymentReminder extends UnmodifiableReminder {
     private static DueDate parseDueDate(int month) {
         int currentYear = LocalDate.now().getYear();
         LocalDateTime endOfMonth = YearMonth.of(currentYear, month).atEndOfMonth().atTime(23, 59);
-        String endOfMonthString = endOfMonth.format(DueDate.VALID_INPUT_DATETIME_FORMAT);
-        return new DueDate(endOfMonthString);
+        return DueDate.of(endOfMonth);
     }
 
     /**
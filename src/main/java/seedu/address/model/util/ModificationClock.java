@@ -0,0 +1,23 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues modification stamps for mutable model objects.
+ * <p>
+ * Every stamp is greater than all stamps issued before it, so an object that records a fresh stamp whenever it
+ * changes can be compared against a stamp remembered earlier to tell whether it has changed since.
+ */
+public class ModificationClock {
+    private static final AtomicLong clock = new AtomicLong();
+
+    private ModificationClock() {
+    } // prevents instantiation
+
+    /**
+     * Returns a stamp greater than every stamp returned before.
+     */
+    public static long next() {
+        return clock.incrementAndGet();
+    }
+}
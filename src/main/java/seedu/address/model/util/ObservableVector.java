@@ -0,0 +1,92 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.RandomAccess;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} view of a {@link PersistentVector}, which is changed by replacing the
+ * vector as a whole.
+ * <p>
+ * The list holds no copy of the elements, so the vector it shows can be handed out as a snapshot, and replacing
+ * it with an older one, e.g. on undo, takes constant time. Listeners are told of each replacement as a single
+ * change that covers only the positions where the two vectors differ.
+ *
+ * @param <E> type of the elements.
+ */
+public final class ObservableVector<E> extends ObservableListBase<E> implements RandomAccess {
+
+    private PersistentVector<E> vector = PersistentVector.empty();
+
+    /**
+     * Returns the vector currently shown.
+     */
+    public PersistentVector<E> getVector() {
+        return vector;
+    }
+
+    /**
+     * Shows {@code newVector} instead of the current vector.
+     * The positions where they differ are found by comparing their elements by reference from both ends.
+     */
+    public void setVector(PersistentVector<E> newVector) {
+        requireNonNull(newVector);
+        if (newVector == vector) {
+            return;
+        }
+
+        int oldSize = vector.size();
+        int newSize = newVector.size();
+        int from = 0;
+        while (from < oldSize && from < newSize && vector.get(from) == newVector.get(from)) {
+            from++;
+        }
+        int oldEnd = oldSize;
+        int newEnd = newSize;
+        while (oldEnd > from && newEnd > from && vector.get(oldEnd - 1) == newVector.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        setVector(newVector, from, oldEnd - from);
+    }
+
+    /**
+     * Shows {@code newVector} instead of the current vector, where {@code newVector} differs from the current
+     * vector only in that its {@code removedCount} elements from {@code from} were replaced, by as many elements
+     * as the difference in size makes up.
+     */
+    public void setVector(PersistentVector<E> newVector, int from, int removedCount) {
+        requireNonNull(newVector);
+        PersistentVector<E> oldVector = vector;
+        int addedCount = newVector.size() - oldVector.size() + removedCount;
+        assert from >= 0 && removedCount >= 0 && addedCount >= 0 && from + removedCount <= oldVector.size();
+
+        vector = newVector;
+        if (removedCount == 0 && addedCount == 0) {
+            return;
+        }
+        beginChange();
+        if (removedCount == 0) {
+            nextAdd(from, from + addedCount);
+        } else if (addedCount == 0) {
+            nextRemove(from, oldVector.asList().subList(from, from + removedCount));
+        } else if (removedCount == 1 && addedCount == 1) {
+            nextSet(from, oldVector.get(from));
+        } else {
+            nextReplace(from, from + addedCount, oldVector.asList().subList(from, from + removedCount));
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return vector.get(index);
+    }
+
+    @Override
+    public int size() {
+        return vector.size();
+    }
+}
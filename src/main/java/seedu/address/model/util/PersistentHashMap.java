@@ -0,0 +1,433 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map that shares structure with the maps it was derived from.
+ * <p>
+ * Entries are held in a trie keyed by 5 bits of the key's hash at each level, in nodes that only hold the slots
+ * in use. {@link #put} and {@link #remove} copy only the nodes on the path to the key, so they take effectively
+ * constant time and the old and new maps share all other nodes. Keys with the same hash share a node at the
+ * bottom of the trie.
+ *
+ * @param <K> type of the keys, which must not be null.
+ * @param <V> type of the values, which must not be null.
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    // Null when the map is empty
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if it has none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        requireNonNull(key);
+        return root == null ? null : (V) root.find(hash(key), 0, key);
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map in which {@code key} has the value {@code value}, or this map if it already has that value
+     * (the same instance).
+     */
+    public PersistentHashMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        int hash = hash(key);
+        if (root == null) {
+            return new PersistentHashMap<>(BitmapNode.EMPTY.put(hash, 0, key, value), 1);
+        }
+
+        Node newRoot = root.put(hash, 0, key, value);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, root.find(hash, 0, key) == null ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it has no such key.
+     */
+    public PersistentHashMap<K, V> remove(Object key) {
+        requireNonNull(key);
+        if (root == null) {
+            return this;
+        }
+
+        Node newRoot = root.remove(hash(key), 0, key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Returns an unmodifiable {@code Map} view of this map.
+     */
+    public Map<K, V> asMap() {
+        return new MapView();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentHashMap)) {
+            return false;
+        }
+
+        PersistentHashMap<?, ?> otherMap = (PersistentHashMap<?, ?>) other;
+        return asMap().equals(otherMap.asMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        // Mixes the high bits into the low bits, which pick the slots nearest the root
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A node of the trie. Its entries are held in pairs in {@code array}: a key and its value, or, for a
+     * {@link BitmapNode}, null and a child node. Nodes are never modified once created.
+     */
+    private abstract static class Node {
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+
+        /** Returns the value of {@code key}, or null if it has none. */
+        abstract Object find(int hash, int shift, Object key);
+
+        /** Returns this node with {@code key} mapped to {@code value}, or this node if it already is. */
+        abstract Node put(int hash, int shift, Object key, Object value);
+
+        /** Returns this node without {@code key}, this node if it has no such key, or null if it becomes empty. */
+        abstract Node remove(int hash, int shift, Object key);
+    }
+
+    /**
+     * A node with a slot for each 5-bit part of a hash; {@code bitmap} marks the slots in use.
+     */
+    private static final class BitmapNode extends Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+
+        private BitmapNode(int bitmap, Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private static int bitOf(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        /** Returns the position in {@code array} of the pair for {@code bit}. */
+        private int positionOf(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int hash, int shift, Object key) {
+            int bit = bitOf(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int position = positionOf(bit);
+            Object existingKey = array[position];
+            Object existingValue = array[position + 1];
+            if (existingKey == null) {
+                return ((Node) existingValue).find(hash, shift + BITS, key);
+            }
+            return key.equals(existingKey) ? existingValue : null;
+        }
+
+        @Override
+        Node put(int hash, int shift, Object key, Object value) {
+            int bit = bitOf(hash, shift);
+            int position = positionOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[array.length + 2];
+                System.arraycopy(array, 0, copy, 0, position);
+                copy[position] = key;
+                copy[position + 1] = value;
+                System.arraycopy(array, position, copy, position + 2, array.length - position);
+                return new BitmapNode(bitmap | bit, copy);
+            }
+
+            Object existingKey = array[position];
+            Object existingValue = array[position + 1];
+            if (existingKey == null) {
+                Node child = ((Node) existingValue).put(hash, shift + BITS, key, value);
+                return child == existingValue ? this : withPair(position, null, child);
+            }
+            if (key.equals(existingKey)) {
+                return value == existingValue ? this : withPair(position, key, value);
+            }
+            // Two keys in one slot move down into a new child node
+            Node child = nodeOf(shift + BITS, existingKey, existingValue, hash, key, value);
+            return withPair(position, null, child);
+        }
+
+        @Override
+        Node remove(int hash, int shift, Object key) {
+            int bit = bitOf(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int position = positionOf(bit);
+            Object existingKey = array[position];
+            Object existingValue = array[position + 1];
+            if (existingKey == null) {
+                Node child = ((Node) existingValue).remove(hash, shift + BITS, key);
+                if (child == existingValue) {
+                    return this;
+                }
+                if (child != null) {
+                    return withPair(position, null, child);
+                }
+            } else if (!key.equals(existingKey)) {
+                return this;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, position);
+            System.arraycopy(array, position + 2, copy, position, array.length - position - 2);
+            return new BitmapNode(bitmap & ~bit, copy);
+        }
+
+        private BitmapNode withPair(int position, Object key, Object value) {
+            Object[] copy = array.clone();
+            copy[position] = key;
+            copy[position + 1] = value;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        /**
+         * Returns a node at {@code shift} holding both entries, whose keys are different.
+         */
+        private static Node nodeOf(int shift, Object firstKey, Object firstValue,
+                                   int secondHash, Object secondKey, Object secondValue) {
+            int firstHash = hash(firstKey);
+            if (firstHash == secondHash) {
+                return new CollisionNode(firstHash, new Object[] {firstKey, firstValue, secondKey, secondValue});
+            }
+            // Hashes that differ do so within 32 bits, so this ends before the shift passes the last 5 bits
+            return EMPTY.put(firstHash, shift, firstKey, firstValue).put(secondHash, shift, secondKey, secondValue);
+        }
+    }
+
+    /**
+     * A node holding entries whose keys all have the same hash.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+
+        private CollisionNode(int hash, Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int positionOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int hash, int shift, Object key) {
+            int position = positionOf(key);
+            return position < 0 ? null : array[position + 1];
+        }
+
+        @Override
+        Node put(int hash, int shift, Object key, Object value) {
+            if (hash != this.hash) {
+                // This node moves down a level, beside the new key
+                Node parent = new BitmapNode(BitmapNode.bitOf(this.hash, shift), new Object[] {null, this});
+                return parent.put(hash, shift, key, value);
+            }
+
+            int position = positionOf(key);
+            if (position >= 0) {
+                if (value == array[position + 1]) {
+                    return this;
+                }
+                Object[] copy = array.clone();
+                copy[position + 1] = value;
+                return new CollisionNode(hash, copy);
+            }
+            Object[] copy = Arrays.copyOf(array, array.length + 2);
+            copy[array.length] = key;
+            copy[array.length + 1] = value;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        Node remove(int hash, int shift, Object key) {
+            int position = positionOf(key);
+            if (position < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, position);
+            System.arraycopy(array, position + 2, copy, position, array.length - position - 2);
+            return new CollisionNode(hash, copy);
+        }
+    }
+
+    /**
+     * Iterates over the entries of the trie depth-first.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        // Arrays of the nodes on the path to the next entry, and the position reached in each
+        private final Deque<Object[]> arrays = new ArrayDeque<>();
+        private final Deque<Integer> positions = new ArrayDeque<>();
+        private Map.Entry<K, V> next;
+
+        EntryIterator() {
+            if (root != null) {
+                arrays.push(root.array);
+                positions.push(0);
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (next == null && !arrays.isEmpty()) {
+                Object[] array = arrays.peek();
+                int position = positions.pop();
+                if (position >= array.length) {
+                    arrays.pop();
+                    continue;
+                }
+                positions.push(position + 2);
+                if (array[position] == null) {
+                    arrays.push(((Node) array[position + 1]).array);
+                    positions.push(0);
+                } else {
+                    next = new AbstractMap.SimpleImmutableEntry<>((K) array[position], (V) array[position + 1]);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = next;
+            advance();
+            return entry;
+        }
+    }
+
+    /**
+     * Unmodifiable {@code Map} over this map.
+     */
+    private final class MapView extends AbstractMap<K, V> {
+        @Override
+        public V get(Object key) {
+            return key == null ? null : PersistentHashMap.this.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ * <p>
+ * Elements are held in the leaves of a balanced tree of nodes that are at most 32 wide and, except for the root,
+ * at least 16 wide. Each branch records how many elements its children hold, so an index is found by descending
+ * one path from the root. {@link #set}, {@link #insert}, {@link #remove} and the operations built on them copy
+ * only the nodes on that path, and those they split or merge with a neighbour to stay within their width, so they
+ * take effectively constant time and the old and new vectors share all other nodes. Keeping an older version alive
+ * therefore costs memory proportional to what changed since.
+ *
+ * @param <E> type of the elements, which must not be null.
+ */
+public final class PersistentVector<E> {
+
+    private static final int MAX_WIDTH = 32;
+    private static final int MIN_WIDTH = MAX_WIDTH / 2;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Leaf(new Object[0]));
+
+    private final Node root;
+
+    private PersistentVector(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector of the elements of {@code elements}, in iteration order.
+     * This takes time proportional to the number of elements, as the tree is built bottom-up.
+     */
+    public static <E> PersistentVector<E> of(Iterable<? extends E> elements) {
+        requireNonNull(elements);
+        List<Object> values = new ArrayList<>();
+        for (E element : elements) {
+            values.add(requireNonNull(element));
+        }
+        if (values.isEmpty()) {
+            return empty();
+        }
+
+        List<Node> level = new ArrayList<>();
+        for (Object[] chunk : split(values.toArray())) {
+            level.add(new Leaf(chunk));
+        }
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (Object[] chunk : split(level.toArray())) {
+                parents.add(Branch.of(Arrays.copyOf(chunk, chunk.length, Node[].class)));
+            }
+            level = parents;
+        }
+        return new PersistentVector<>(level.get(0));
+    }
+
+    public int size() {
+        return root.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size());
+        return (E) root.get(index);
+    }
+
+    /**
+     * Returns a vector with {@code element} in place of the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentVector<>(root.set(index, element));
+    }
+
+    /**
+     * Returns a vector with {@code element} inserted at {@code index}, shifting the elements from {@code index}
+     * onwards up by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size()]}.
+     */
+    public PersistentVector<E> insert(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        Node[] inserted = root.insert(index, element);
+        // A root that had to split gains a parent, growing the tree by a level
+        return new PersistentVector<>(inserted.length == 1 ? inserted[0] : Branch.of(inserted));
+    }
+
+    /**
+     * Returns a vector with {@code element} added at the end.
+     */
+    public PersistentVector<E> append(E element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * Returns a vector without the element at {@code index}, shifting the elements after it down by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+     */
+    public PersistentVector<E> remove(int index) {
+        checkIndex(index, size());
+        if (size() == 1) {
+            return empty();
+        }
+
+        Node newRoot = root.remove(index);
+        // A root left with one child is replaced by it, shrinking the tree by a level
+        while (newRoot instanceof Branch && newRoot.width() == 1) {
+            newRoot = ((Branch) newRoot).children[0];
+        }
+        return new PersistentVector<>(newRoot);
+    }
+
+    /**
+     * Returns a vector without its last element.
+     *
+     * @throws IllegalStateException if this vector is empty.
+     */
+    public PersistentVector<E> removeLast() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Cannot remove from an empty vector");
+        }
+        return remove(size() - 1);
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this vector.
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentVector)) {
+            return false;
+        }
+
+        PersistentVector<?> otherVector = (PersistentVector<?>) other;
+        return asList().equals(otherVector.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+
+    /**
+     * Splits {@code entries} into as few chunks of at most {@link #MAX_WIDTH} entries as possible, with sizes
+     * differing by at most one, so that every chunk is at least {@link #MIN_WIDTH} wide if there are several.
+     */
+    private static List<Object[]> split(Object[] entries) {
+        int count = (entries.length + MAX_WIDTH - 1) / MAX_WIDTH;
+        List<Object[]> chunks = new ArrayList<>(count);
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = (int) ((long) entries.length * (i + 1) / count);
+            chunks.add(Arrays.copyOfRange(entries, start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * A node of the tree. Nodes are never modified once created; every change returns new nodes.
+     */
+    private abstract static class Node {
+        /** Returns the number of elements under this node. */
+        abstract int size();
+
+        /** Returns the number of entries, i.e. elements or children, held directly by this node. */
+        abstract int width();
+
+        abstract Object get(int index);
+
+        abstract Node set(int index, Object element);
+
+        /** Returns this node with {@code element} inserted, split in two if it would be too wide. */
+        abstract Node[] insert(int index, Object element);
+
+        /** Returns this node without the element at {@code index}, which may leave it too narrow. */
+        abstract Node remove(int index);
+
+        /** Returns the entries of this node followed by those of {@code next}, a node at the same level. */
+        abstract Object[] concat(Node next);
+
+        /** Returns a node at the same level as this one holding {@code entries}. */
+        abstract Node withEntries(Object[] entries);
+
+        /**
+         * Returns nodes holding {@code entries}, which are one node if they fit, or two of about equal width.
+         */
+        Node[] fit(Object[] entries) {
+            if (entries.length <= MAX_WIDTH) {
+                return new Node[] {withEntries(entries)};
+            }
+            int half = entries.length / 2;
+            return new Node[] {
+                withEntries(Arrays.copyOfRange(entries, 0, half)),
+                withEntries(Arrays.copyOfRange(entries, half, entries.length))
+            };
+        }
+    }
+
+    /**
+     * A node holding elements.
+     */
+    private static final class Leaf extends Node {
+        private final Object[] elements;
+
+        private Leaf(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        int size() {
+            return elements.length;
+        }
+
+        @Override
+        int width() {
+            return elements.length;
+        }
+
+        @Override
+        Object get(int index) {
+            return elements[index];
+        }
+
+        @Override
+        Node set(int index, Object element) {
+            Object[] copy = elements.clone();
+            copy[index] = element;
+            return new Leaf(copy);
+        }
+
+        @Override
+        Node[] insert(int index, Object element) {
+            Object[] copy = new Object[elements.length + 1];
+            System.arraycopy(elements, 0, copy, 0, index);
+            copy[index] = element;
+            System.arraycopy(elements, index, copy, index + 1, elements.length - index);
+            return fit(copy);
+        }
+
+        @Override
+        Node remove(int index) {
+            Object[] copy = new Object[elements.length - 1];
+            System.arraycopy(elements, 0, copy, 0, index);
+            System.arraycopy(elements, index + 1, copy, index, elements.length - index - 1);
+            return new Leaf(copy);
+        }
+
+        @Override
+        Object[] concat(Node next) {
+            Object[] nextElements = ((Leaf) next).elements;
+            Object[] entries = Arrays.copyOf(elements, elements.length + nextElements.length);
+            System.arraycopy(nextElements, 0, entries, elements.length, nextElements.length);
+            return entries;
+        }
+
+        @Override
+        Node withEntries(Object[] entries) {
+            return new Leaf(entries);
+        }
+    }
+
+    /**
+     * A node holding child nodes, all at the same level.
+     */
+    private static final class Branch extends Node {
+        private final Node[] children;
+        // ends[i] is the number of elements under children[0..i]
+        private final int[] ends;
+
+        private Branch(Node[] children, int[] ends) {
+            this.children = children;
+            this.ends = ends;
+        }
+
+        private static Branch of(Node[] children) {
+            int[] ends = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += children[i].size();
+                ends[i] = total;
+            }
+            return new Branch(children, ends);
+        }
+
+        @Override
+        int size() {
+            return ends[ends.length - 1];
+        }
+
+        @Override
+        int width() {
+            return children.length;
+        }
+
+        /**
+         * Returns the child that holds the element at {@code index}, or the last child if {@code index} is
+         * {@link #size()}.
+         */
+        private int childOf(int index) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ends[middle] <= index) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int startOf(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+
+        @Override
+        Object get(int index) {
+            int child = childOf(index);
+            return children[child].get(index - startOf(child));
+        }
+
+        @Override
+        Node set(int index, Object element) {
+            int child = childOf(index);
+            Node[] copy = children.clone();
+            copy[child] = children[child].set(index - startOf(child), element);
+            return new Branch(copy, ends);
+        }
+
+        @Override
+        Node[] insert(int index, Object element) {
+            int child = childOf(index);
+            Node[] inserted = children[child].insert(index - startOf(child), element);
+            return fit(replace(child, 1, inserted));
+        }
+
+        @Override
+        Node remove(int index) {
+            int child = childOf(index);
+            Node removed = children[child].remove(index - startOf(child));
+            if (removed.width() >= MIN_WIDTH || children.length == 1) {
+                return withEntries(replace(child, 1, new Node[] {removed}));
+            }
+
+            // The child is too narrow, so it is merged with a neighbour, and split again if that is too wide
+            int left = child > 0 ? child - 1 : child;
+            Node first = left == child ? removed : children[left];
+            Node second = left == child ? children[child + 1] : removed;
+            return withEntries(replace(left, 2, first.fit(first.concat(second))));
+        }
+
+        /**
+         * Returns the children with the {@code count} children from {@code start} replaced by {@code nodes}.
+         */
+        private Node[] replace(int start, int count, Node[] nodes) {
+            Node[] copy = new Node[children.length - count + nodes.length];
+            System.arraycopy(children, 0, copy, 0, start);
+            System.arraycopy(nodes, 0, copy, start, nodes.length);
+            System.arraycopy(children, start + count, copy, start + nodes.length,
+                    children.length - start - count);
+            return copy;
+        }
+
+        @Override
+        Object[] concat(Node next) {
+            Node[] nextChildren = ((Branch) next).children;
+            Node[] entries = Arrays.copyOf(children, children.length + nextChildren.length);
+            System.arraycopy(nextChildren, 0, entries, children.length, nextChildren.length);
+            return entries;
+        }
+
+        @Override
+        Node withEntries(Object[] entries) {
+            return Branch.of(Arrays.copyOf(entries, entries.length, Node[].class));
+        }
+    }
+
+    /**
+     * Unmodifiable {@code List} over this vector.
+     */
+    private final class ListView extends AbstractList<E> implements RandomAccess {
+        @Override
+        public E get(int index) {
+            return PersistentVector.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return PersistentVector.this.size();
+        }
+    }
+}
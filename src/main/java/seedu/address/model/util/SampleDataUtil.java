@@ -66,13 +66,12 @@ public class SampleDataUtil {
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
         AddressBook sampleAb = new AddressBook();
-        for (Person samplePerson : getSamplePersons()) {
-            samplePerson.addHomework(getSampleHomework()[4]);
-            samplePerson.addHomework(getSampleHomework()[5]);
-            samplePerson.getHomeworkList().get(1).markDone();
+        for (Person person : getSamplePersons()) {
+            Person samplePerson = person.withHomework(getSampleHomework()[4])
+                    .withHomework(getSampleHomework()[5].withDone(true));
 
             for (int i = 1; i < 11; i++) {
-                samplePerson.setPaymentStatus(i, true);
+                samplePerson = samplePerson.withPaymentStatus(i, true);
             }
 
             sampleAb.addPerson(samplePerson);
@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps the {@code AddressBookStorage} of a single data file so that saves cannot leave a partly written file,
+ * and so that a damaged data file is recovered from one of the files saved before it.
+ * <p>
+ * A save is written to a temporary file first. The previous {@code generationCount} data files are then kept as
+ * {@code FILE.1} (the newest) to {@code FILE.N}, and the temporary file is moved over {@code FILE}. Beside each
+ * file, {@code FILE.crc} records the CRC32 and length of its content, computed as the content is written. A save
+ * whose content has the same checksum as the data file leaves all the files as they are.
+ * <p>
+ * When reading, the data file and then each older generation is parsed and checked against its recorded
+ * checksum in the same sequential read, and the first one that is intact is loaded. A file without a checksum,
+ * or a data file whose checksum no longer matches because it was edited by hand, is still loaded if it can be
+ * parsed.
+ */
+public class GenerationalAddressBookStorage implements AddressBookStorage {
+
+    /** Default number of previous data files kept. */
+    public static final int DEFAULT_GENERATION_COUNT = 3;
+    /** Extension of the file that records the checksum of the data file it is named after. */
+    public static final String CHECKSUM_EXTENSION = ".crc";
+
+    private static final Logger logger = LogsCenter.getLogger(GenerationalAddressBookStorage.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StreamAddressBookStorage storage;
+    private final int generationCount;
+
+    public GenerationalAddressBookStorage(StreamAddressBookStorage storage) {
+        this(storage, DEFAULT_GENERATION_COUNT);
+    }
+
+    /**
+     * Creates a storage that reads and writes data files through {@code storage}, keeping {@code generationCount}
+     * previous data files.
+     */
+    public GenerationalAddressBookStorage(StreamAddressBookStorage storage, int generationCount) {
+        requireNonNull(storage);
+        if (generationCount < 0) {
+            throw new IllegalArgumentException("Generation count cannot be negative: " + generationCount);
+        }
+        this.storage = storage;
+        this.generationCount = generationCount;
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th previous data file for {@code filePath}, or {@code filePath}
+     * itself if {@code generation} is 0.
+     */
+    public static Path getGenerationPath(Path filePath, int generation) {
+        return generation == 0 ? filePath : filePath.resolveSibling(filePath.getFileName() + "." + generation);
+    }
+
+    /**
+     * Returns the path of the file that records the checksum of {@code filePath}.
+     */
+    public static Path getChecksumPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Returns {@code Optional.empty()} only if neither the data file nor any previous data file exists.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if no data file could be loaded.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        DataLoadingException firstError = null;
+        for (int generation = 0; generation <= generationCount; generation++) {
+            Path generationPath = getGenerationPath(filePath, generation);
+            if (!Files.exists(generationPath)) {
+                continue;
+            }
+
+            try {
+                ReadOnlyAddressBook addressBook = readIfIntact(generationPath, generation == 0);
+                if (addressBook == null) {
+                    logger.warning("Skipping " + generationPath + " as it does not match its checksum.");
+                    continue;
+                }
+                if (generation > 0) {
+                    logger.warning("Data file " + filePath + " could not be loaded."
+                            + " Recovered the data saved before it from " + generationPath + ".");
+                }
+                return Optional.of(addressBook);
+            } catch (DataLoadingException e) {
+                logger.warning("Data file " + generationPath + " could not be loaded: " + e.getMessage());
+                firstError = firstError == null ? e : firstError;
+            }
+        }
+
+        if (firstError != null) {
+            throw firstError;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream out = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE), crc)) {
+            storage.writeAddressBook(addressBook, out);
+        }
+        String checksum = formatChecksum(crc, Files.size(tempFile));
+        if (Files.exists(filePath) && checksum.equals(recordedChecksumOf(filePath))) {
+            // Unchanged data would only push an older generation out for another copy of the data file
+            Files.delete(tempFile);
+            return;
+        }
+
+        // Only renames are needed to age the previous files, so keeping them costs no extra writes.
+        for (int generation = generationCount; generation > 0; generation--) {
+            Path older = getGenerationPath(filePath, generation);
+            Path newer = getGenerationPath(filePath, generation - 1);
+            moveOrDelete(getChecksumPath(newer), getChecksumPath(older));
+            moveOrDelete(newer, older);
+        }
+        Files.deleteIfExists(getChecksumPath(filePath));
+        FileUtil.replaceFile(tempFile, filePath);
+
+        Path tempChecksumFile = getChecksumPath(tempFile);
+        Files.writeString(tempChecksumFile, checksum, StandardCharsets.UTF_8);
+        FileUtil.replaceFile(tempChecksumFile, getChecksumPath(filePath));
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, or deletes {@code target} if {@code source} does not exist,
+     * so that a file is never paired with the checksum of another.
+     */
+    private static void moveOrDelete(Path source, Path target) throws IOException {
+        if (Files.exists(source)) {
+            FileUtil.replaceFile(source, target);
+        } else {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, verifying it against its recorded checksum as it is parsed.
+     * Returns null if it does not match its checksum, unless {@code isEditable}, i.e. it may have been edited by
+     * hand and is loaded anyway. A file without a checksum is always loaded.
+     *
+     * @throws DataLoadingException if the file could not be read or parsed.
+     */
+    private ReadOnlyAddressBook readIfIntact(Path filePath, boolean isEditable) throws DataLoadingException {
+        String expected = recordedChecksumOf(filePath);
+        CRC32 crc = new CRC32();
+        ReadOnlyAddressBook addressBook;
+        String actual;
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc)) {
+            addressBook = storage.readAddressBook(in);
+            // The parser may stop at the end of the data, before the end of the file
+            in.transferTo(OutputStream.nullOutputStream());
+            actual = formatChecksum(crc, Files.size(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (expected == null || expected.equals(actual)) {
+            return addressBook;
+        }
+        if (!isEditable) {
+            return null;
+        }
+        logger.info("Data file " + filePath + " does not match its checksum. It may have been edited outside the app.");
+        return addressBook;
+    }
+
+    /**
+     * Returns the checksum recorded for {@code filePath}, or null if none is.
+     */
+    private static String recordedChecksumOf(Path filePath) {
+        Path checksumPath = getChecksumPath(filePath);
+        if (!Files.exists(checksumPath)) {
+            logger.fine("No checksum recorded for " + filePath);
+            return null;
+        }
+
+        try {
+            return Files.readString(checksumPath, StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            logger.warning("Error reading the checksum of " + filePath + ": " + e);
+            return null;
+        }
+    }
+
+    private static String formatChecksum(CRC32 crc, long length) {
+        return String.format("%08x %d", crc.getValue(), length);
+    }
+}
@@ -52,11 +52,7 @@ public class JsonAdaptedHomework {
      * @return A {@code Homework} object equivalent to this adapted version.
      */
     public Homework toModelType() {
-        Homework hw = new Homework(description, LocalDate.parse(deadline));
-        if (isDone) {
-            hw.markDone();
-        }
-        return hw;
+        return new Homework(description, LocalDate.parse(deadline), isDone);
     }
 
 }
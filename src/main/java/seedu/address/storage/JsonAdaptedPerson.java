@@ -13,7 +13,10 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.homework.Homework;
 import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.ParticipationHistory;
+import seedu.address.model.person.ParticipationRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
 import seedu.address.model.person.Phone;
 
 /**
@@ -86,6 +89,23 @@ class JsonAdaptedPerson {
 
     }
 
+    /** Name as stored (for sharding and for matching separately stored records). */
+    String getName() {
+        return name;
+    }
+
+    /** Participation records as stored. */
+    List<JsonAdaptedParticipationRecord> getParticipation() {
+        return participation;
+    }
+
+    /**
+     * Returns a copy of this adapted person with {@code participation} in place of its own participation records.
+     */
+    JsonAdaptedPerson withParticipation(List<JsonAdaptedParticipationRecord> participation) {
+        return new JsonAdaptedPerson(name, phone, lessonTime, homeworks, paymentStatus, participation);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -130,24 +150,23 @@ class JsonAdaptedPerson {
             }
         }
 
-        final Person person = new Person(modelName, modelPhone, modelLessonTime, modelPaymentStatus);
-
         List<Homework> hwList = new ArrayList<>();
         for (JsonAdaptedHomework jhw : homeworks) {
             hwList.add(jhw.toModelType());
         }
-        person.setHomeworkList(hwList);
 
         // Reconstruct participation history (tolerate bad legacy rows)
+        List<ParticipationRecord> records = new ArrayList<>();
         for (JsonAdaptedParticipationRecord r : participation) {
             try {
-                person.getParticipation().add(r.toModelType());
+                records.add(r.toModelType());
             } catch (Exception ignored) {
                 // skip invalid rows instead of failing whole file
             }
         }
 
-        return person;
+        return new Person(modelName, modelPhone, modelLessonTime, modelPaymentStatus,
+                new PersonDetails(hwList, new ParticipationHistory(records)));
     }
 
 }
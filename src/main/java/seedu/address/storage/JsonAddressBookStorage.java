@@ -2,12 +2,22 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfile;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
@@ -16,15 +26,29 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The file may be plain pretty-printed JSON or gzip-compressed compact JSON; the format is detected when reading.
+ * Which format is written is chosen when the storage is created.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage implements StreamAddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
 
+    private final boolean isCompressed;
+    private final JsonAddressBookWriter writer = new JsonAddressBookWriter();
+
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that saves gzip-compressed JSON if {@code isCompressed}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,16 +69,52 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads plain or gzip-compressed JSON from {@code in}; the format is detected from the first bytes.
+     */
+    @Override
+    public ReadOnlyAddressBook readAddressBook(InputStream in) throws DataLoadingException {
+        requireNonNull(in);
+
+        JsonSerializableAddressBook jsonAddressBook;
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.JSON_BIND)) {
+            // Jackson closes the streams it reads, which must not close the caller's
+            InputStream buffered = new BufferedInputStream(new FilterInputStream(in) {
+                @Override
+                public void close() {
+                }
+            });
+            buffered.mark(2);
+            boolean isGzip = buffered.read() == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                    && buffered.read() == (GZIPInputStream.GZIP_MAGIC >>> 8);
+            buffered.reset();
+            if (isGzip) {
+                logger.info("Compressed JSON found.");
+            }
+            jsonAddressBook = JsonUtil.fromJsonStream(isGzip ? new GZIPInputStream(buffered) : buffered,
+                    JsonSerializableAddressBook.class);
+        } catch (IOException e) {
+            logger.warning("Error reading JSON: " + e);
+            throw new DataLoadingException(e);
+        }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return jsonAddressBook.toModelType();
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info("Illegal values found: " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
@@ -74,7 +134,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            writeAddressBook(addressBook, out);
+        }
+    }
+
+    /**
+     * Writes pretty-printed JSON, or gzip-compressed compact JSON if this storage was created to compress.
+     */
+    @Override
+    public void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        if (!isCompressed) {
+            out.write(writer.toJsonString(addressBook).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        GZIPOutputStream compressed = new GZIPOutputStream(out);
+        writer.writeCompact(addressBook, compressed);
+        compressed.finish();
     }
 
 }
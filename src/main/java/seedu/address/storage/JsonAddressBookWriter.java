@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Serializes address books to the JSON format of {@link JsonSerializableAddressBook}.
+ * <p>
+ * {@link #toJsonString(ReadOnlyAddressBook)} reuses the encoded JSON of each student that has not changed since
+ * the previous call. Each student's encoded JSON is cached together with the student's modification stamp. On
+ * the next call, a student whose stamp still matches has its cached JSON spliced into the output as is; only
+ * students that changed, or are new, are encoded again. The output is identical to serializing a
+ * {@code JsonSerializableAddressBook} of the same address book.
+ * <p>
+ * {@link #writeCompact(ReadOnlyAddressBook, OutputStream)} instead streams compact JSON one student at a time,
+ * without holding the document, or a cache of it, in memory.
+ */
+class JsonAddressBookWriter {
+
+    // Students in an array are nested two levels deep; a standalone encoding of a student is at the top level.
+    private static final String STUDENT_INDENT = "  ";
+
+    private Map<Person, EncodedStudent> cache = new IdentityHashMap<>();
+
+    /**
+     * Returns {@code addressBook} as a JSON string, encoding only the students changed since the last call.
+     */
+    String toJsonString(ReadOnlyAddressBook addressBook) throws IOException {
+        Map<Person, EncodedStudent> nextCache = new IdentityHashMap<>();
+        StringWriter out = new StringWriter();
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                EncodedStudent encoded = cache.get(person);
+                if (encoded == null || encoded.modificationStamp != person.getModificationStamp()) {
+                    encoded = encode(person);
+                }
+                nextCache.put(person, encoded);
+                generator.writeRawValue(encoded.json);
+            }
+            generator.writeEndArray();
+
+            writeGroupsAndReminders(addressBook, generator);
+            generator.writeEndObject();
+        }
+
+        // Students no longer in the list are dropped from the cache.
+        cache = nextCache;
+        return out.toString();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as compact JSON, encoding and writing one student at a time.
+     * Does not close {@code out}.
+     */
+    void writeCompact(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        JsonGenerator generator = JsonUtil.createCompactGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        writeGroupsAndReminders(addressBook, generator);
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private static void writeGroupsAndReminders(ReadOnlyAddressBook addressBook, JsonGenerator generator)
+            throws IOException {
+        generator.writeFieldName("groups");
+        generator.writeObject(addressBook.getGroups().stream().map(JsonAdaptedGroup::new).toList());
+        generator.writeFieldName("reminders");
+        generator.writeObject(addressBook.getReminderList().stream().map(JsonAdaptedReminder::new).toList());
+    }
+
+    private static EncodedStudent encode(Person person) throws IOException {
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person)).replace("\n", "\n" + STUDENT_INDENT);
+        // Read the stamp after encoding, as encoding may load details that were deferred by storage.
+        return new EncodedStudent(person.getModificationStamp(), json);
+    }
+
+    /**
+     * A student's encoded JSON, and the modification stamp of the student when it was encoded.
+     */
+    private static class EncodedStudent {
+        private final long modificationStamp;
+        private final String json;
+
+        EncodedStudent(long modificationStamp, String json) {
+            this.modificationStamp = modificationStamp;
+            this.json = json;
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.StartupProfile;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.reminder.Reminder;
 
@@ -64,13 +72,17 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.TO_MODEL_TYPE)) {
+            return toAddressBook();
+        }
+    }
+
+    private AddressBook toAddressBook() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        List<Person> convertedPersons = convertPersons();
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.UNIQUENESS_CHECKS)) {
+            // setPersons checks again that no two persons are the same
+            addressBook.setPersons(convertedPersons);
         }
 
         for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
@@ -81,11 +93,12 @@ class JsonSerializableAddressBook {
             addressBook.addGroup(group);
         }
 
+        Map<String, Person> personsByName = indexByFullName(addressBook);
         for (JsonAdaptedGroup jag : groups) {
             GroupName gName = GroupName.of(jag.getName());
             List<Person> resolved = new ArrayList<>();
             for (String memberName : jag.getMemberNames()) {
-                Person p = findByFullName(addressBook, memberName);
+                Person p = memberName == null ? null : personsByName.get(normalizeFullName(memberName));
                 if (p == null) {
                     throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, gName, memberName));
                 }
@@ -103,21 +116,65 @@ class JsonSerializableAddressBook {
             }
             addressBook.addReminder(reminder);
         }
-        addressBook.sortReminder();
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.REMINDER_SORT)) {
+            addressBook.sortReminder();
+        }
 
         return addressBook;
     }
 
-    /** Helper: find person by exact full name (case-insensitive, trimmed). */
-    private static Person findByFullName(AddressBook ab, String name) {
-        if (name == null) {
-            return null;
+    /**
+     * Converts and validates every adapted person in parallel on the common fork-join pool.
+     * <p>
+     * The result is in file order, and the error reported is the same one a sequential pass would hit
+     * first: the lowest-indexed record that is either invalid or a duplicate of an earlier valid record.
+     *
+     * @throws IllegalValueException if any record is invalid or duplicated.
+     */
+    private List<Person> convertPersons() throws IllegalValueException {
+        int count = persons.size();
+        Person[] converted = new Person[count];
+        IllegalValueException[] errors = new IllegalValueException[count];
+        // Person#isSamePerson compares names only, so each name maps to the index of its first occurrence.
+        ConcurrentMap<Name, Integer> firstIndexByName = new ConcurrentHashMap<>(count);
+
+        IntStream.range(0, count).parallel().forEach(i -> {
+            try {
+                converted[i] = persons.get(i).toModelType();
+                firstIndexByName.merge(converted[i].getName(), i, Math::min);
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.UNIQUENESS_CHECKS)) {
+            for (int i = 0; i < count; i++) {
+                if (errors[i] != null) {
+                    throw errors[i];
+                }
+                if (firstIndexByName.get(converted[i].getName()) != i) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                }
+            }
+        }
+        return Arrays.asList(converted);
+    }
+
+    /**
+     * Indexes persons by normalized full name, so that group members can be resolved in constant time each.
+     * If two names normalize to the same key, the earlier person wins.
+     */
+    private static Map<String, Person> indexByFullName(AddressBook ab) {
+        Map<String, Person> index = new HashMap<>();
+        for (Person p : ab.getPersonList()) {
+            index.putIfAbsent(normalizeFullName(p.getName().fullName), p);
         }
-        String needle = name.trim().toLowerCase();
-        return ab.getPersonList().stream()
-                .filter(p -> p.getName().fullName.trim().toLowerCase().equals(needle))
-                .findFirst()
-                .orElse(null);
+        return index;
+    }
+
+    /** Helper: normalizes a full name for case-insensitive, trimmed matching. */
+    private static String normalizeFullName(String name) {
+        return name.trim().toLowerCase();
     }
 
 }
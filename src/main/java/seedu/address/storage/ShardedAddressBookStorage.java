@@ -0,0 +1,613 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of JSON shards on the hard disk.
+ * <p>
+ * Students are split by a hash of their name into {@code bucketCount} student shards, and their participation
+ * records into matching participation shards. Groups and reminders each have their own shard. A save only
+ * writes the shards that changed since they were last read or written, so a small edit writes a small part of
+ * the data; a student shard is known to be unchanged without encoding it if its students have the same
+ * {@link Person#getModificationStamp() modification stamps} and positions, in the same order, and the groups and
+ * reminders shards if the address book still holds the same {@link AddressBookSnapshot snapshot} of them.
+ * <p>
+ * The order of the students is kept as a position beside each student in its shard. Positions only need to
+ * increase along the list, and are spaced apart, so that adding, removing or editing a student leaves the
+ * positions of the other students, and so their shards, as they were.
+ * <p>
+ * Shard files are never overwritten. Each save writes its changed shards to new files named after the save's
+ * generation, and then commits them all at once by atomically replacing the index, a manifest that records
+ * the bucket count and the file of each shard. Files of the previous generation that the new index no longer
+ * names are then deleted, so an interrupted save leaves the previous data intact.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** Directory extension that selects this storage format for the data file path. */
+    public static final String DIRECTORY_EXTENSION = ".shards";
+    public static final int DEFAULT_BUCKET_COUNT = 16;
+    public static final String MESSAGE_INVALID_BUCKET_COUNT = "Shard index has an invalid bucket count: %d";
+
+    static final String INDEX_FILE = "index.json";
+    static final String GROUPS_FILE = "groups.json";
+    static final String REMINDERS_FILE = "reminders.json";
+
+    /** Spacing of the positions given to students, leaving room for students later added between them. */
+    static final long POSITION_GAP = 1L << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private Path directory;
+    private int bucketCount = DEFAULT_BUCKET_COUNT;
+
+    // The index of committedDirectory as last read or written, or null if none was yet
+    private Path committedDirectory;
+    private JsonShardIndex committedIndex;
+
+    // Stamps and positions of the students of each bucket of committedDirectory as last read or written
+    private final Map<Integer, long[]> bucketStamps = new HashMap<>();
+    private final Map<Integer, long[]> bucketPositions = new HashMap<>();
+
+    // Position of each student of committedDirectory as last read or written, by name
+    private final Map<String, Long> positions = new HashMap<>();
+
+    // Address book as last read from or written to committedDirectory, or null if it is not known
+    private AddressBookSnapshot committedSnapshot;
+
+    public ShardedAddressBookStorage(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a shard directory rather than a single data file.
+     */
+    public static boolean isShardDirectory(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(DIRECTORY_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directory location of the shards. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        Optional<JsonShardIndex> index = readShard(directory.resolve(INDEX_FILE), JsonShardIndex.class);
+        if (!index.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            if (index.get().bucketCount <= 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_BUCKET_COUNT,
+                        index.get().bucketCount));
+            }
+            bucketCount = index.get().bucketCount;
+            forgetCommitted(directory);
+
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                persons.addAll(readStudentBucket(directory, index.get(), bucket));
+            }
+            // Indexes written before students had positions list the students in order instead
+            List<String> legacyOrder = index.get().students;
+            for (int i = 0; i < legacyOrder.size(); i++) {
+                positions.putIfAbsent(legacyOrder.get(i), POSITION_GAP * (i + 1));
+            }
+            // Students without a position (e.g. edited in by hand) go last, in bucket order.
+            persons.sort(Comparator.comparingLong((JsonAdaptedPerson p) ->
+                    positions.getOrDefault(p.getName(), Long.MAX_VALUE)));
+
+            List<JsonAdaptedGroup> groups = readShard(directory.resolve(index.get().fileOf(GROUPS_FILE)),
+                    JsonGroupShard.class).map(shard -> shard.groups).orElse(null);
+            List<JsonAdaptedReminder> reminders = readShard(directory.resolve(index.get().fileOf(REMINDERS_FILE)),
+                    JsonReminderShard.class).map(shard -> shard.reminders).orElse(null);
+
+            AddressBook addressBook = new JsonSerializableAddressBook(persons, groups, reminders).toModelType();
+            bucketStamps.putAll(stampsByBucket(addressBook.getPersonList()));
+            committedIndex = index.get();
+            committedSnapshot = addressBook.snapshot();
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the students of {@code bucket} with their participation records, and remembers their positions.
+     */
+    private List<JsonAdaptedPerson> readStudentBucket(Path directory, JsonShardIndex index, int bucket)
+            throws DataLoadingException {
+        JsonStudentShard studentShard = readShard(directory.resolve(index.fileOf(studentShardName(bucket))),
+                JsonStudentShard.class).orElseGet(() -> new JsonStudentShard(null, null));
+        Map<String, List<JsonAdaptedParticipationRecord>> participation = readShard(
+                directory.resolve(index.fileOf(participationShardName(bucket))), JsonParticipationShard.class)
+                .map(shard -> shard.participation).orElse(Map.of());
+
+        List<JsonAdaptedPerson> students = studentShard.persons;
+        if (studentShard.positions.size() == students.size()) {
+            for (int i = 0; i < students.size(); i++) {
+                positions.putIfAbsent(students.get(i).getName(), studentShard.positions.get(i));
+            }
+            bucketPositions.put(bucket, studentShard.positions.stream().mapToLong(Long::longValue).toArray());
+        }
+
+        List<JsonAdaptedPerson> merged = new ArrayList<>(students.size());
+        for (JsonAdaptedPerson student : students) {
+            merged.add(student.withParticipation(participation.get(student.getName())));
+        }
+        return merged;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directory location of the shards. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        Files.createDirectories(directory);
+        JsonShardIndex previous = committedIndexOf(directory);
+        long generation = (previous == null ? latestGenerationIn(directory) : previous.generation) + 1;
+
+        List<Person> persons = addressBook.getPersonList();
+        long[] newPositions = positionsOf(persons);
+        List<List<Person>> buckets = new ArrayList<>();
+        List<List<Long>> positionsByBucket = new ArrayList<>();
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            buckets.add(new ArrayList<>());
+            positionsByBucket.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            int bucket = bucketOf(persons.get(i).getName().fullName);
+            buckets.get(bucket).add(persons.get(i));
+            positionsByBucket.get(bucket).add(newPositions[i]);
+        }
+
+        Map<String, String> files = new LinkedHashMap<>();
+        Map<Integer, long[]> newBucketStamps = new HashMap<>();
+        Map<Integer, long[]> newBucketPositions = new HashMap<>();
+        int written = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            long[] stamps = stampsOf(buckets.get(bucket));
+            long[] bucketPositionsNow = positionsByBucket.get(bucket).stream().mapToLong(Long::longValue).toArray();
+            newBucketStamps.put(bucket, stamps);
+            newBucketPositions.put(bucket, bucketPositionsNow);
+            String studentShard = studentShardName(bucket);
+            String participationShard = participationShardName(bucket);
+            if (Arrays.equals(stamps, bucketStamps.get(bucket))
+                    && Arrays.equals(bucketPositionsNow, bucketPositions.get(bucket))
+                    && isCommitted(directory, previous, studentShard)
+                    && isCommitted(directory, previous, participationShard)) {
+                files.put(studentShard, previous.fileOf(studentShard));
+                files.put(participationShard, previous.fileOf(participationShard));
+                continue;
+            }
+
+            List<JsonAdaptedPerson> students = new ArrayList<>();
+            Map<String, List<JsonAdaptedParticipationRecord>> participation = new LinkedHashMap<>();
+            for (Person person : buckets.get(bucket)) {
+                JsonAdaptedPerson student = new JsonAdaptedPerson(person);
+                students.add(student.withParticipation(null));
+                if (!student.getParticipation().isEmpty()) {
+                    participation.put(student.getName(), student.getParticipation());
+                }
+            }
+            files.put(studentShard, writeShard(directory, studentShard, generation,
+                    JsonUtil.toJsonString(new JsonStudentShard(students, positionsByBucket.get(bucket)))));
+            files.put(participationShard, writeShard(directory, participationShard, generation,
+                    JsonUtil.toJsonString(new JsonParticipationShard(participation))));
+            written += 2;
+        }
+
+        AddressBookSnapshot snapshot = snapshotOf(addressBook);
+        boolean isSnapshotCommitted = snapshot != null && committedSnapshot != null;
+        if (isSnapshotCommitted && snapshot.hasSameGroupsAs(committedSnapshot)
+                && isCommitted(directory, previous, GROUPS_FILE)) {
+            files.put(GROUPS_FILE, previous.fileOf(GROUPS_FILE));
+        } else {
+            files.put(GROUPS_FILE, writeShard(directory, GROUPS_FILE, generation, JsonUtil.toJsonString(
+                    new JsonGroupShard(addressBook.getGroups().stream().map(JsonAdaptedGroup::new).toList()))));
+            written++;
+        }
+        if (isSnapshotCommitted && snapshot.hasSameRemindersAs(committedSnapshot)
+                && isCommitted(directory, previous, REMINDERS_FILE)) {
+            files.put(REMINDERS_FILE, previous.fileOf(REMINDERS_FILE));
+        } else {
+            files.put(REMINDERS_FILE, writeShard(directory, REMINDERS_FILE, generation, JsonUtil.toJsonString(
+                    new JsonReminderShard(addressBook.getReminderList().stream().map(JsonAdaptedReminder::new)
+                            .toList()))));
+            written++;
+        }
+
+        // Replacing the index commits every shard written above at once
+        JsonShardIndex index = new JsonShardIndex(bucketCount, generation, files, null);
+        Path tempFile = directory.resolve(INDEX_FILE + ".tmp");
+        Files.writeString(tempFile, JsonUtil.toJsonString(index), StandardCharsets.UTF_8);
+        FileUtil.replaceFile(tempFile, directory.resolve(INDEX_FILE));
+        logger.fine("Wrote " + written + " of " + (2 * bucketCount + 2) + " shards in " + directory);
+
+        forgetCommitted(directory);
+        committedIndex = index;
+        committedSnapshot = snapshot;
+        bucketStamps.putAll(newBucketStamps);
+        bucketPositions.putAll(newBucketPositions);
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getName().fullName, newPositions[i]);
+        }
+        if (previous != null) {
+            deleteUncommittedFiles(directory, previous, index);
+        }
+    }
+
+    /**
+     * Returns the index of {@code directory} as last read or written, reading it if this storage has neither
+     * read nor written it, or null if there is none.
+     */
+    private JsonShardIndex committedIndexOf(Path directory) {
+        if (directory.equals(committedDirectory) && committedIndex != null) {
+            return committedIndex;
+        }
+        forgetCommitted(directory);
+        try {
+            return readShard(directory.resolve(INDEX_FILE), JsonShardIndex.class).orElse(null);
+        } catch (DataLoadingException e) {
+            logger.warning("Replacing the unreadable shard index of " + directory + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the latest generation of the shard files in {@code directory}, or 0 if there are none, so that
+     * a save without a readable index never overwrites a file that an index may still name.
+     */
+    private static long latestGenerationIn(Path directory) throws IOException {
+        long latest = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                latest = Math.max(latest, generationOf(file.getFileName().toString()));
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Returns the generation of the shard file named {@code fileName}, or 0 if it is not named after one.
+     */
+    private static long generationOf(String fileName) {
+        int end = fileName.length() - ".json".length();
+        int start = fileName.lastIndexOf(".g", end) + ".g".length();
+        if (!fileName.endsWith(".json") || start < ".g".length() || start >= end) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(fileName.substring(start, end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Forgets what was last read or written, which was for another directory or is about to be replaced.
+     */
+    private void forgetCommitted(Path directory) {
+        committedDirectory = directory;
+        committedIndex = null;
+        committedSnapshot = null;
+        bucketStamps.clear();
+        bucketPositions.clear();
+        positions.clear();
+    }
+
+    /**
+     * Returns the snapshot of {@code addressBook}, or null if it cannot take one.
+     */
+    private static AddressBookSnapshot snapshotOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return addressBook instanceof AddressBookSnapshot ? (AddressBookSnapshot) addressBook : null;
+    }
+
+    /**
+     * Returns the position to record for each of {@code persons}, in list order.
+     * Each student keeps the position last recorded for it if it is still after the positions kept before it,
+     * and the other students are spaced out between the kept positions around them. If there is no room between
+     * two kept positions, every student is given a new position.
+     */
+    private long[] positionsOf(List<Person> persons) {
+        int count = persons.size();
+        long[] result = new long[count];
+        boolean[] isKept = new boolean[count];
+        long last = 0;
+        for (int i = 0; i < count; i++) {
+            Long recorded = positions.get(persons.get(i).getName().fullName);
+            if (recorded != null && recorded > last) {
+                result[i] = recorded;
+                isKept[i] = true;
+                last = recorded;
+            }
+        }
+
+        int start = 0;
+        while (start < count) {
+            if (isKept[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < count && !isKept[end]) {
+                end++;
+            }
+            long low = start == 0 ? 0 : result[start - 1];
+            long high = end == count ? Long.MAX_VALUE : result[end];
+            long gap = Math.min(POSITION_GAP, (high - low) / (end - start + 1));
+            if (gap == 0) {
+                for (int i = 0; i < count; i++) {
+                    result[i] = POSITION_GAP * (i + 1);
+                }
+                return result;
+            }
+            for (int i = start; i < end; i++) {
+                result[i] = low + gap * (i - start + 1);
+            }
+            start = end;
+        }
+        return result;
+    }
+
+    private static boolean isCommitted(Path directory, JsonShardIndex index, String shardName) {
+        return index != null && index.shards.containsKey(shardName)
+                && Files.exists(directory.resolve(index.fileOf(shardName)));
+    }
+
+    /**
+     * Writes {@code content} to a new file for {@code shardName} of {@code generation}, and returns its name.
+     */
+    private static String writeShard(Path directory, String shardName, long generation, String content)
+            throws IOException {
+        String fileName = shardName.substring(0, shardName.length() - ".json".length())
+                + ".g" + generation + ".json";
+        Files.writeString(directory.resolve(fileName), content, StandardCharsets.UTF_8);
+        return fileName;
+    }
+
+    /**
+     * Deletes the files of {@code previous} that {@code index} no longer names.
+     */
+    private static void deleteUncommittedFiles(Path directory, JsonShardIndex previous, JsonShardIndex index) {
+        for (String shardName : previous.shardNames()) {
+            String fileName = previous.fileOf(shardName);
+            if (!index.shards.containsValue(fileName)) {
+                try {
+                    Files.deleteIfExists(directory.resolve(fileName));
+                } catch (IOException e) {
+                    logger.warning("Could not delete replaced shard " + fileName + ": " + e);
+                }
+            }
+        }
+    }
+
+    private Map<Integer, long[]> stampsByBucket(List<Person> persons) {
+        Map<Integer, List<Person>> buckets = new HashMap<>();
+        for (Person person : persons) {
+            buckets.computeIfAbsent(bucketOf(person.getName().fullName), bucket -> new ArrayList<>()).add(person);
+        }
+        Map<Integer, long[]> stamps = new HashMap<>();
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            stamps.put(bucket, stampsOf(buckets.getOrDefault(bucket, List.of())));
+        }
+        return stamps;
+    }
+
+    private static long[] stampsOf(List<Person> persons) {
+        return persons.stream().mapToLong(Person::getModificationStamp).toArray();
+    }
+
+    private int bucketOf(String name) {
+        return Math.floorMod(name.hashCode(), bucketCount);
+    }
+
+    static String studentShardName(int bucket) {
+        return String.format("students-%02d.json", bucket);
+    }
+
+    static String participationShardName(int bucket) {
+        return String.format("participation-%02d.json", bucket);
+    }
+
+    /**
+     * Reads the shard at {@code shardFile}.
+     * Returns {@code Optional.empty()} if the shard does not exist.
+     */
+    private static <T> Optional<T> readShard(Path shardFile, Class<T> shardType) throws DataLoadingException {
+        Optional<String> content = readShardContent(shardFile);
+        return content.isPresent() ? Optional.of(parseShard(shardFile, content.get(), shardType)) : Optional.empty();
+    }
+
+    private static Optional<String> readShardContent(Path shardFile) throws DataLoadingException {
+        if (!Files.exists(shardFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readString(shardFile, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warning("Error reading from shard " + shardFile + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static <T> T parseShard(Path shardFile, String content, Class<T> shardType)
+            throws DataLoadingException {
+        try {
+            return JsonUtil.fromJsonString(content, shardType);
+        } catch (IOException e) {
+            logger.warning("Error reading from shard " + shardFile + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Jackson-friendly index shard: the bucket count, the generation of the latest save and the file of each
+     * shard. Indexes written before students had positions also list the students' names in list order.
+     */
+    static class JsonShardIndex {
+        private final int bucketCount;
+        private final long generation;
+        private final Map<String, String> shards = new LinkedHashMap<>();
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        private final List<String> students = new ArrayList<>();
+
+        @JsonCreator
+        JsonShardIndex(@JsonProperty("bucketCount") int bucketCount,
+                       @JsonProperty("generation") long generation,
+                       @JsonProperty("shards") Map<String, String> shards,
+                       @JsonProperty("students") List<String> students) {
+            this.bucketCount = bucketCount;
+            this.generation = generation;
+            if (shards != null) {
+                this.shards.putAll(shards);
+            }
+            if (students != null) {
+                this.students.addAll(students);
+            }
+        }
+
+        /**
+         * Returns the name of the file holding the shard {@code shardName}. Indexes written before shards were
+         * kept in generations name no files, and each shard is in the file of its own name.
+         */
+        String fileOf(String shardName) {
+            return shards.getOrDefault(shardName, shardName);
+        }
+
+        /**
+         * Returns the names of the shards this index commits.
+         */
+        List<String> shardNames() {
+            if (!shards.isEmpty()) {
+                return new ArrayList<>(shards.keySet());
+            }
+            List<String> names = new ArrayList<>();
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                names.add(studentShardName(bucket));
+                names.add(participationShardName(bucket));
+            }
+            names.add(GROUPS_FILE);
+            names.add(REMINDERS_FILE);
+            return names;
+        }
+    }
+
+    /**
+     * Jackson-friendly shard of students, without their participation records, and the position of each student
+     * in the list.
+     */
+    static class JsonStudentShard {
+        private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+        private final List<Long> positions = new ArrayList<>();
+
+        @JsonCreator
+        JsonStudentShard(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                         @JsonProperty("positions") List<Long> positions) {
+            if (persons != null) {
+                this.persons.addAll(persons);
+            }
+            if (positions != null) {
+                this.positions.addAll(positions);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly shard of participation records, keyed by student name.
+     */
+    static class JsonParticipationShard {
+        private final Map<String, List<JsonAdaptedParticipationRecord>> participation = new LinkedHashMap<>();
+
+        @JsonCreator
+        JsonParticipationShard(@JsonProperty("participation")
+                               Map<String, List<JsonAdaptedParticipationRecord>> participation) {
+            if (participation != null) {
+                this.participation.putAll(participation);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly shard of groups.
+     */
+    static class JsonGroupShard {
+        private final List<JsonAdaptedGroup> groups = new ArrayList<>();
+
+        @JsonCreator
+        JsonGroupShard(@JsonProperty("groups") List<JsonAdaptedGroup> groups) {
+            if (groups != null) {
+                this.groups.addAll(groups);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly shard of reminders.
+     */
+    static class JsonReminderShard {
+        private final List<JsonAdaptedReminder> reminders = new ArrayList<>();
+
+        @JsonCreator
+        JsonReminderShard(@JsonProperty("reminders") List<JsonAdaptedReminder> reminders) {
+            if (reminders != null) {
+                this.reminders.addAll(reminders);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.DetailResidency;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * Snapshots skip the text parsing and field revalidation done for JSON files, which makes them
+ * much faster to load for large address books. Use {@link SnapshotConverter} to convert between formats.
+ * <p>
+ * The file is memory-mapped when read, and each student's homework and participation are only decoded
+ * when first accessed. Only the most recently used students keep them in memory; see {@link DetailResidency}.
+ * <p>
+ * A mapped file cannot be replaced or deleted on some platforms, e.g. Windows, so snapshots are written once
+ * and never changed: each save writes a new generation file, {@code FILE.genN}, and then commits it by atomically
+ * replacing {@code FILE} with a manifest that names it, followed by the {@code generationCount} previous
+ * generations. Reads fall back to a previous generation if the newest fails its checksum. Generation files no
+ * longer named by the manifest are deleted, or on a later save if they are still mapped.
+ */
+public class SnapshotAddressBookStorage implements AddressBookStorage {
+
+    /** File extension that selects this storage format for the data file. */
+    public static final String FILE_EXTENSION = ".snapshot";
+    /** Default number of students whose homework and participation are held in memory at once. */
+    public static final int DEFAULT_RESIDENT_DETAIL_LIMIT = 1000;
+    /** Default number of previous generations kept. */
+    public static final int DEFAULT_GENERATION_COUNT = 3;
+    /** First line of a manifest; the lines after it name the generation files, newest first. */
+    public static final String MANIFEST_HEADER = "ClassConnect snapshot manifest 1";
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotAddressBookStorage.class);
+    private static final String GENERATION_INFIX = ".gen";
+
+    private Path filePath;
+    private final int residentDetailLimit;
+    private final int generationCount;
+
+    public SnapshotAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_RESIDENT_DETAIL_LIMIT);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} whose loaded address books hold the homework and
+     * participation of at most {@code residentDetailLimit} unchanged students in memory at once.
+     */
+    public SnapshotAddressBookStorage(Path filePath, int residentDetailLimit) {
+        this(filePath, residentDetailLimit, DEFAULT_GENERATION_COUNT);
+    }
+
+    /**
+     * Similar to {@link #SnapshotAddressBookStorage(Path, int)}, but keeps {@code generationCount} previous
+     * generations.
+     */
+    public SnapshotAddressBookStorage(Path filePath, int residentDetailLimit, int generationCount) {
+        if (generationCount < 0) {
+            throw new IllegalArgumentException("Generation count cannot be negative: " + generationCount);
+        }
+        this.filePath = filePath;
+        this.residentDetailLimit = residentDetailLimit;
+        this.generationCount = generationCount;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a snapshot file rather than a JSON file.
+     */
+    public static boolean isSnapshotFile(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the generation file numbered {@code number} of the snapshot at {@code filePath}.
+     */
+    public static Path getGenerationPath(Path filePath, long number) {
+        return filePath.resolveSibling(filePath.getFileName() + GENERATION_INFIX + number);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (isSingleSnapshot(filePath)) {
+                // Read into memory rather than mapped, so that the next save can replace it with a manifest
+                return Optional.of(read(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+            }
+
+            IllegalValueException firstError = null;
+            for (Path generation : readManifest(filePath)) {
+                try {
+                    return Optional.of(read(map(generation)));
+                } catch (IllegalValueException e) {
+                    logger.warning("Snapshot generation " + generation + " could not be loaded: " + e.getMessage());
+                    firstError = firstError != null ? firstError : e;
+                } catch (NoSuchFileException e) {
+                    logger.warning("Snapshot generation " + generation + " is missing.");
+                    firstError = firstError != null ? firstError
+                            : new IllegalValueException("Missing snapshot generation " + generation, e);
+                }
+            }
+            throw firstError != null ? firstError : new IllegalValueException(SnapshotReader.MESSAGE_NOT_A_SNAPSHOT);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        return new SnapshotReader(buffer, new DetailResidency(residentDetailLimit)).read();
+    }
+
+    private static ByteBuffer map(Path generation) throws IOException {
+        try (FileChannel channel = FileChannel.open(generation, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed; persons decode their details from it lazily.
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Returns true if {@code filePath} holds a snapshot itself rather than a manifest, e.g. one written before
+     * snapshots were kept in generations.
+     */
+    private static boolean isSingleSnapshot(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] magic = in.readNBytes(Integer.BYTES);
+            return magic.length == Integer.BYTES && ByteBuffer.wrap(magic).getInt() == SnapshotWriter.MAGIC;
+        }
+    }
+
+    /**
+     * Returns the generation files named by the manifest at {@code filePath}, newest first.
+     *
+     * @throws IllegalValueException if {@code filePath} is not a manifest.
+     */
+    private static List<Path> readManifest(Path filePath) throws IOException, IllegalValueException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (CharacterCodingException e) {
+            throw new IllegalValueException(SnapshotReader.MESSAGE_NOT_A_SNAPSHOT, e);
+        }
+        if (lines.isEmpty() || !lines.get(0).equals(MANIFEST_HEADER)) {
+            throw new IllegalValueException(SnapshotReader.MESSAGE_NOT_A_SNAPSHOT);
+        }
+
+        List<Path> generations = new ArrayList<>();
+        for (String name : lines.subList(1, lines.size())) {
+            if (generationNumber(filePath, name) < 0) {
+                throw new IllegalValueException(SnapshotReader.MESSAGE_NOT_A_SNAPSHOT);
+            }
+            generations.add(filePath.resolveSibling(name));
+        }
+        return generations;
+    }
+
+    /**
+     * Returns the number of the generation file named {@code name} of the snapshot at {@code filePath}, or -1 if
+     * {@code name} does not name one.
+     */
+    private static long generationNumber(Path filePath, String name) {
+        String prefix = filePath.getFileName() + GENERATION_INFIX;
+        if (!name.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        List<Path> generations = new ArrayList<>(previousGenerations(filePath));
+        long number = generations.isEmpty()
+                ? 1
+                : generationNumber(filePath, generations.get(0).getFileName().toString()) + 1;
+
+        // Numbers only grow, so the new generation file is never one that is mapped
+        Path generation = getGenerationPath(filePath, number);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(generation))) {
+            new SnapshotWriter().write(addressBook, out);
+        }
+
+        generations.add(0, generation);
+        List<Path> kept = generations.subList(0, Math.min(generations.size(), generationCount + 1));
+        StringBuilder manifest = new StringBuilder(MANIFEST_HEADER).append('\n');
+        for (Path keptGeneration : kept) {
+            manifest.append(keptGeneration.getFileName()).append('\n');
+        }
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.writeString(tempFile, manifest, StandardCharsets.UTF_8);
+        FileUtil.replaceFile(tempFile, filePath);
+
+        deleteUnusedGenerations(filePath, kept);
+    }
+
+    /**
+     * Returns the generation files named by the manifest at {@code filePath}, or none if there is no valid manifest.
+     */
+    private static List<Path> previousGenerations(Path filePath) throws IOException {
+        if (!Files.exists(filePath) || isSingleSnapshot(filePath)) {
+            return List.of();
+        }
+        try {
+            return readManifest(filePath);
+        } catch (IllegalValueException e) {
+            logger.warning("Replacing " + filePath + " as it is not a snapshot manifest.");
+            return List.of();
+        }
+    }
+
+    /**
+     * Deletes the generation files of the snapshot at {@code filePath} other than {@code kept}. Files that cannot
+     * be deleted yet, e.g. because they are still mapped, are left for a later save.
+     */
+    private static void deleteUnusedGenerations(Path filePath, List<Path> kept) throws IOException {
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName() + GENERATION_INFIX + "*")) {
+            for (Path sibling : siblings) {
+                if (generationNumber(filePath, sibling.getFileName().toString()) < 0
+                        || kept.stream().anyMatch(keptGeneration -> keptGeneration.getFileName()
+                                .equals(sibling.getFileName()))) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(sibling);
+                } catch (IOException e) {
+                    logger.fine("Could not delete unused snapshot generation " + sibling + " yet: " + e);
+                }
+            }
+        }
+    }
+}
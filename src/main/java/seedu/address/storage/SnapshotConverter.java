@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts data files between the JSON format and the binary snapshot format.
+ * <p>
+ * Can be run from the command line:
+ * <pre>
+ *   java -cp classconnect.jar seedu.address.storage.SnapshotConverter to-snapshot data/classconnect.json out.snapshot
+ *   java -cp classconnect.jar seedu.address.storage.SnapshotConverter to-json data/classconnect.snapshot out.json
+ * </pre>
+ */
+public class SnapshotConverter {
+    public static final String MESSAGE_USAGE =
+            "Usage: SnapshotConverter (to-snapshot | to-json) SOURCE_FILE TARGET_FILE";
+    public static final String MESSAGE_MISSING_SOURCE = "Source file %s does not exist.";
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotConverter.class);
+
+    private SnapshotConverter() {
+    } // prevents instantiation
+
+    /**
+     * Reads the JSON data file at {@code jsonFile} and writes it as a snapshot to {@code snapshotFile}.
+     *
+     * @throws DataLoadingException if {@code jsonFile} is missing or cannot be loaded.
+     * @throws IOException if {@code snapshotFile} cannot be written.
+     */
+    public static void jsonToSnapshot(Path jsonFile, Path snapshotFile) throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = read(new JsonAddressBookStorage(jsonFile));
+        new SnapshotAddressBookStorage(snapshotFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Reads the snapshot at {@code snapshotFile} and writes it as a JSON data file to {@code jsonFile}.
+     *
+     * @throws DataLoadingException if {@code snapshotFile} is missing or cannot be loaded.
+     * @throws IOException if {@code jsonFile} cannot be written.
+     */
+    public static void snapshotToJson(Path snapshotFile, Path jsonFile) throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = read(new SnapshotAddressBookStorage(snapshotFile));
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+    }
+
+    private static ReadOnlyAddressBook read(AddressBookStorage source) throws DataLoadingException {
+        Path sourceFile = source.getAddressBookFilePath();
+        return source.readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new IOException(String.format(MESSAGE_MISSING_SOURCE, sourceFile))));
+    }
+
+    /**
+     * Entry point for command-line conversion. See the class documentation for usage.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        Path source = Paths.get(args[1]);
+        Path target = Paths.get(args[2]);
+        try {
+            switch (args[0]) {
+            case "to-snapshot":
+                jsonToSnapshot(source, target);
+                break;
+
+            case "to-json":
+                snapshotToJson(source, target);
+                break;
+
+            default:
+                System.err.println(MESSAGE_USAGE);
+                System.exit(2);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.severe("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+        logger.info("Converted " + source + " to " + target);
+    }
+}
@@ -0,0 +1,285 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.DetailLoader;
+import seedu.address.model.person.DetailResidency;
+import seedu.address.model.person.LessonTime;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.ParticipationHistory;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+import seedu.address.model.person.Phone;
+import seedu.address.model.reminder.Description;
+import seedu.address.model.reminder.DueDate;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.UnmodifiableHwReminder;
+import seedu.address.model.reminder.UnmodifiablePaymentReminder;
+
+/**
+ * Decodes a binary snapshot written by {@link SnapshotWriter} back into an {@link AddressBook}.
+ * <p>
+ * The checksum is verified before anything is decoded. Values in a snapshot with a matching checksum were
+ * validated when they were written, so they are wrapped with the model's {@code fromValidated} factories
+ * instead of being re-parsed.
+ * <p>
+ * Only the fixed-size part of each person is decoded up front. Strings, homework and participation are
+ * decoded from {@code buffer} on first access, and again after a {@link DetailResidency} releases them, so
+ * {@code buffer} must stay readable, and unchanged, for as long as the returned persons are in use.
+ */
+class SnapshotReader {
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a ClassConnect snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported snapshot version: %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Snapshot checksum does not match; file is corrupted.";
+    public static final String MESSAGE_TRUNCATED = "Snapshot ends unexpectedly; file is truncated.";
+
+    // Description string id, deadline epoch day and completion byte
+    private static final int HOMEWORK_ENTRY_BYTES = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+
+    private final ByteBuffer buffer;
+    private final DetailResidency residency;
+    private String[] strings;
+    private int[] stringOffsets;
+
+    /**
+     * Creates a reader for the snapshot in {@code buffer}. Persons read hold their homework and participation
+     * in memory under {@code residency}.
+     */
+    SnapshotReader(ByteBuffer buffer, DetailResidency residency) {
+        this.buffer = buffer;
+        this.residency = residency;
+    }
+
+    /**
+     * Verifies and decodes the snapshot.
+     *
+     * @throws IllegalValueException if the snapshot is malformed, truncated or fails its checksum.
+     */
+    AddressBook read() throws IllegalValueException {
+        try {
+            verifyHeaderAndChecksum();
+            readStringTable();
+            List<Person> persons = readPersons();
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            readGroups(addressBook, persons);
+            addressBook.setReminders(readReminders());
+            addressBook.sortReminder();
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    private void verifyHeaderAndChecksum() throws IllegalValueException {
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES + Integer.BYTES
+                || buffer.getInt(0) != SnapshotWriter.MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        short version = buffer.getShort(Integer.BYTES);
+        if (version != SnapshotWriter.VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int checksumPosition = buffer.limit() - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if ((int) crc.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        buffer.position(Integer.BYTES + Short.BYTES);
+        buffer.limit(checksumPosition);
+    }
+
+    /**
+     * Records where each string starts without decoding it. Strings are decoded by {@link #string(int)}.
+     */
+    private void readStringTable() {
+        int count = buffer.getInt();
+        strings = new String[count];
+        stringOffsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getInt();
+            stringOffsets[i] = buffer.position();
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    private String string(int id) {
+        String value = strings[id];
+        if (value == null) {
+            int offset = stringOffsets[id];
+            int length = buffer.getInt(offset - Integer.BYTES);
+            value = decodeString(offset, length);
+            strings[id] = value;
+        }
+        return value;
+    }
+
+    private String decodeString(int offset, int length) {
+        if (offset + length > buffer.limit()) {
+            throw new BufferUnderflowException();
+        }
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<Person> readPersons() {
+        int count = buffer.getInt();
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int recordLength = buffer.getInt();
+            int recordEnd = buffer.position() + recordLength;
+            persons.add(readPerson());
+            buffer.position(recordEnd);
+        }
+        return persons;
+    }
+
+    /**
+     * Decodes the fixed-size part of a person record. Homework and participation are decoded from the
+     * remainder of the record only when the person's details are first accessed.
+     */
+    private Person readPerson() {
+        Name name = Name.fromValidated(string(buffer.getInt()));
+        Phone phone = Phone.fromValidated(string(buffer.getInt()));
+
+        short paymentBits = buffer.getShort();
+        BitSet payments = new BitSet(12);
+        for (int month = 0; month < 12; month++) {
+            payments.set(month, (paymentBits & (1 << month)) != 0);
+        }
+
+        int lessonCount = buffer.getShort();
+        Set<LessonTime> lessonTimes = new HashSet<>();
+        for (int i = 0; i < lessonCount; i++) {
+            DayOfWeek day = DayOfWeek.of(buffer.get());
+            lessonTimes.add(new LessonTime(LocalTime.ofSecondOfDay(buffer.getShort() * 60L), day));
+        }
+
+        return new Person(name, phone, lessonTimes, payments, new StoredDetails(buffer.position()), residency);
+    }
+
+    /**
+     * Reads the homework and participation of a person from the remainder of its record.
+     */
+    private class StoredDetails implements DetailLoader {
+        private final int detailOffset;
+
+        StoredDetails(int detailOffset) {
+            this.detailOffset = detailOffset;
+        }
+
+        @Override
+        public PersonDetails get() {
+            ByteBuffer details = buffer.duplicate().position(detailOffset);
+
+            int homeworkCount = details.getInt();
+            List<Homework> homeworkList = new ArrayList<>(homeworkCount);
+            for (int i = 0; i < homeworkCount; i++) {
+                String description = string(details.getInt());
+                LocalDate deadline = LocalDate.ofEpochDay(details.getInt());
+                homeworkList.add(new Homework(description, deadline, details.get() != 0));
+            }
+
+            int participationCount = details.getInt();
+            List<ParticipationRecord> participation = new ArrayList<>(participationCount);
+            for (int i = 0; i < participationCount; i++) {
+                LocalDate date = LocalDate.ofEpochDay(details.getInt());
+                participation.add(new ParticipationRecord(date, details.get()));
+            }
+            return new PersonDetails(homeworkList, new ParticipationHistory(participation));
+        }
+
+        /**
+         * Homework entries have a fixed size, so this only reads the deadline and completion of each, and the
+         * description of those found.
+         */
+        @Override
+        public Optional<List<Homework>> findUndoneHomeworkDue(LocalDate from, LocalDate to) {
+            int homeworkCount = buffer.getInt(detailOffset);
+            List<Homework> found = new ArrayList<>();
+            for (int i = 0; i < homeworkCount; i++) {
+                int entry = detailOffset + Integer.BYTES + i * HOMEWORK_ENTRY_BYTES;
+                long epochDay = buffer.getInt(entry + Integer.BYTES);
+                boolean isDone = buffer.get(entry + 2 * Integer.BYTES) != 0;
+                if (!isDone && epochDay >= from.toEpochDay() && epochDay <= to.toEpochDay()) {
+                    found.add(new Homework(string(buffer.getInt(entry)), LocalDate.ofEpochDay(epochDay), false));
+                }
+            }
+            return Optional.of(found);
+        }
+    }
+
+    private void readGroups(AddressBook addressBook, List<Person> persons) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            GroupName name = GroupName.fromValidated(string(buffer.getInt()));
+            addressBook.addGroup(new Group(name));
+            int memberCount = buffer.getInt();
+            List<Person> members = new ArrayList<>(memberCount);
+            for (int j = 0; j < memberCount; j++) {
+                members.add(persons.get(buffer.getInt()));
+            }
+            if (!members.isEmpty()) {
+                addressBook.addMembers(name, members);
+            }
+        }
+    }
+
+    private List<Reminder> readReminders() throws IllegalValueException {
+        int count = buffer.getInt();
+        List<Reminder> reminders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte kind = buffer.get();
+            LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+            short minuteOfDay = buffer.getShort();
+            DueDate dueDate = minuteOfDay < 0
+                    ? DueDate.of(date)
+                    : DueDate.of(date.atTime(LocalTime.ofSecondOfDay(minuteOfDay * 60L)));
+            Description description = Description.fromValidated(string(buffer.getInt()));
+            reminders.add(toReminder(kind, dueDate, description));
+        }
+        return reminders;
+    }
+
+    private static Reminder toReminder(byte kind, DueDate dueDate, Description description)
+            throws IllegalValueException {
+        switch (kind) {
+        case SnapshotWriter.KIND_GENERAL:
+            return new Reminder(dueDate, description);
+
+        case SnapshotWriter.KIND_PAYMENT:
+            return UnmodifiablePaymentReminder.of(dueDate, description);
+
+        case SnapshotWriter.KIND_HOMEWORK:
+            return UnmodifiableHwReminder.of(dueDate, description);
+
+        default:
+            throw new IllegalValueException("Unknown reminder kind in snapshot: " + kind);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.LessonTime;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.DueDate;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.UnmodifiableReminder;
+
+/**
+ * Encodes a {@link ReadOnlyAddressBook} into the binary snapshot format read by {@link SnapshotReader}.
+ * <p>
+ * Layout (all integers big-endian):
+ * <pre>
+ *   header     : int MAGIC, short VERSION
+ *   strings    : int count, then count x (int byteLength, UTF-8 bytes)
+ *   persons    : int count, then count x (int byteLength, person record)
+ *   groups     : int count, then count x (int nameRef, int memberCount, memberCount x int personIndex)
+ *   reminders  : int count, then count x (byte kind, int epochDay, short minuteOfDay or -1, int descriptionRef)
+ *   trailer    : int CRC32 of every preceding byte
+ * </pre>
+ * A person record is {@code int nameRef, int phoneRef, short paymentBits,
+ * short lessonCount x (byte dayOfWeek, short minuteOfDay),
+ * int homeworkCount x (int descriptionRef, int epochDay, byte done),
+ * int participationCount x (int epochDay, byte score)}.
+ * All strings are stored once in the string table and referred to by index.
+ */
+class SnapshotWriter {
+    static final int MAGIC = 0x43435342; // "CCSB"
+    static final short VERSION = 1;
+
+    static final String MESSAGE_TOO_MANY_LESSON_TIMES = "%1$s has %2$d lesson times, more than a snapshot can hold";
+
+    static final byte KIND_GENERAL = 0;
+    static final byte KIND_PAYMENT = 1;
+    static final byte KIND_HOMEWORK = 2;
+
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * Writes {@code addressBook} to {@code out} as a checksummed snapshot. Does not close {@code out}.
+     */
+    void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        internStrings(addressBook);
+
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        writeStringTable(data);
+        Map<Person, Integer> personIndexes = writePersons(addressBook.getPersonList(), data);
+        writeGroups(addressBook.getGroups(), personIndexes, data);
+        writeReminders(addressBook.getReminderList(), data);
+
+        data.flush();
+        data.writeInt((int) checked.getChecksum().getValue());
+        data.flush();
+    }
+
+    private void internStrings(ReadOnlyAddressBook addressBook) {
+        for (Person person : addressBook.getPersonList()) {
+            intern(person.getName().fullName);
+            intern(person.getPhone().value);
+            for (Homework homework : person.getHomeworkList()) {
+                intern(homework.getDescription());
+            }
+        }
+        for (Group group : addressBook.getGroups()) {
+            intern(group.getName().toString());
+        }
+        for (Reminder reminder : addressBook.getReminderList()) {
+            intern(reminder.getDescription().toString());
+        }
+    }
+
+    private int intern(String value) {
+        Integer id = stringIds.get(value);
+        if (id == null) {
+            id = strings.size();
+            stringIds.put(value, id);
+            strings.add(value);
+        }
+        return id;
+    }
+
+    private void writeStringTable(DataOutputStream data) throws IOException {
+        data.writeInt(strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+    }
+
+    private Map<Person, Integer> writePersons(List<Person> persons, DataOutputStream data) throws IOException {
+        Map<Person, Integer> personIndexes = new IdentityHashMap<>();
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(128);
+        DataOutputStream record = new DataOutputStream(recordBytes);
+
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            personIndexes.put(person, personIndexes.size());
+            recordBytes.reset();
+            writePerson(person, record);
+            record.flush();
+            data.writeInt(recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+        return personIndexes;
+    }
+
+    private void writePerson(Person person, DataOutputStream record) throws IOException {
+        record.writeInt(stringIds.get(person.getName().fullName));
+        record.writeInt(stringIds.get(person.getPhone().value));
+
+        BitSet payments = person.getPaymentStatusBitSet();
+        short paymentBits = 0;
+        for (int month = 0; month < 12; month++) {
+            if (payments.get(month)) {
+                paymentBits |= (short) (1 << month);
+            }
+        }
+        record.writeShort(paymentBits);
+
+        Set<LessonTime> lessonTimes = person.getLessonTime();
+        if (lessonTimes.size() > Short.MAX_VALUE) {
+            throw new IOException(String.format(MESSAGE_TOO_MANY_LESSON_TIMES, person.getName(), lessonTimes.size()));
+        }
+        record.writeShort(lessonTimes.size());
+        for (LessonTime lessonTime : lessonTimes) {
+            record.writeByte(lessonTime.day.getValue());
+            record.writeShort(lessonTime.time.getHour() * 60 + lessonTime.time.getMinute());
+        }
+
+        List<Homework> homeworkList = person.getHomeworkList();
+        record.writeInt(homeworkList.size());
+        for (Homework homework : homeworkList) {
+            record.writeInt(stringIds.get(homework.getDescription()));
+            record.writeInt((int) homework.getDeadline().toEpochDay());
+            record.writeBoolean(homework.isDone());
+        }
+
+        List<ParticipationRecord> participation = person.getParticipation().asList();
+        record.writeInt(participation.size());
+        for (ParticipationRecord participationRecord : participation) {
+            record.writeInt((int) participationRecord.getDate().toEpochDay());
+            record.writeByte(participationRecord.getScore());
+        }
+    }
+
+    private void writeGroups(List<Group> groups, Map<Person, Integer> personIndexes, DataOutputStream data)
+            throws IOException {
+        data.writeInt(groups.size());
+        for (Group group : groups) {
+            data.writeInt(stringIds.get(group.getName().toString()));
+            List<Integer> members = new ArrayList<>();
+            for (Person member : group.getMembers()) {
+                Integer index = personIndexes.get(member);
+                if (index != null) {
+                    members.add(index);
+                }
+            }
+            data.writeInt(members.size());
+            for (int index : members) {
+                data.writeInt(index);
+            }
+        }
+    }
+
+    private void writeReminders(List<Reminder> reminders, DataOutputStream data) throws IOException {
+        data.writeInt(reminders.size());
+        for (Reminder reminder : reminders) {
+            data.writeByte(kindOf(reminder));
+            DueDate dueDate = reminder.getDueDate();
+            LocalDateTime dateTime = dueDate.toDateTime();
+            data.writeInt((int) dateTime.toLocalDate().toEpochDay());
+            data.writeShort(dueDate.isDateOnly() ? -1 : dateTime.getHour() * 60 + dateTime.getMinute());
+            data.writeInt(stringIds.get(reminder.getDescription().toString()));
+        }
+    }
+
+    private static byte kindOf(Reminder reminder) {
+        if (reminder.isModifiable()) {
+            return KIND_GENERAL;
+        }
+        return ((UnmodifiableReminder) reminder).isPaymentReminder() ? KIND_PAYMENT : KIND_HOMEWORK;
+    }
+}
@@ -23,6 +23,13 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Path getAddressBookFilePath();
 
+    /**
+     * Reads and saves address book data at {@code filePath} from now on, in the format given by its extension.
+     *
+     * @param isDataCompressed whether JSON data should be saved compressed.
+     */
+    void setAddressBookFilePath(Path filePath, boolean isDataCompressed);
+
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
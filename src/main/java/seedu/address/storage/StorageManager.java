@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -28,6 +30,25 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} matching the format of the data file at {@code filePath}:
+     * a binary snapshot if it has the {@link SnapshotAddressBookStorage#FILE_EXTENSION} extension, a directory of
+     * shards if it has the {@link ShardedAddressBookStorage#DIRECTORY_EXTENSION} extension, JSON otherwise.
+     * JSON is saved compressed if {@code isDataCompressed} is set.
+     * JSON data files keep checksummed previous generations; see {@link GenerationalAddressBookStorage}.
+     * Snapshots keep their own, as they must never be replaced while mapped.
+     */
+    public static AddressBookStorage createAddressBookStorage(Path filePath, boolean isDataCompressed) {
+        requireNonNull(filePath);
+        if (SnapshotAddressBookStorage.isSnapshotFile(filePath)) {
+            return new SnapshotAddressBookStorage(filePath);
+        }
+        if (ShardedAddressBookStorage.isShardDirectory(filePath)) {
+            return new ShardedAddressBookStorage(filePath);
+        }
+        return new GenerationalAddressBookStorage(new JsonAddressBookStorage(filePath, isDataCompressed));
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -53,6 +74,12 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public void setAddressBookFilePath(Path filePath, boolean isDataCompressed) {
+        logger.fine("Switching to data file: " + filePath);
+        addressBookStorage = createAddressBookStorage(filePath, isDataCompressed);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
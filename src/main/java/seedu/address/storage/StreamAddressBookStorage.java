@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a storage for {@link seedu.address.model.AddressBook} in a single data file, whose content can also
+ * be read and written as a stream, e.g. to compute its checksum as it passes.
+ */
+public interface StreamAddressBookStorage extends AddressBookStorage {
+
+    /**
+     * Returns AddressBook data read from {@code in}, which holds the content of a data file.
+     * Does not close {@code in}, and may stop reading before its end.
+     *
+     * @throws DataLoadingException if the content could not be read or is not valid data.
+     */
+    ReadOnlyAddressBook readAddressBook(InputStream in) throws DataLoadingException;
+
+    /**
+     * Writes the given {@link ReadOnlyAddressBook} to {@code out} as the content of a data file.
+     * Does not close {@code out}.
+     *
+     * @throws IOException if there was any problem writing to {@code out}.
+     */
+    void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException;
+
+}
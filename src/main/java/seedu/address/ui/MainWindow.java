@@ -28,6 +28,7 @@ import seedu.address.model.group.GroupName;
  */
 public class MainWindow extends UiPart<Stage> {
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading student data...";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -38,6 +39,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ReminderListPanel reminderListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -62,17 +64,18 @@ public class MainWindow extends UiPart<Stage> {
     private ComboBox<String> groupFilterBox;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, sized according to {@code guiSettings}.
+     * The window needs no {@code Logic} until {@link #fillInnerParts(Logic)}, so it can be built and shown while
+     * the data file is still loading.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(guiSettings);
 
         setAccelerators();
 
@@ -119,9 +122,21 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Shows a loading message in the result display until {@link #fillInnerParts(Logic)} is called.
+     */
+    void showLoading() {
+        resultDisplay = new ResultDisplay();
+        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+    }
+
+    /**
+     * Fills up all the remaining placeholders of this window with the data from {@code logic}.
      */
-    void fillInnerParts() {
+    void fillInnerParts(Logic logic) {
+        this.logic = logic;
+        resultDisplay.setFeedbackToUser("");
+
         seedu.address.ui.UiAttendanceAccess.install((name, date) ->
                 logic.peekModel().getAttendanceIndex().get(name, date).orElse(null), () ->
                 logic.peekModel().getAttendanceIndex().getCurrentUiDate());
@@ -133,10 +148,7 @@ public class MainWindow extends UiPart<Stage> {
         reminderListPanel = new ReminderListPanel(logic.getFilteredReminderList());
         reminderListPanelPlaceholder.getChildren().add(reminderListPanel.getRoot());
 
-        resultDisplay = new ResultDisplay();
-        resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -227,7 +239,9 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        if (logic != null) {
+            logic.setGuiSettings(guiSettings);
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -263,6 +277,7 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            statusBarFooter.setSaveLocation(logic.getAddressBookFilePath());
             refreshPanel();
 
             if (commandResult.isShowHelp()) {
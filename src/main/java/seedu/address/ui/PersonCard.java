@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
+import java.time.Month;
 import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import javafx.fxml.FXML;
@@ -15,6 +18,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 import seedu.address.model.group.GroupName;
@@ -156,7 +160,37 @@ public class PersonCard extends UiPart<Region> {
         title.getStyleClass().add("payment-status-title");
         paymentStatusContainer.getChildren().add(title);
 
-        HBox rectangles = person.getPaymentStatusRectangles();
+        HBox rectangles = createPaymentStatusRectangles(person);
         paymentStatusContainer.getChildren().add(rectangles);
     }
+
+    /**
+     * Creates a row with a column for each month, showing the month's name above a rectangle that is green if
+     * {@code person} has paid for that month, or red otherwise.
+     */
+    private static HBox createPaymentStatusRectangles(Person person) {
+        HBox container = new HBox(4);
+
+        for (Month month : Month.values()) {
+            VBox monthColumn = new VBox(3);
+            monthColumn.setAlignment(Pos.CENTER);
+
+            Text monthLabel = new Text(month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+            monthLabel.setStyle("-fx-font-family: \"Segoe UI\"; -fx-font-size: 16px; -fx-fill: white;");
+
+            Rectangle rect = new Rectangle(24, 24);
+            if (person.isPaidForMonth(month.getValue())) {
+                rect.setFill(Color.GREEN);
+            } else {
+                rect.setFill(Color.RED);
+            }
+            rect.setStroke(Color.BLACK);
+            rect.setStrokeWidth(1);
+
+            monthColumn.getChildren().addAll(monthLabel, rect);
+            container.getChildren().add(monthColumn);
+        }
+
+        return container;
+    }
 }
@@ -41,6 +41,12 @@ public class PersonListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
     class PersonListViewCell extends ListCell<Person> {
+        @Override
+        protected boolean isItemChanged(Person oldItem, Person newItem) {
+            // A changed student is a copy that may still be equal to the original, e.g. with other payments
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -8,7 +10,9 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfile;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -22,14 +26,17 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
-    private Logic logic;
+    private final CompletableFuture<Logic> logicFuture;
+    private final GuiSettings guiSettings;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} whose window is sized by {@code guiSettings} and shows a loading message until
+     * {@code logicFuture} completes.
      */
-    public UiManager(Logic logic) {
-        this.logic = logic;
+    public UiManager(CompletableFuture<Logic> logicFuture, GuiSettings guiSettings) {
+        this.logicFuture = logicFuture;
+        this.guiSettings = guiSettings;
     }
 
     @Override
@@ -40,11 +47,35 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.FXML_LOAD)) {
+                mainWindow = new MainWindow(primaryStage, guiSettings);
+            }
             mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            mainWindow.showLoading();
             primaryStage.setTitle("ClassConnect");
 
+        } catch (Throwable e) {
+            logger.severe(StringUtil.getDetails(e));
+            showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            return;
+        }
+
+        logicFuture.whenComplete((logic, error) -> Platform.runLater(() -> fillInnerParts(logic, error)));
+    }
+
+    private void fillInnerParts(Logic logic, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            showFatalErrorDialogAndShutdown("Fatal error during initializing", cause);
+            return;
+        }
+
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.FIRST_RENDER)) {
+            mainWindow.fillInnerParts(logic);
+            // Finishes after the events queued while filling the window have been handled
+            Platform.runLater(StartupProfile::finish);
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
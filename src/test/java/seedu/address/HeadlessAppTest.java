@@ -0,0 +1,96 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.LESSON_TIME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("classconnect.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void isHeadless() {
+        assertTrue(HeadlessApp.isHeadless("--config=config.json", HeadlessApp.HEADLESS_FLAG));
+        assertFalse(HeadlessApp.isHeadless("--config=config.json"));
+        assertFalse(HeadlessApp.isHeadless());
+    }
+
+    @Test
+    public void runCommands_allSucceed_resultsWrittenToOut() {
+        String commands = "# nightly job\n\n"
+                + AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY + "\n"
+                + "  " + ListCommand.COMMAND_WORD + "  \n";
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, runCommands(commands));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()));
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runCommands_commandFails_laterCommandsRun() {
+        String commands = "uicfhmowqewca\n"
+                + AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY + "\n";
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, runCommands(commands));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(String.format(HeadlessApp.MESSAGE_ERROR, MESSAGE_UNKNOWN_COMMAND) + System.lineSeparator(),
+                err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runCommands_exit_laterCommandsNotRun() {
+        String commands = ExitCommand.COMMAND_WORD + "\n"
+                + AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY + "\n";
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, runCommands(commands));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    private int runCommands(String commands) {
+        return HeadlessApp.runCommands(logic, new BufferedReader(new StringReader(commands)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+}
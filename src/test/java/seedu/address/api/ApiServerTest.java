@@ -0,0 +1,193 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.LESSON_TIME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("classconnect.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        apiServer = ApiServer.start(0, new LogicManager(model, storage), Runnable::run);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void getStudents_noKeyword_allStudents() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        assertEquals(model.getAddressBook().getPersonList().size(), parseList(response).size());
+    }
+
+    @Test
+    public void getStudents_keywords_matchingStudents() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH + "?keyword=Meier%20kurz");
+        assertEquals(200, response.statusCode());
+        // Benson Meier, Daniel Meier and Carl Kurz
+        assertEquals(3, parseList(response).size());
+        assertFalse(response.body().contains("paidMonths"));
+    }
+
+    @Test
+    public void getStudent_existingName_details() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH + "/benson%20%20MEIER");
+        assertEquals(200, response.statusCode());
+        Map<?, ?> student = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(BENSON.getName().fullName, student.get("name"));
+        assertEquals(BENSON.getPhone().value, student.get("phone"));
+        assertTrue(student.containsKey("paidMonths"));
+        assertTrue(student.containsKey("homework"));
+        assertTrue(student.containsKey("participation"));
+    }
+
+    @Test
+    public void getStudent_unknownName_notFound() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH + "/Nobody");
+        assertEquals(404, response.statusCode());
+        assertTrue(response.body().contains(String.format(ApiServer.MESSAGE_STUDENT_NOT_FOUND, "Nobody")));
+    }
+
+    @Test
+    public void getStudent_pathNotUnderStudents_notFound() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH + "XBenson%20Meier");
+        assertEquals(404, response.statusCode());
+        assertTrue(response.body().contains(
+                String.format(ApiServer.MESSAGE_NOT_FOUND, ApiServer.STUDENTS_PATH + "XBenson Meier")));
+    }
+
+    @Test
+    public void getReminders_allReminders() throws Exception {
+        HttpResponse<String> response = get(ApiServer.REMINDERS_PATH);
+        assertEquals(200, response.statusCode());
+        assertEquals(model.getAddressBook().getReminderList().size(), parseList(response).size());
+    }
+
+    @Test
+    public void postCommand_validCommand_executedAndSeenByLaterReads() throws Exception {
+        String command = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY;
+        HttpResponse<String> response = postCommand(command, "application/json");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("feedback"));
+        assertTrue(model.hasPerson(AMY));
+
+        HttpResponse<String> search = get(ApiServer.STUDENTS_PATH + "?keyword=Amy");
+        assertEquals(1, parseList(search).size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = postCommand("uicfhmowqewca", "application/json");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("error"));
+    }
+
+    @Test
+    public void postCommand_notJson_rejected() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, ListCommand.COMMAND_WORD, "text/plain");
+        assertEquals(415, response.statusCode());
+
+        response = post(ApiServer.COMMANDS_PATH, "{\"text\": \"list\"}", "application/json");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("command"));
+    }
+
+    @Test
+    public void request_wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+        assertEquals(405, post(ApiServer.STUDENTS_PATH, "{}", "application/json").statusCode());
+    }
+
+    @Test
+    public void isLoopbackHost() {
+        assertTrue(ApiServer.isLoopbackHost(null));
+        assertTrue(ApiServer.isLoopbackHost("localhost"));
+        assertTrue(ApiServer.isLoopbackHost("LOCALHOST:8765"));
+        assertTrue(ApiServer.isLoopbackHost("127.0.0.1:8765"));
+        assertTrue(ApiServer.isLoopbackHost("[::1]:8765"));
+
+        assertFalse(ApiServer.isLoopbackHost("evil.example.com"));
+        assertFalse(ApiServer.isLoopbackHost("localhost.evil.example.com:8765"));
+        assertFalse(ApiServer.isLoopbackHost("[::2]"));
+    }
+
+    @Test
+    public void getKeywords() {
+        assertEquals(Optional.empty(), ApiServer.getKeywords(null));
+        assertEquals(Optional.empty(), ApiServer.getKeywords("name=Alice&keyword=%20"));
+        assertEquals(Optional.of(List.of("Alice", "Bob", "9435")),
+                ApiServer.getKeywords("keyword=Alice+Bob&other=1&keyword=9435"));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uriOf(path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> postCommand(String command, String contentType) throws Exception {
+        return post(ApiServer.COMMANDS_PATH, JsonUtil.toJsonString(Map.of("command", command)), contentType);
+    }
+
+    private HttpResponse<String> post(String path, String body, String contentType) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uriOf(path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uriOf(String path) {
+        return URI.create("http://127.0.0.1:" + apiServer.getPort() + path);
+    }
+
+    private static List<?> parseList(HttpResponse<String> response) throws IOException {
+        return JsonUtil.fromJsonString(response.body(), List.class);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.CommandMetrics.CommandStats;
+import seedu.address.commons.core.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    @BeforeEach
+    public void setUp() {
+        CommandMetrics.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CommandMetrics.reset();
+    }
+
+    @Test
+    public void start_allPhasesEnded_countedAsSuccess() {
+        try (CommandMetrics.Sample sample = CommandMetrics.start("list")) {
+            sample.endPhase(Phase.PARSE);
+            sample.endPhase(Phase.EXECUTE);
+            sample.endPhase(Phase.SAVE);
+        }
+
+        List<CommandStats> commands = CommandMetrics.getCommands();
+        assertEquals(1, commands.size());
+        assertEquals(1, commands.get(0).getCount());
+        assertEquals(0, commands.get(0).getErrorCount());
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, commands.get(0).getLatencies(phase).getCount());
+        }
+    }
+
+    @Test
+    public void start_closedBeforeLastPhase_countedAsError() {
+        try (CommandMetrics.Sample sample = CommandMetrics.start("delete")) {
+            sample.endPhase(Phase.PARSE);
+        }
+        try (CommandMetrics.Sample sample = CommandMetrics.start("add")) {
+            // fails while parsing
+        }
+
+        List<CommandStats> commands = CommandMetrics.getCommands();
+        assertEquals("add", commands.get(0).getCommandWord());
+        assertEquals(1, commands.get(0).getErrorCount());
+        assertEquals(0, commands.get(0).getLatencies(Phase.PARSE).getCount());
+        assertEquals("delete", commands.get(1).getCommandWord());
+        assertEquals(1, commands.get(1).getErrorCount());
+        assertEquals(1, commands.get(1).getLatencies(Phase.PARSE).getCount());
+        assertEquals(0, commands.get(1).getLatencies(Phase.EXECUTE).getCount());
+    }
+
+    @Test
+    public void endPhase_outOfOrder_throwsIllegalStateException() {
+        try (CommandMetrics.Sample sample = CommandMetrics.start("list")) {
+            assertThrows(IllegalStateException.class, () -> sample.endPhase(Phase.EXECUTE));
+            sample.endPhase(Phase.PARSE);
+            assertThrows(IllegalStateException.class, () -> sample.endPhase(Phase.PARSE));
+        }
+    }
+
+    @Test
+    public void toLogLine_keyValuePairs() {
+        try (CommandMetrics.Sample sample = CommandMetrics.start("add")) {
+            sample.endPhase(Phase.PARSE);
+        }
+
+        String line = CommandMetrics.toLogLine();
+        assertTrue(line.startsWith("commands add_n=1 add_err=1"));
+        assertTrue(line.matches(".* add_parse_p50_ms=\\d+\\.\\d\\d add_parse_p99_ms=\\d+\\.\\d\\d"));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketOf_bucketsInOrder_noGaps() {
+        for (long nanos = 1; nanos < 1 << 20; nanos++) {
+            int bucket = LatencyHistogram.bucketOf(nanos);
+            assertTrue(bucket == LatencyHistogram.bucketOf(nanos - 1)
+                    || bucket == LatencyHistogram.bucketOf(nanos - 1) + 1);
+            assertTrue(nanos <= LatencyHistogram.highestValueIn(bucket));
+            assertTrue(nanos > LatencyHistogram.highestValueIn(bucket - 1));
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMaxNanos());
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 50_000_000 && median <= 50_000_000 * 1.04);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 99_000_000 && p99 <= 100_000_000);
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_outOfRange_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(LatencyHistogram.MAX_TRACKABLE_NANOS * 4);
+
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS * 4, histogram.getMaxNanos());
+        assertTrue(histogram.getValueAtPercentile(100) >= LatencyHistogram.MAX_TRACKABLE_NANOS);
+    }
+
+    @Test
+    public void getValueAtPercentile_empty_returnsZero() {
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(Double.NaN));
+    }
+}
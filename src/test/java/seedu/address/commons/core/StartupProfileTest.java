@@ -0,0 +1,71 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StartupProfile.PhaseStats;
+
+public class StartupProfileTest {
+
+    @BeforeEach
+    public void setUp() {
+        StartupProfile.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        StartupProfile.reset();
+    }
+
+    @Test
+    public void start_repeatedPhase_timesAddUp() {
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.CONFIG)) {
+            new StringBuilder("config").append(1);
+        }
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.PREFS)) {
+            new StringBuilder("prefs").append(2);
+        }
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.CONFIG)) {
+            new StringBuilder("config").append(3);
+        }
+
+        List<PhaseStats> phases = StartupProfile.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals(StartupProfile.CONFIG, phases.get(0).getName());
+        assertEquals(StartupProfile.PREFS, phases.get(1).getName());
+        assertTrue(phases.get(0).getMillis() >= 0);
+        assertEquals(-1, StartupProfile.getTimeToReadyMillis());
+    }
+
+    @Test
+    public void finish_laterPhasesNotRecorded() {
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.MODEL_INIT)) {
+            new StringBuilder("model");
+        }
+        StartupProfile.finish();
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.JSON_BIND)) {
+            new StringBuilder("after startup");
+        }
+
+        assertEquals(1, StartupProfile.getPhases().size());
+        assertTrue(StartupProfile.getTimeToReadyMillis() >= 0);
+    }
+
+    @Test
+    public void toLogLine_keyValuePairs() {
+        try (StartupProfile.Timer timer = StartupProfile.start(StartupProfile.REMINDER_SORT)) {
+            new StringBuilder("sort");
+        }
+        StartupProfile.finish();
+
+        String line = StartupProfile.toLogLine();
+        assertTrue(line.startsWith("startup ready_ms=" + StartupProfile.getTimeToReadyMillis()));
+        assertTrue(line.matches(".* reminder_sort_ms=\\d+\\.\\d.*"));
+    }
+}
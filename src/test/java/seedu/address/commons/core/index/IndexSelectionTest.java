@@ -0,0 +1,102 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static final IndexSelection SINGLE = IndexSelection.of(Index.fromOneBased(4));
+    private static final IndexSelection RANGE = IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(5));
+    private static final IndexSelection MIXED = IndexSelection.of(List.of(
+            IndexSelection.of(Index.fromOneBased(3)), RANGE, IndexSelection.of(Index.fromOneBased(1))));
+
+    @Test
+    public void ofRange_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexSelection.ofRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void of_emptyList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexSelection.of(List.of()));
+    }
+
+    @Test
+    public void getSingleIndex() {
+        assertEquals(Optional.of(Index.fromOneBased(4)), SINGLE.getSingleIndex());
+        assertEquals(Optional.of(Index.fromOneBased(4)),
+                IndexSelection.ofRange(Index.fromOneBased(4), Index.fromOneBased(4)).getSingleIndex());
+
+        assertEquals(Optional.empty(), RANGE.getSingleIndex());
+        assertEquals(Optional.empty(), MIXED.getSingleIndex());
+        assertEquals(Optional.empty(), IndexSelection.allShown().getSingleIndex());
+    }
+
+    @Test
+    public void findOutOfRange() {
+        assertEquals(Optional.empty(), MIXED.findOutOfRange(5));
+        assertEquals(Optional.of(Index.fromOneBased(5)), MIXED.findOutOfRange(4));
+        assertEquals(Optional.of(Index.fromOneBased(3)), MIXED.findOutOfRange(2));
+
+        // all shown is never out of range
+        assertEquals(Optional.empty(), IndexSelection.allShown().findOutOfRange(0));
+    }
+
+    @Test
+    public void getIndexes() {
+        // order kept, repeats removed
+        assertEquals(List.of(Index.fromOneBased(3), Index.fromOneBased(2), Index.fromOneBased(4),
+                Index.fromOneBased(5), Index.fromOneBased(1)), MIXED.getIndexes(5));
+
+        assertEquals(List.of(Index.fromOneBased(1), Index.fromOneBased(2)), IndexSelection.allShown().getIndexes(2));
+        assertEquals(List.of(), IndexSelection.allShown().getIndexes(0));
+
+        assertThrows(IllegalArgumentException.class, () -> RANGE.getIndexes(4));
+    }
+
+    @Test
+    public void getParts() {
+        assertEquals(List.of(IndexSelection.of(Index.fromOneBased(3)), RANGE, IndexSelection.of(Index.fromOneBased(1))),
+                MIXED.getParts());
+        assertEquals(List.of(IndexSelection.allShown()), IndexSelection.allShown().getParts());
+    }
+
+    @Test
+    public void toInputString() {
+        assertEquals("4", SINGLE.toInputString());
+        assertEquals("3,2-5,1", MIXED.toInputString());
+        assertEquals(IndexSelection.ALL_SHOWN, IndexSelection.allShown().toInputString());
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(RANGE.equals(IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(5))));
+        assertTrue(MIXED.equals(IndexSelection.of(MIXED.getParts())));
+
+        // same object -> returns true
+        assertTrue(SINGLE.equals(SINGLE));
+
+        // null -> returns false
+        assertFalse(SINGLE.equals(null));
+
+        // different types -> returns false
+        assertFalse(SINGLE.equals(Index.fromOneBased(4)));
+
+        // different values -> returns false
+        assertFalse(SINGLE.equals(IndexSelection.of(Index.fromOneBased(5))));
+        assertFalse(RANGE.equals(IndexSelection.allShown()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(IndexSelection.class.getCanonicalName() + "{indexes=3,2-5,1}", MIXED.toString());
+    }
+}
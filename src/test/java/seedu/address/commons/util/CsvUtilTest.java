@@ -0,0 +1,33 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_unquoted_splitAtSeparator() throws Exception {
+        assertEquals(List.of("Alex Yeoh", " 87438807", "1000 Mon", ""),
+                CsvUtil.splitLine("Alex Yeoh, 87438807,1000 Mon,", ','));
+        assertEquals(List.of(""), CsvUtil.splitLine("", ','));
+        assertEquals(List.of("a,b", "c"), CsvUtil.splitLine("a,b\tc", '\t'));
+    }
+
+    @Test
+    public void splitLine_quoted_separatorsAndQuotesKept() throws Exception {
+        assertEquals(List.of("Yeoh, Alex", "say \"hi\"", "x"),
+                CsvUtil.splitLine("\"Yeoh, Alex\", \"say \"\"hi\"\"\",x", ','));
+    }
+
+    @Test
+    public void splitLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitLine("\"Yeoh, Alex,87438807", ','));
+    }
+}
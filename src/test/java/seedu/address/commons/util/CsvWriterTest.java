@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void field_specialCharacters_quotedOnlyWhenNeeded() throws Exception {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out, ',');
+        writer.field("Alex Yeoh").field("Yeoh, Alex").field("say \"hi\"").field("");
+        writer.endRow();
+        writer.field("a\tb");
+        writer.endRow();
+
+        assertEquals("Alex Yeoh,\"Yeoh, Alex\",\"say \"\"hi\"\"\",\na\tb\n", out.toString());
+    }
+
+    @Test
+    public void field_writtenInParts_readBackBySplitLine() throws Exception {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out, '\t');
+        writer.startField().append("1000 Mon").append(";").append("1400 Wed").endField();
+        writer.startQuotedField().append("Essay \"draft\"").append("\tdone").endField();
+        writer.endRow();
+
+        String line = out.toString();
+        assertEquals(List.of("1000 Mon;1400 Wed", "Essay \"draft\"\tdone"),
+                CsvUtil.splitLine(line.substring(0, line.length() - 1), '\t'));
+    }
+
+    @Test
+    public void append_unquotedFieldNeedingQuotes_throwsIllegalArgumentException() throws Exception {
+        CsvWriter writer = new CsvWriter(new StringWriter(), ',');
+        writer.startField();
+        assertThrows(IllegalArgumentException.class, () -> writer.append("a,b"));
+    }
+
+    @Test
+    public void append_noFieldStarted_throwsIllegalStateException() {
+        CsvWriter writer = new CsvWriter(new StringWriter(), ',');
+        assertThrows(IllegalStateException.class, () -> writer.append("a"));
+        assertThrows(IllegalStateException.class, writer::endField);
+    }
+}
@@ -126,6 +126,39 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for collapseWhitespace --------------------------------------
+
+    @Test
+    public void collapseWhitespace() {
+        assertThrows(NullPointerException.class, () -> StringUtil.collapseWhitespace(null));
+
+        // nothing to collapse, same string returned
+        String collapsed = "aaa bbb";
+        assertTrue(collapsed == StringUtil.collapseWhitespace(collapsed));
+        assertEquals("", StringUtil.collapseWhitespace(""));
+        assertEquals("", StringUtil.collapseWhitespace(" \t\n "));
+
+        assertEquals("aaa bbb", StringUtil.collapseWhitespace("  aaa bbb\t"));
+        assertEquals("aaa bbb ccc", StringUtil.collapseWhitespace("aaa  bbb\t\r\nccc"));
+        assertEquals("aaa bbb", StringUtil.collapseWhitespace("aaa\tbbb"));
+
+        // other control characters are only removed at the ends, as String#trim() does
+        assertEquals("aaa\u0001bbb", StringUtil.collapseWhitespace("\u0001aaa\u0001bbb\u0001"));
+    }
+
+    //---------------- Tests for parseDigits --------------------------------------
+
+    @Test
+    public void parseDigits() {
+        assertEquals(2359, StringUtil.parseDigits("2359 mon", 0, 4));
+        assertEquals(7, StringUtil.parseDigits("2025-07-01", 5, 7));
+        assertEquals(0, StringUtil.parseDigits("abc", 1, 1)); // no digits
+
+        assertEquals(-1, StringUtil.parseDigits("12a4", 0, 4));
+        assertEquals(-1, StringUtil.parseDigits("-123", 0, 4));
+        assertEquals(-1, StringUtil.parseDigits("١٢", 0, 2)); // non-ASCII digits
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,29 +1,44 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.LESSON_TIME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.LESSON_TIME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_2;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKSPACE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.CommandMetrics;
+import seedu.address.commons.core.CommandMetrics.CommandStats;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.WorkspaceAddCommand;
+import seedu.address.logic.commands.WorkspaceSwitchCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -31,6 +46,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.GenerationalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -85,6 +101,112 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommands_previousDataFileKept() throws Exception {
+        Path filePath = temporaryFolder.resolve("generations.json");
+        model.setAddressBookFilePath(filePath);
+        logic = new LogicManager(model, new StorageManager(
+                new GenerationalAddressBookStorage(new JsonAddressBookStorage(filePath)),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY);
+
+        for (int i = 0; i <= GenerationalAddressBookStorage.DEFAULT_GENERATION_COUNT; i++) {
+            logic.execute(ListCommand.COMMAND_WORD);
+            logic.execute(StatsCommand.COMMAND_WORD + " commands");
+        }
+
+        JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(filePath);
+        Path previousFile = GenerationalAddressBookStorage.getGenerationPath(filePath, 1);
+        assertTrue(plainStorage.readAddressBook(previousFile).get().getPersonList().isEmpty());
+        assertEquals(1, plainStorage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void execute_workspaceSwitch_dataOfWorkspaceOpened() throws Exception {
+        Path defaultFile = temporaryFolder.resolve("classconnect.json");
+        Path otherFile = temporaryFolder.resolve("other.json");
+        model.setAddressBookFilePath(defaultFile);
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(defaultFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY);
+        logic.execute(WorkspaceAddCommand.COMMAND_WORD + " " + PREFIX_WORKSPACE + "other " + PREFIX_FILE + otherFile);
+
+        // new workspace -> starts empty, with no change to undo
+        logic.execute(WorkspaceSwitchCommand.COMMAND_WORD + " " + PREFIX_WORKSPACE + "other");
+        assertEquals(otherFile, logic.getAddressBookFilePath());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        assertFalse(model.canUndoAddressBook());
+        assertTrue(Files.exists(otherFile));
+
+        // previous workspace -> its data is back
+        logic.execute(WorkspaceSwitchCommand.COMMAND_WORD + " " + PREFIX_WORKSPACE
+                + WorkspaceAddCommand.DEFAULT_WORKSPACE_NAME);
+        assertEquals(defaultFile, logic.getAddressBookFilePath());
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(AMY.getName(), model.getFilteredPersonList().get(0).getName());
+    }
+
+    @Test
+    public void execute_workspaceSwitchedBack_keptInMemory() throws Exception {
+        Path defaultFile = temporaryFolder.resolve("classconnect.json");
+        Path otherFile = temporaryFolder.resolve("other.json");
+        model.setAddressBookFilePath(defaultFile);
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(defaultFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic.execute(WorkspaceAddCommand.COMMAND_WORD + " " + PREFIX_WORKSPACE + "other " + PREFIX_FILE + otherFile);
+        logic.execute(WorkspaceSwitchCommand.COMMAND_WORD + " " + PREFIX_WORKSPACE + "other");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY);
+        logic.execute(WorkspaceSwitchCommand.COMMAND_WORD + " " + PREFIX_WORKSPACE
+                + WorkspaceAddCommand.DEFAULT_WORKSPACE_NAME);
+
+        // the data file is not read again
+        Files.delete(otherFile);
+        logic.execute(WorkspaceSwitchCommand.COMMAND_WORD + " " + PREFIX_WORKSPACE + "other");
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertTrue(Files.exists(otherFile));
+    }
+
+    @Test
+    public void execute_commandsTimedByCommandWord() throws Exception {
+        long listRuns = getRuns(ListCommand.COMMAND_WORD);
+        long unknownRuns = getRuns(CommandMetrics.UNKNOWN_COMMAND);
+        logic.execute("LIST");
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(listRuns + 1, getRuns(ListCommand.COMMAND_WORD));
+        assertEquals(unknownRuns + 1, getRuns(CommandMetrics.UNKNOWN_COMMAND));
+    }
+
+    private static long getRuns(String commandWord) {
+        return CommandMetrics.getCommands().stream()
+                .filter(stats -> stats.getCommandWord().equals(commandWord))
+                .mapToLong(CommandStats::getCount)
+                .sum();
+    }
+
+    @Test
+    public void execute_runScript_runsInCommandTransaction() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY,
+                AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + LESSON_TIME_DESC_BOB));
+        logic.execute(RunScriptCommand.COMMAND_WORD + " " + PREFIX_FILE + script);
+        assertEquals(2, model.getFilteredPersonList().size());
+
+        // the script and the command running it are undone as one change
+        model.undoAddressBook();
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        assertFalse(model.canUndoAddressBook());
+
+        // a failing script leaves no changes behind
+        Files.write(script, List.of(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LESSON_TIME_DESC_AMY,
+                DeleteCommand.COMMAND_WORD + " " + PREFIX_INDEX + "9"));
+        assertThrows(CommandException.class, () -> logic.execute(RunScriptCommand.COMMAND_WORD + " "
+                + PREFIX_FILE + script));
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        assertFalse(model.canUndoAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -15,10 +15,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -97,6 +100,55 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_indexRange_deletedInOneChange() {
+        List<Person> personsToDelete = List.of(model.getFilteredPersonList().get(1),
+                model.getFilteredPersonList().get(2), model.getFilteredPersonList().get(0));
+        IndexSelection selection = IndexSelection.of(List.of(IndexSelection.ofRange(INDEX_SECOND_PERSON,
+                Index.fromOneBased(3)), IndexSelection.of(INDEX_FIRST_PERSON)));
+        DeleteCommand deleteCommand = new DeleteCommand(selection);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3,
+                personsToDelete.get(0).getName() + ", " + personsToDelete.get(1).getName() + ", "
+                        + personsToDelete.get(2).getName());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(personsToDelete);
+        expectedModel.refreshReminders();
+
+        AtomicInteger changes = new AtomicInteger();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c -> changes.incrementAndGet());
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void execute_allShownFilteredList_deletesShownOnly() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Person personToDelete = model.getFilteredPersonList().get(0);
+        DeleteCommand deleteCommand = new DeleteCommand(IndexSelection.allShown());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(personToDelete));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+        expectedModel.refreshReminders();
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_indexRangeOutOfBounds_nothingDeleted() {
+        int size = model.getFilteredPersonList().size();
+        IndexSelection selection = IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(size + 2));
+
+        assertCommandFailure(new DeleteCommand(selection), model,
+                String.format(MESSAGE_OUT_OF_BOUNDS_DELETE_INDEX, size + 1, size));
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -123,7 +175,8 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + Optional.of(targetIndex) + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndexes="
+                + Optional.of(IndexSelection.of(targetIndex)) + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -0,0 +1,145 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Column;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    private static final GroupName SEC_3 = GroupName.of("Sec 3");
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+    private Person alex;
+    private Person bernice;
+
+    private void addStudents() {
+        alex = new PersonBuilder().withName("Yeoh, Alex").withPhone("87438807")
+                .withLessonTime("1000 Mon").build()
+                .withPaymentStatus(1, true)
+                .withPaymentStatus(3, true)
+                .withHomework(new Homework("Essay \"draft\"", LocalDate.of(2025, 10, 27)).withDone(true))
+                .withHomework(new Homework("Worksheet 1", LocalDate.of(2025, 11, 3)))
+                .withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 3))
+                .withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 26), 5));
+        bernice = new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+                .withLessonTime("1400 Wed").build();
+        model.addPerson(alex);
+        model.addPerson(bernice);
+        model.createGroup(SEC_3);
+        model.addToGroup(SEC_3, List.of(alex));
+    }
+
+    @Test
+    public void execute_allColumns_studentsWritten() throws Exception {
+        addStudents();
+        Path file = testFolder.resolve("out/students.csv");
+
+        CommandResult result = new ExportCommand(file, List.of(), Optional.empty()).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, file), result.getFeedbackToUser());
+        assertEquals(List.of(
+                "name,phone,lessons,groups,payments,homework,participation",
+                "\"Yeoh, Alex\",87438807,1000 Mon,Sec 3,101000000000,"
+                        + "\"Essay \"\"draft\"\" (due 2025-10-27, done); Worksheet 1 (due 2025-11-03, not done)\","
+                        + "2025-09-19:3;2025-09-26:5",
+                "Bernice Yu,99272758,1400 Wed,,000000000000,,"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_tsvWithColumnsAndGroup_onlyGroupMembersWritten() throws Exception {
+        addStudents();
+        Path file = testFolder.resolve("billing.TSV");
+
+        CommandResult result = new ExportCommand(file, List.of(Column.PAYMENTS, Column.NAME), Optional.of(SEC_3))
+                .execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), result.getFeedbackToUser());
+        assertEquals(List.of("payments\tname", "101000000000\tYeoh, Alex"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_filteredList_onlyDisplayedStudentsWritten() throws Exception {
+        addStudents();
+        model.updateFilteredPersonList(new StudentFieldsContainsKeywordsPredicate(List.of("bernice")));
+        Path file = testFolder.resolve("search.csv");
+
+        new ExportCommand(file, List.of(Column.NAME), Optional.empty()).execute(model);
+
+        assertEquals(List.of("name", "Bernice Yu"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_exportedFile_importedIntoEmptyList() throws Exception {
+        addStudents();
+        Path file = testFolder.resolve("roundtrip.csv");
+        new ExportCommand(file, List.of(Column.NAME, Column.PHONE, Column.LESSONS, Column.GROUPS, Column.PAYMENTS),
+                Optional.empty()).execute(model);
+
+        Model other = new ModelManager(new AddressBook(), new UserPrefs());
+        new ImportCommand(file).execute(other);
+
+        assertEquals(2, other.getFilteredPersonList().size());
+        Person imported = other.getFilteredPersonList().get(0);
+        assertEquals(alex.getName(), imported.getName());
+        assertTrue(imported.isPaidForMonth(3));
+        assertFalse(imported.isPaidForMonth(2));
+        assertEquals(List.of(SEC_3), List.copyOf(other.getGroupsOf(imported)));
+    }
+
+    @Test
+    public void execute_groupNotFound_throwsCommandException() {
+        addStudents();
+        GroupName missing = GroupName.of("Sec 4");
+        assertCommandFailure(new ExportCommand(testFolder.resolve("out.csv"), List.of(), Optional.of(missing)),
+                model, String.format(ExportCommand.MESSAGE_GROUP_NOT_FOUND, missing));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("a.csv"), List.of(), Optional.empty());
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("a.csv"), List.of(Column.values()),
+                Optional.empty())));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different columns -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("a.csv"), List.of(Column.NAME),
+                Optional.empty())));
+
+        // different group -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("a.csv"), List.of(), Optional.of(SEC_3))));
+    }
+}
@@ -16,7 +16,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -172,6 +174,45 @@ public class GroupAddCommandTest {
         assertEquals(Set.of(1, 2), model.getGroupMembersIndexZero());
     }
 
+    @Test
+    public void execute_ranges_reportsWholeInvalidRange() throws Exception {
+        ModelStubAccepting model = new ModelStubAccepting();
+        GroupName g = GroupName.of("Ranges");
+        model.createGroup(g);
+
+        // Pre-add #2 (Bernice)
+        new GroupAddCommand(g, List.of(Index.fromOneBased(2))).execute(model);
+
+        // Attempt to add: [1-2 (new and already), 2-3 (overlap and new), 3-9 (invalid)]
+        GroupAddCommand cmd = new GroupAddCommand(g, IndexSelection.of(List.of(
+                IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(2)),
+                IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(3)),
+                IndexSelection.ofRange(Index.fromOneBased(3), Index.fromOneBased(9)))));
+
+        CommandResult result = cmd.execute(model);
+
+        String expected = String.join("\n",
+                String.format(GroupAddCommand.MESSAGE_ADDED_FMT, 2, g),
+                String.format(GroupAddCommand.MESSAGE_ALREADY_IN_GROUP_FMT, "Bernice Yu"),
+                String.format(GroupAddCommand.MESSAGE_INVALID_INDICES_FMT, "i/3-9")
+        );
+
+        assertEquals(expected, result.getFeedbackToUser());
+        assertEquals(Set.of(0, 1, 2), model.getGroupMembersIndexZero());
+    }
+
+    @Test
+    public void execute_allShown_addsEveryone() throws Exception {
+        ModelStubAccepting model = new ModelStubAccepting();
+        GroupName g = GroupName.of("Everyone");
+        model.createGroup(g);
+
+        CommandResult result = new GroupAddCommand(g, IndexSelection.allShown()).execute(model);
+
+        assertEquals(String.format(GroupAddCommand.MESSAGE_ADDED_FMT, 3, g), result.getFeedbackToUser());
+        assertEquals(Set.of(0, 1, 2), model.getGroupMembersIndexZero());
+    }
+
     /**
      * Minimal model stub that accepts group operations and holds a small person list.
      */
@@ -326,6 +367,16 @@ public class GroupAddCommandTest {
         public void setAddressBook(ReadOnlyAddressBook addressBook) {
         }
 
+        @Override
+        public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook addressBook) {
+            return getAddressBook();
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            return null;
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return null;
@@ -340,14 +391,60 @@ public class GroupAddCommandTest {
         public void deletePerson(Person target) {
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+        }
+
         @Override
         public void addPerson(Person person) {
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        }
+
+        @Override
+        public void commitAddressBook() {
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public void undoAddressBook() {
+        }
+
+        @Override
+        public void redoAddressBook() {
+        }
+
+        @Override
+        public void beginTransaction() {
+        }
+
+        @Override
+        public void commitTransaction() {
+        }
+
+        @Override
+        public void rollbackTransaction() {
+        }
+
         @Override
         public void addReminder(Reminder reminder) {
             throw new AssertionError("This method should not be called.");
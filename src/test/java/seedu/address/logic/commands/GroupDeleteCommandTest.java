@@ -14,6 +14,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -149,6 +150,16 @@ public class GroupDeleteCommandTest {
         public void setAddressBook(ReadOnlyAddressBook addressBook) {
         }
 
+        @Override
+        public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook addressBook) {
+            return getAddressBook();
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            return null;
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return null;
@@ -163,14 +174,60 @@ public class GroupDeleteCommandTest {
         public void deletePerson(Person target) {
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+        }
+
         @Override
         public void addPerson(Person person) {
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        }
+
+        @Override
+        public void commitAddressBook() {
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public void undoAddressBook() {
+        }
+
+        @Override
+        public void redoAddressBook() {
+        }
+
+        @Override
+        public void beginTransaction() {
+        }
+
+        @Override
+        public void commitTransaction() {
+        }
+
+        @Override
+        public void rollbackTransaction() {
+        }
+
         @Override
         public void addReminder(Reminder reminder) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,149 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validAndInvalidLines_validStudentsImported() throws Exception {
+        Path file = write("students.csv",
+                "name,phone,lesson times,group,payments",
+                "James Ho,98765432,1000 Mon;1400 Wed,Sec 3,110000000000",
+                "\"Yeoh, Alex\",87438807,1000 Sat",
+                "Roy Balakrishnan,1234,1000 Sat",
+                "",
+                "alice pauline,94351253,1000 Sat");
+        int initialSize = model.getFilteredPersonList().size();
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED, 2, String.join("\n",
+                        String.format(ImportCommand.MESSAGE_LINE_ERROR, 4, Phone.MESSAGE_CONSTRAINTS),
+                        String.format(ImportCommand.MESSAGE_LINE_ERROR, 6,
+                                String.format(ImportCommand.MESSAGE_DUPLICATE_STUDENT, "Alice Pauline"))));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(initialSize + 2, model.getFilteredPersonList().size());
+
+        Person james = model.getFilteredPersonList().get(initialSize);
+        assertEquals("James Ho", james.getName().fullName);
+        assertEquals(2, james.getLessonTime().size());
+        assertTrue(james.isPaidForMonth(1) && james.isPaidForMonth(2));
+        assertFalse(james.isPaidForMonth(3));
+        assertEquals(Set.of(GroupName.of("Sec 3")), model.getGroupsOf(james));
+        assertEquals("Yeoh, Alex", model.getFilteredPersonList().get(initialSize + 1).getName().fullName);
+    }
+
+    @Test
+    public void execute_invalidPayments_lineSkipped() throws Exception {
+        Path file = write("payments.csv",
+                "James Ho,98765432,1000 Mon,,11000000000",
+                "Yeoh Alex,87438807,1000 Sat,,11000000000x",
+                "Roy Balakrishnan,92624417,1000 Sat,,110000000200");
+        int initialSize = model.getFilteredPersonList().size();
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 0, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED, 3, String.join("\n",
+                        String.format(ImportCommand.MESSAGE_LINE_ERROR, 1, ImportCommand.MESSAGE_INVALID_PAYMENTS),
+                        String.format(ImportCommand.MESSAGE_LINE_ERROR, 2, ImportCommand.MESSAGE_INVALID_PAYMENTS),
+                        String.format(ImportCommand.MESSAGE_LINE_ERROR, 3, ImportCommand.MESSAGE_INVALID_PAYMENTS))),
+                feedback);
+        assertEquals(initialSize, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_manyStudents_addedInOneChange() throws Exception {
+        int count = 5000;
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add(studentName(i) + "," + (90000000 + i) + ",1000 Mon");
+        }
+        Path file = testFolder.resolve("many.csv");
+        Files.write(file, lines);
+        int initialSize = model.getFilteredPersonList().size();
+        AtomicInteger changes = new AtomicInteger();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c -> changes.incrementAndGet());
+
+        new ImportCommand(file).execute(model);
+
+        assertEquals(1, changes.get());
+        assertEquals(initialSize + count, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidLines_reportTruncated() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 3; i++) {
+            lines.add("Invalid Student");
+        }
+        Path file = testFolder.resolve("invalid.csv");
+        Files.write(file, lines);
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_SKIPPED, 3)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"))));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+
+    /**
+     * Returns a distinct name made of letters only, as names cannot contain digits.
+     */
+    private static String studentName(int i) {
+        StringBuilder suffix = new StringBuilder();
+        do {
+            suffix.append((char) ('a' + i % 26));
+            i /= 26;
+        } while (i > 0);
+        return "Student " + suffix;
+    }
+}
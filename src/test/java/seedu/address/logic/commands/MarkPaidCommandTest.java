@@ -3,16 +3,20 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_OUT_OF_BOUNDS_DELETE_INDEX;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.model.util.SampleDataUtil.getMonthName;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -70,8 +74,7 @@ public class MarkPaidCommandTest {
 
     @Test
     public void execute_alreadyPaid_throwsCommandException() throws Exception {
-        Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        personToMark.setPaymentStatus(6, true);
+        Person personToMark = setPaymentStatus(model, INDEX_FIRST_PERSON.getZeroBased(), 6, true);
 
         MarkPaidCommand markPaidCommand = new MarkPaidCommand(INDEX_FIRST_PERSON, 6);
 
@@ -85,11 +88,10 @@ public class MarkPaidCommandTest {
     public void execute_allMonths_success() throws Exception {
         for (int month = 1; month <= 12; month++) {
             Model testModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-            Person personToMark = testModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
             MarkPaidCommand markPaidCommand = new MarkPaidCommand(INDEX_FIRST_PERSON, month);
 
             markPaidCommand.execute(testModel);
-            assertTrue(personToMark.isPaidForMonth(month));
+            assertTrue(testModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).isPaidForMonth(month));
 
             int currentMonth = LocalDate.now().getMonth().getValue();
             int expectedSize = 11;
@@ -111,7 +113,8 @@ public class MarkPaidCommandTest {
 
         MarkPaidCommand markPaidCommand = new MarkPaidCommand(INDEX_FIRST_PERSON, currentMonth);
         markPaidCommand.execute(testModel);
-        assertTrue(personToMark.isPaidForMonth(currentMonth));
+        assertTrue(testModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())
+                .isPaidForMonth(currentMonth));
         assertFalse(testModel.getFilteredReminderList().contains(reminder));
     }
 
@@ -130,6 +133,46 @@ public class MarkPaidCommandTest {
         assertFalse(testModel.getFilteredReminderList().contains(reminder));
     }
 
+    @Test
+    public void execute_indexRange_marksUnpaidAndSkipsPaid() throws Exception {
+        setPaymentStatus(model, 0, 3, false);
+        Person second = setPaymentStatus(model, 1, 3, true);
+        setPaymentStatus(model, 2, 3, false);
+
+        IndexSelection selection = IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(3));
+        AtomicInteger changes = new AtomicInteger();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c -> changes.incrementAndGet());
+        CommandResult result = new MarkPaidCommand(selection, 3).execute(model);
+
+        // both students are marked in a single change to the list
+        assertEquals(1, changes.get());
+        assertEquals(String.format(MarkPaidCommand.MESSAGE_MARK_ALL_PAID_SUCCESS, 2, "March")
+                + String.format(MarkPaidCommand.MESSAGE_SKIPPED_ALREADY_PAID, second.getName().fullName),
+                result.getFeedbackToUser());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(model.getFilteredPersonList().get(i).isPaidForMonth(3));
+        }
+    }
+
+    @Test
+    public void execute_allShownAlreadyPaid_throwsCommandException() {
+        for (int i = 0; i < model.getFilteredPersonList().size(); i++) {
+            setPaymentStatus(model, i, 3, true);
+        }
+
+        assertCommandFailure(new MarkPaidCommand(IndexSelection.allShown(), 3), model,
+                String.format(MarkPaidCommand.MESSAGE_ALL_ALREADY_PAID, "March"));
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_throwsCommandException() {
+        int size = model.getFilteredPersonList().size();
+        IndexSelection selection = IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(size + 1));
+
+        assertCommandFailure(new MarkPaidCommand(selection, 3), model,
+                String.format(MESSAGE_OUT_OF_BOUNDS_DELETE_INDEX, size + 1, size));
+    }
+
     @Test
     public void equals() {
         MarkPaidCommand markPaidFirst = new MarkPaidCommand(INDEX_FIRST_PERSON, 5);
@@ -148,5 +191,19 @@ public class MarkPaidCommandTest {
         assertFalse(markPaidFirst.equals(markPaidSecond));
 
         assertFalse(markPaidFirst.equals(markPaidDifferentMonth));
+
+        assertTrue(markPaidFirst.equals(new MarkPaidCommand(IndexSelection.of(INDEX_FIRST_PERSON), 5)));
+        assertFalse(markPaidFirst.equals(new MarkPaidCommand(IndexSelection.allShown(), 5)));
+    }
+
+    /**
+     * Replaces the shown person at {@code index} in {@code model} by a copy with the payment status for
+     * {@code month} set to {@code isPaid}, and returns the copy.
+     */
+    private static Person setPaymentStatus(Model model, int index, int month, boolean isPaid) {
+        Person person = model.getFilteredPersonList().get(index);
+        Person updatedPerson = person.withPaymentStatus(month, isPaid);
+        model.setPerson(person, updatedPerson);
+        return updatedPerson;
     }
 }
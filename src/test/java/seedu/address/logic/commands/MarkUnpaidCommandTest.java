@@ -9,10 +9,12 @@ import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -32,9 +34,8 @@ public class MarkUnpaidCommandTest {
                 .withPhone("94351253")
                 .withLessonTime("1000 Sat")
                 .withPaymentStatus("111111111111")
-                .build();
-
-        paidAlice.setPaymentStatus(5, true);
+                .build()
+                .withPaymentStatus(5, true);
 
         Model model = new ModelManager();
         model.addPerson(paidAlice);
@@ -71,9 +72,7 @@ public class MarkUnpaidCommandTest {
 
     @Test
     public void execute_alreadyUnpaid_throwsCommandException() throws Exception {
-        Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-
-        personToMark.setPaymentStatus(6, false);
+        Person personToMark = setPaymentStatus(model, INDEX_FIRST_PERSON.getZeroBased(), 6, false);
 
         MarkUnpaidCommand markUnpaidCommand = new MarkUnpaidCommand(INDEX_FIRST_PERSON, 6);
 
@@ -87,15 +86,13 @@ public class MarkUnpaidCommandTest {
     public void execute_allMonths_success() throws Exception {
         for (int month = 1; month <= 12; month++) {
             Model testModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-            Person personToMark = testModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-
-            personToMark.setPaymentStatus(month, true);
+            setPaymentStatus(testModel, INDEX_FIRST_PERSON.getZeroBased(), month, true);
             testModel.refreshReminders();
 
             MarkUnpaidCommand markUnpaidCommand = new MarkUnpaidCommand(INDEX_FIRST_PERSON, month);
 
             markUnpaidCommand.execute(testModel);
-            assertFalse(personToMark.isPaidForMonth(month));
+            assertFalse(testModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).isPaidForMonth(month));
             assertEquals(11, testModel.getFilteredReminderList().size());
         }
     }
@@ -103,10 +100,8 @@ public class MarkUnpaidCommandTest {
     @Test
     public void execute_addsReminder() throws CommandException {
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-        Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-
         int currentMonth = LocalDate.now().getMonth().getValue();
-        personToMark.setPaymentStatus(currentMonth, true);
+        Person personToMark = setPaymentStatus(model, INDEX_FIRST_PERSON.getZeroBased(), currentMonth, true);
         model.refreshReminders();
 
         MarkUnpaidCommand command = new MarkUnpaidCommand(INDEX_FIRST_PERSON, currentMonth);
@@ -119,6 +114,32 @@ public class MarkUnpaidCommandTest {
         assertTrue(model.getFilteredReminderList().contains(reminder));
     }
 
+    @Test
+    public void execute_indexList_marksPaidAndSkipsUnpaid() throws Exception {
+        setPaymentStatus(model, 0, 3, true);
+        Person third = setPaymentStatus(model, 2, 3, false);
+
+        IndexSelection selection = IndexSelection.of(List.of(IndexSelection.of(Index.fromOneBased(3)),
+                IndexSelection.of(INDEX_FIRST_PERSON)));
+        CommandResult result = new MarkUnpaidCommand(selection, 3).execute(model);
+
+        assertEquals(String.format(MarkUnpaidCommand.MESSAGE_MARK_ALL_UNPAID_SUCCESS, 1, "March")
+                + String.format(MarkUnpaidCommand.MESSAGE_SKIPPED_ALREADY_UNPAID, third.getName().fullName),
+                result.getFeedbackToUser());
+        assertFalse(model.getFilteredPersonList().get(0).isPaidForMonth(3)
+                || model.getFilteredPersonList().get(2).isPaidForMonth(3));
+    }
+
+    @Test
+    public void execute_allShownAlreadyUnpaid_throwsCommandException() {
+        for (int i = 0; i < model.getFilteredPersonList().size(); i++) {
+            setPaymentStatus(model, i, 3, false);
+        }
+
+        assertCommandFailure(new MarkUnpaidCommand(IndexSelection.allShown(), 3), model,
+                String.format(MarkUnpaidCommand.MESSAGE_ALL_ALREADY_UNPAID, "March"));
+    }
+
     @Test
     public void equals() {
         MarkUnpaidCommand markUnpaidFirst = new MarkUnpaidCommand(INDEX_FIRST_PERSON, 5);
@@ -140,4 +161,15 @@ public class MarkUnpaidCommandTest {
 
         assertFalse(markUnpaidFirst.equals(markUnpaidDifferentMonth));
     }
+
+    /**
+     * Replaces the shown person at {@code index} in {@code model} by a copy with the payment status for
+     * {@code month} set to {@code isPaid}, and returns the copy.
+     */
+    private static Person setPaymentStatus(Model model, int index, int month, boolean isPaid) {
+        Person person = model.getFilteredPersonList().get(index);
+        Person updatedPerson = person.withPaymentStatus(month, isPaid);
+        model.setPerson(person, updatedPerson);
+        return updatedPerson;
+    }
 }
@@ -17,6 +17,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -35,7 +36,7 @@ public class ParticipationCommandPersistenceTest {
      * Model stub that records whether setPerson(...) was invoked.
      */
     static class ModelStubTrackingSetPerson implements Model {
-        private final Person person;
+        private Person person;
         private final AttendanceIndex index = new AttendanceIndex();
         private boolean setPersonCalled = false;
 
@@ -92,11 +93,25 @@ public class ParticipationCommandPersistenceTest {
         @Override
         public void setPerson(Person target, Person editedPerson) {
             setPersonCalled = true;
+            person = editedPerson;
         }
 
         // ===== Unused below (minimal stubs / defaults) =====
         @Override public void setUserPrefs(ReadOnlyUserPrefs userPrefs) { }
         @Override public void refreshReminders() {}
+        @Override public void setPersons(List<Person> targets, List<Person> editedPersons) { }
+        @Override public void commitAddressBook() { }
+        @Override public boolean canUndoAddressBook() {
+            return false;
+        }
+        @Override public boolean canRedoAddressBook() {
+            return false;
+        }
+        @Override public void undoAddressBook() { }
+        @Override public void redoAddressBook() { }
+        @Override public void beginTransaction() { }
+        @Override public void commitTransaction() { }
+        @Override public void rollbackTransaction() { }
         @Override public ReadOnlyUserPrefs getUserPrefs() {
             return new UserPrefs();
         }
@@ -109,11 +124,19 @@ public class ParticipationCommandPersistenceTest {
         }
         @Override public void setAddressBookFilePath(Path addressBookFilePath) { }
         @Override public void setAddressBook(ReadOnlyAddressBook addressBook) { }
+        @Override public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook addressBook) {
+            return getAddressBook();
+        }
         @Override public boolean hasPerson(Person person) {
             return false;
         }
         @Override public void deletePerson(Person target) { }
+        @Override public void deletePersons(List<Person> targets) { }
+        @Override public AddressBookSnapshot getAddressBookSnapshot() {
+            return null;
+        }
         @Override public void addPerson(Person person) { }
+        @Override public void addPersons(List<Person> persons) { }
         @Override public ObservableList<Person> getFilteredPersonList() {
             return FXCollections.observableArrayList();
         }
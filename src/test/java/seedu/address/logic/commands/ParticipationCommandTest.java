@@ -16,6 +16,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -223,7 +224,7 @@ public class ParticipationCommandTest {
      * - provides an AttendanceIndex for the command to update UI date
      */
     static class ModelStubWithPerson implements Model {
-        final Person person;
+        Person person;
         private final AttendanceIndex index = new AttendanceIndex();
 
         ModelStubWithPerson(String storedName) {
@@ -242,6 +243,11 @@ public class ParticipationCommandTest {
             return norm(name).equals(norm(person.getName().fullName));
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             // Provide a tiny read-only view exposing just our person
@@ -318,6 +324,11 @@ public class ParticipationCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError();
@@ -328,13 +339,67 @@ public class ParticipationCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError();
+        }
+
         @Override
         public void addPerson(Person person) {
             throw new AssertionError();
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError();
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
+            person = editedPerson;
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void rollbackTransaction() {
             throw new AssertionError();
         }
 
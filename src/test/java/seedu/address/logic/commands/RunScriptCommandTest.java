@@ -0,0 +1,142 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+
+public class RunScriptCommandTest {
+
+    private static final int MONTH = 9;
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_allCommandsRunAsOneChange() throws Exception {
+        Person first = model.getFilteredPersonList().get(0);
+        boolean wasPaid = first.isPaidForMonth(MONTH);
+        Path file = write("rollover.txt",
+                "# new term",
+                "add-student n/James Ho p/98765432 t/1000 Mon",
+                "",
+                "group-create g/Sec 4",
+                togglePaymentOfFirst(wasPaid));
+        int initialSize = model.getFilteredPersonList().size();
+
+        CommandResult result = new RunScriptCommand(file, parser).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(RunScriptCommand.MESSAGE_SUCCESS, 3, file)));
+        assertTrue(result.getFeedbackToUser().contains(String.format(RunScriptCommand.MESSAGE_LINE_RESULT, 4, "")));
+        assertEquals(initialSize + 1, model.getFilteredPersonList().size());
+        assertTrue(model.hasGroup(GroupName.of("Sec 4")));
+        assertEquals(!wasPaid, model.getFilteredPersonList().get(0).isPaidForMonth(MONTH));
+
+        // the whole script is undone as one change
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertEquals(initialSize, model.getFilteredPersonList().size());
+        assertFalse(model.hasGroup(GroupName.of("Sec 4")));
+        assertSame(first, model.getFilteredPersonList().get(0));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_failingLine_noChangesKept() throws Exception {
+        Person first = model.getFilteredPersonList().get(0);
+        boolean wasPaid = first.isPaidForMonth(MONTH);
+        Path file = write("failing.txt",
+                "add-student n/James Ho p/98765432 t/1000 Mon",
+                togglePaymentOfFirst(wasPaid),
+                "not-a-command",
+                "group-create g/Sec 4");
+
+        assertCommandFailure(new RunScriptCommand(file, parser), model,
+                String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 3, file, MESSAGE_UNKNOWN_COMMAND));
+        assertSame(first, model.getFilteredPersonList().get(0));
+        assertFalse(model.hasGroup(GroupName.of("Sec 4")));
+
+        model.commitAddressBook();
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_undoInScript_notAllowed() throws Exception {
+        Path file = write("undo.txt", "group-create g/Sec 4", "undo");
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 2, file,
+                String.format(RunScriptCommand.MESSAGE_NOT_ALLOWED, UndoCommand.COMMAND_WORD));
+
+        assertCommandFailure(new RunScriptCommand(file, parser), model, expectedMessage);
+        assertFalse(model.hasGroup(GroupName.of("Sec 4")));
+    }
+
+    @Test
+    public void execute_commandRegisteredWithParser_parsedByThatParser() throws Exception {
+        AddressBookParser extendedParser = new AddressBookParser(AddressBookParser.DEFAULT_COMMANDS.toBuilder()
+                .register("new-group", args -> new GroupCreateCommand(GroupName.of("Sec 4")))
+                .build());
+        Path file = write("extended.txt", "new-group");
+
+        new RunScriptCommand(file, extendedParser).execute(model);
+        assertTrue(model.hasGroup(GroupName.of("Sec 4")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunScriptCommand(file, parser), model,
+                String.format(RunScriptCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand runScriptCommand = new RunScriptCommand(Paths.get("a.txt"), parser);
+
+        // same object -> returns true
+        assertTrue(runScriptCommand.equals(runScriptCommand));
+
+        // same values -> returns true
+        assertTrue(runScriptCommand.equals(new RunScriptCommand(Paths.get("a.txt"), parser)));
+
+        // different types -> returns false
+        assertFalse(runScriptCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runScriptCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runScriptCommand.equals(new RunScriptCommand(Paths.get("b.txt"), parser)));
+    }
+
+    private static String togglePaymentOfFirst(boolean isPaid) {
+        String commandWord = isPaid ? MarkUnpaidCommand.COMMAND_WORD : MarkPaidCommand.COMMAND_WORD;
+        return commandWord + " i/1 m/" + MONTH;
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.CommandMetrics.CommandStats;
+import seedu.address.commons.core.CommandMetrics.Phase;
+import seedu.address.commons.core.StartupProfile.PhaseStats;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void format_phases_listedInOrder() {
+        List<PhaseStats> phases = List.of(
+                new PhaseStats("config", 3_250_000, 96 * 1024),
+                new PhaseStats("json_bind", 120_000_000, -1));
+
+        assertEquals(StatsCommand.MESSAGE_SUCCESS
+                + "\nconfig: 3.3 ms, 96 KB allocated"
+                + "\njson_bind: 120.0 ms"
+                + String.format(StatsCommand.MESSAGE_READY, 812),
+                StatsCommand.format(phases, 812));
+    }
+
+    @Test
+    public void format_startupNotFinished_readyTimeOmitted() {
+        String message = StatsCommand.format(List.of(new PhaseStats("config", 1_000_000, 0)), -1);
+        assertEquals(StatsCommand.MESSAGE_SUCCESS + "\nconfig: 1.0 ms, 0 KB allocated", message);
+    }
+
+    @Test
+    public void format_noPhases_noPhasesMessage() {
+        assertEquals(StatsCommand.MESSAGE_NO_PHASES, StatsCommand.format(List.of(), 812));
+    }
+
+    @Test
+    public void formatCommands_phasesReached_listed() {
+        CommandStats add = new CommandStats("add");
+        add.recordRun(false);
+        add.recordRun(true);
+        add.record(Phase.PARSE, 1_000_000);
+        add.record(Phase.PARSE, 2_000_000);
+        add.record(Phase.EXECUTE, 3_000_000);
+        add.record(Phase.SAVE, 4_000_000);
+        CommandStats search = new CommandStats("search");
+        search.recordRun(true);
+
+        // percentiles are rounded up to the end of their bucket, but not past the longest time
+        assertEquals(StatsCommand.MESSAGE_COMMANDS_SUCCESS
+                + String.format(StatsCommand.MESSAGE_COMMAND, "add", 2, 1)
+                + "\n    parse: 1.02 / 2.00 / 2.00"
+                + "\n    execute: 3.00 / 3.00 / 3.00"
+                + "\n    save: 4.00 / 4.00 / 4.00"
+                + String.format(StatsCommand.MESSAGE_COMMAND, "search", 1, 1),
+                StatsCommand.formatCommands(List.of(add, search)));
+    }
+
+    @Test
+    public void formatCommands_noCommands_noCommandsMessage() {
+        assertEquals(StatsCommand.MESSAGE_NO_COMMANDS, StatsCommand.formatCommands(List.of()));
+    }
+
+    @Test
+    public void execute_modelUnchanged() {
+        ModelManager model = new ModelManager();
+        CommandResult result = new StatsCommand(StatsCommand.TOPIC_STARTUP).execute(model);
+        assertFalse(result.getFeedbackToUser().isEmpty());
+        result = new StatsCommand(StatsCommand.TOPIC_COMMANDS).execute(model);
+        assertFalse(result.getFeedbackToUser().isEmpty());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void constructor_unknownTopic_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StatsCommand("memory"));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(StatsCommand.TOPIC_STARTUP);
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(StatsCommand.TOPIC_STARTUP)));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new ListCommand()));
+        assertFalse(statsCommand.equals(new StatsCommand(StatsCommand.TOPIC_COMMANDS)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        StatsCommand statsCommand = new StatsCommand(StatsCommand.TOPIC_COMMANDS);
+        assertEquals(StatsCommand.class.getCanonicalName() + "{topic=commands}", statsCommand.toString());
+    }
+}
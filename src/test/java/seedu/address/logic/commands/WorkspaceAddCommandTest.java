@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class WorkspaceAddCommandTest {
+
+    private static final Path CURRENT_FILE = Paths.get("data", "classconnect.json");
+    private static final Path BEDOK_FILE = Paths.get("data", "bedok.json");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_firstWorkspace_currentFileAddedAsDefault() throws Exception {
+        model.setAddressBookFilePath(CURRENT_FILE);
+
+        CommandResult result = new WorkspaceAddCommand("bedok", BEDOK_FILE).execute(model);
+
+        assertEquals(String.format(WorkspaceAddCommand.MESSAGE_SUCCESS, "bedok", BEDOK_FILE),
+                result.getFeedbackToUser());
+        Map<String, Path> workspaces = model.getUserPrefs().getWorkspaces();
+        assertEquals(List.of(WorkspaceAddCommand.DEFAULT_WORKSPACE_NAME, "bedok"), List.copyOf(workspaces.keySet()));
+        assertEquals(CURRENT_FILE, workspaces.get(WorkspaceAddCommand.DEFAULT_WORKSPACE_NAME));
+        assertEquals(BEDOK_FILE, workspaces.get("bedok"));
+        assertEquals(CURRENT_FILE, model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_duplicateName_throwsCommandException() throws Exception {
+        new WorkspaceAddCommand("bedok", BEDOK_FILE).execute(model);
+        assertCommandFailure(new WorkspaceAddCommand("bedok", Paths.get("data", "other.json")), model,
+                String.format(WorkspaceAddCommand.MESSAGE_DUPLICATE_WORKSPACE, "bedok"));
+    }
+
+    @Test
+    public void execute_duplicateFile_throwsCommandException() throws Exception {
+        new WorkspaceAddCommand("bedok", BEDOK_FILE).execute(model);
+        assertCommandFailure(new WorkspaceAddCommand("tampines", Paths.get("data", ".", "bedok.json")), model,
+                String.format(WorkspaceAddCommand.MESSAGE_DUPLICATE_FILE, Paths.get("data", ".", "bedok.json"),
+                        "bedok"));
+    }
+
+    @Test
+    public void equals() {
+        WorkspaceAddCommand addBedok = new WorkspaceAddCommand("bedok", BEDOK_FILE);
+
+        // same values -> returns true
+        assertTrue(addBedok.equals(new WorkspaceAddCommand("bedok", BEDOK_FILE)));
+
+        // same object -> returns true
+        assertTrue(addBedok.equals(addBedok));
+
+        // null -> returns false
+        assertFalse(addBedok.equals(null));
+
+        // different name -> returns false
+        assertFalse(addBedok.equals(new WorkspaceAddCommand("tampines", BEDOK_FILE)));
+
+        // different file -> returns false
+        assertFalse(addBedok.equals(new WorkspaceAddCommand("bedok", CURRENT_FILE)));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class WorkspaceSwitchCommandTest {
+
+    private static final Path CURRENT_FILE = Paths.get("data", "classconnect.json");
+    private static final Path BEDOK_FILE = Paths.get("data", "bedok.json");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model.setAddressBookFilePath(CURRENT_FILE);
+        new WorkspaceAddCommand("bedok", BEDOK_FILE).execute(model);
+    }
+
+    @Test
+    public void execute_otherWorkspace_dataFileChanged() throws Exception {
+        CommandResult result = new WorkspaceSwitchCommand("bedok").execute(model);
+
+        assertEquals(String.format(WorkspaceSwitchCommand.MESSAGE_SUCCESS, "bedok"), result.getFeedbackToUser());
+        assertEquals(BEDOK_FILE, model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_currentWorkspace_throwsCommandException() {
+        assertCommandFailure(new WorkspaceSwitchCommand(WorkspaceAddCommand.DEFAULT_WORKSPACE_NAME), model,
+                String.format(WorkspaceSwitchCommand.MESSAGE_ALREADY_IN_WORKSPACE,
+                        WorkspaceAddCommand.DEFAULT_WORKSPACE_NAME));
+    }
+
+    @Test
+    public void execute_unknownWorkspace_throwsCommandException() {
+        assertCommandFailure(new WorkspaceSwitchCommand("Bedok"), model,
+                String.format(WorkspaceSwitchCommand.MESSAGE_WORKSPACE_NOT_FOUND, "Bedok"));
+    }
+
+    @Test
+    public void execute_list_currentWorkspaceMarked() {
+        CommandResult result = new WorkspaceListCommand().execute(model);
+
+        assertEquals(WorkspaceListCommand.MESSAGE_SUCCESS
+                + String.format(WorkspaceListCommand.MESSAGE_WORKSPACE, WorkspaceAddCommand.DEFAULT_WORKSPACE_NAME,
+                        CURRENT_FILE) + WorkspaceListCommand.MESSAGE_CURRENT
+                + String.format(WorkspaceListCommand.MESSAGE_WORKSPACE, "bedok", BEDOK_FILE),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        WorkspaceSwitchCommand switchToBedok = new WorkspaceSwitchCommand("bedok");
+
+        // same values -> returns true
+        assertTrue(switchToBedok.equals(new WorkspaceSwitchCommand("bedok")));
+
+        // same object -> returns true
+        assertTrue(switchToBedok.equals(switchToBedok));
+
+        // null -> returns false
+        assertFalse(switchToBedok.equals(null));
+
+        // different name -> returns false
+        assertFalse(switchToBedok.equals(new WorkspaceSwitchCommand("tampines")));
+    }
+}
@@ -24,6 +24,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.homeworkcommands.AddHomeworkCommand;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -91,6 +92,11 @@ public class AddHomeworkCommandTest {
             return filtered;
         }
 
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            filtered.set(filtered.indexOf(target), editedPerson);
+        }
+
         @Override
         public ObservableList<Reminder> getFilteredReminderList() {
             return filteredReminders;
@@ -145,11 +151,26 @@ public class AddHomeworkCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -166,7 +187,51 @@ public class AddHomeworkCommandTest {
         }
 
         @Override
-        public void setPerson(Person target, Person editedPerson) {
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -266,7 +331,7 @@ public class AddHomeworkCommandTest {
                 homework.getDescription(), homework.getDeadline());
 
         assertEquals(expected, result.getFeedbackToUser());
-        assertTrue(marcus.getHomeworkList().contains(homework));
+        assertTrue(homeworkOf(model, marcusName).contains(homework));
         assertEquals(1, model.getFilteredReminderList().size());
     }
 
@@ -292,7 +357,7 @@ public class AddHomeworkCommandTest {
     @Test
     public void execute_duplicateHomework_throwsDuplicate() {
         Homework homework = new Homework("Reading", LocalDate.parse("2026-12-01"));
-        marcus.addHomework(homework);
+        marcus = marcus.withHomework(homework);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         AddHomeworkCommand command = new AddHomeworkCommand(marcusName, homework);
@@ -300,7 +365,7 @@ public class AddHomeworkCommandTest {
         CommandException exception = assertThrows(CommandException.class, () -> command.execute(model));
         assertEquals(AddHomeworkCommand.MESSAGE_DUPLICATE_HOMEWORK, exception.getMessage());
 
-        assertTrue(marcus.getHomeworkList().contains(homework));
+        assertTrue(homeworkOf(model, marcusName).contains(homework));
     }
 
     /**
@@ -320,7 +385,7 @@ public class AddHomeworkCommandTest {
                 marcus.getName().fullName, homework.getDescription(), homework.getDeadline());
         assertEquals(expected, result.getFeedbackToUser());
 
-        assertTrue(marcus.getHomeworkList().contains(homework));
+        assertTrue(homeworkOf(model, marcusName).contains(homework));
         assertFalse(john.getHomeworkList().contains(homework), "Unrelated student should not change");
         // 2 payment due reminder but homework not due tomorrow
         assertEquals(2, model.getFilteredReminderList().size());
@@ -346,7 +411,7 @@ public class AddHomeworkCommandTest {
                 "Result should start with the success message");
         assertTrue(result.getFeedbackToUser().contains(AddHomeworkCommand.MESSAGE_DUE_DATE_PASSED),
                 "Result should include the due-date warning");
-        assertTrue(marcus.getHomeworkList().contains(homework), "Homework should still be added");
+        assertTrue(homeworkOf(model, marcusName).contains(homework), "Homework should still be added");
     }
 
     /**
@@ -393,4 +458,13 @@ public class AddHomeworkCommandTest {
         assertNotEquals(a1, a2);
         assertNotEquals(a1, b1);
     }
+
+    /**
+     * Returns the homework of the shown student named {@code name} in {@code model}.
+     */
+    private static List<Homework> homeworkOf(Model model, Name name) {
+        return model.getFilteredPersonList().stream()
+                .filter(p -> p.getName().equals(name))
+                .findFirst().orElseThrow().getHomeworkList();
+    }
 }
@@ -25,6 +25,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.homeworkcommands.DeleteHomeworkCommand;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -88,6 +89,11 @@ public class DeleteHomeworkCommandTest {
             return filtered;
         }
 
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            filtered.set(filtered.indexOf(target), editedPerson);
+        }
+
         @Override
         public ObservableList<Reminder> getFilteredReminderList() {
             return filteredReminders;
@@ -142,11 +148,26 @@ public class DeleteHomeworkCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -163,7 +184,51 @@ public class DeleteHomeworkCommandTest {
         }
 
         @Override
-        public void setPerson(Person target, Person editedPerson) {
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -255,7 +320,7 @@ public class DeleteHomeworkCommandTest {
     @Test
     public void execute_success_deletesHomework() throws Exception {
         Homework homework = new Homework("Math WS 3", LocalDate.parse("2025-10-23"));
-        marcus.addHomework(homework);
+        marcus = marcus.withHomework(homework);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         DeleteHomeworkCommand cmd = new DeleteHomeworkCommand(marcusName, Index.fromOneBased(1));
@@ -264,8 +329,8 @@ public class DeleteHomeworkCommandTest {
         String expected = String.format(DeleteHomeworkCommand.MESSAGE_SUCCESS,
                 marcus.getName().fullName, homework.getDescription());
         assertEquals(expected, result.getFeedbackToUser());
-        assertFalse(marcus.getHomeworkList().contains(homework), "Homework should be removed");
-        assertEquals(0, marcus.getHomeworkList().size());
+        assertFalse(homeworkOf(model, marcusName).contains(homework), "Homework should be removed");
+        assertEquals(0, homeworkOf(model, marcusName).size());
         assertEquals(1, model.getFilteredReminderList().size()); // payment reminder
     }
 
@@ -276,8 +341,8 @@ public class DeleteHomeworkCommandTest {
     public void execute_onlyTargetDeleted_whenMultipleInFilteredList() throws Exception {
         Homework hwMarcus = new Homework("Physics WS", LocalDate.parse("2025-11-30"));
         Homework hwJohn = new Homework("Chem WS", LocalDate.parse("2025-10-24"));
-        marcus.addHomework(hwMarcus);
-        john.addHomework(hwJohn);
+        marcus = marcus.withHomework(hwMarcus);
+        john = john.withHomework(hwJohn);
 
         Model model = new ModelStubFilteredOnly(List.of(john, marcus));
         DeleteHomeworkCommand command = new DeleteHomeworkCommand(marcusName, Index.fromOneBased(1));
@@ -287,8 +352,8 @@ public class DeleteHomeworkCommandTest {
                 marcus.getName().fullName, "Physics WS");
         assertEquals(expected, result.getFeedbackToUser());
 
-        assertFalse(marcus.getHomeworkList().contains(hwMarcus));
-        assertTrue(john.getHomeworkList().contains(hwJohn));
+        assertFalse(homeworkOf(model, marcusName).contains(hwMarcus));
+        assertTrue(homeworkOf(model, johnName).contains(hwJohn));
         assertEquals(2, model.getFilteredReminderList().size()); // 2 payment reminder
     }
 
@@ -299,7 +364,7 @@ public class DeleteHomeworkCommandTest {
     @Test
     public void execute_nameNotInFilteredList_throwsNoPersonFound() {
         Homework homework = new Homework("Math WS 3", LocalDate.parse("2025-10-23"));
-        marcus.addHomework(homework);
+        marcus = marcus.withHomework(homework);
 
         Model model = new ModelStubFilteredOnly(List.of(john));
         DeleteHomeworkCommand command = new DeleteHomeworkCommand(marcusName, Index.fromOneBased(1));
@@ -316,7 +381,7 @@ public class DeleteHomeworkCommandTest {
     @Test
     public void execute_hwNotFound_throwsNoHwFound() {
         Homework homework = new Homework("Chem WS", LocalDate.parse("2025-10-24"));
-        marcus.addHomework(homework);
+        marcus = marcus.withHomework(homework);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         DeleteHomeworkCommand command = new DeleteHomeworkCommand(marcusName, Index.fromOneBased(2));
@@ -324,7 +389,7 @@ public class DeleteHomeworkCommandTest {
         CommandException ex = assertThrows(CommandException.class, () -> command.execute(model));
         String expectedMsg = String.format(DeleteHomeworkCommand.MESSAGE_INVALID_HW_INDEX, 2, 1);
         assertEquals(expectedMsg, ex.getMessage());
-        assertTrue(marcus.getHomeworkList().contains(homework), "Non-matching homework should remain");
+        assertTrue(homeworkOf(model, marcusName).contains(homework), "Non-matching homework should remain");
     }
 
     /**
@@ -344,4 +409,13 @@ public class DeleteHomeworkCommandTest {
         assertNotEquals(a1, a2);
         assertNotEquals(a1, b1);
     }
+
+    /**
+     * Returns the homework of the shown student named {@code name} in {@code model}.
+     */
+    private static List<Homework> homeworkOf(Model model, Name name) {
+        return model.getFilteredPersonList().stream()
+                .filter(p -> p.getName().equals(name))
+                .findFirst().orElseThrow().getHomeworkList();
+    }
 }
@@ -26,6 +26,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.homeworkcommands.DeleteHomeworkCommand;
 import seedu.address.logic.commands.homeworkcommands.MarkDoneHwCommand;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -89,6 +90,11 @@ public class MarkDoneHwCommandTest {
             return filtered;
         }
 
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            filtered.set(filtered.indexOf(target), editedPerson);
+        }
+
         @Override
         public void refreshReminders() {
             for (Person p : filtered) {
@@ -143,11 +149,26 @@ public class MarkDoneHwCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -164,7 +185,51 @@ public class MarkDoneHwCommandTest {
         }
 
         @Override
-        public void setPerson(Person target, Person editedPerson) {
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -256,7 +321,7 @@ public class MarkDoneHwCommandTest {
     @Test
     public void execute_success_markDone() throws Exception {
         Homework hw = new Homework("Math WS 3", LocalDate.parse("2025-10-23"));
-        marcus.addHomework(hw);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         MarkDoneHwCommand command = new MarkDoneHwCommand(marcusName, Index.fromOneBased(1));
@@ -265,7 +330,7 @@ public class MarkDoneHwCommandTest {
         String expected = String.format(MarkDoneHwCommand.MESSAGE_SUCCESS, marcus.getName().fullName,
                 hw.getDescription());
         assertEquals(expected, result.getFeedbackToUser());
-        assertTrue(hw.isDone(), "Homework should be marked done");
+        assertTrue(homeworkOf(model, marcusName).get(0).isDone(), "Homework should be marked done");
         assertEquals(1, model.getFilteredReminderList().size()); // payment reminder
     }
 
@@ -275,8 +340,8 @@ public class MarkDoneHwCommandTest {
     @Test
     public void execute_alreadyDone_stillSuccess() throws Exception {
         Homework hw = new Homework("Reading", LocalDate.parse("2025-12-01"));
-        hw.markDone();
-        marcus.addHomework(hw);
+        hw = hw.withDone(true);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         MarkDoneHwCommand command = new MarkDoneHwCommand(marcusName, Index.fromOneBased(1));
@@ -285,7 +350,7 @@ public class MarkDoneHwCommandTest {
         String expected = String.format(MarkDoneHwCommand.MESSAGE_SUCCESS,
                 marcus.getName().fullName, hw.getDescription());
         assertEquals(expected, res.getFeedbackToUser());
-        assertTrue(hw.isDone(), "Homework remains done");
+        assertTrue(homeworkOf(model, marcusName).get(0).isDone(), "Homework remains done");
         assertEquals(0, model.getFilteredReminderList().size());
     }
 
@@ -297,7 +362,7 @@ public class MarkDoneHwCommandTest {
     @Test
     public void execute_nameNotInFilteredList_throwsNoPersonFound() {
         Homework hw = new Homework("Math WS 3", LocalDate.parse("2025-10-23"));
-        marcus.addHomework(hw);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(john));
         MarkDoneHwCommand cmd = new MarkDoneHwCommand(marcusName, Index.fromOneBased(1));
@@ -314,7 +379,7 @@ public class MarkDoneHwCommandTest {
     @Test
     public void execute_hwNotFound_throwsNoHwFound() {
         Homework hw = new Homework("Chem WS", LocalDate.parse("2025-10-24"));
-        marcus.addHomework(hw);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         MarkDoneHwCommand cmd = new MarkDoneHwCommand(marcusName, Index.fromOneBased(2));
@@ -322,7 +387,7 @@ public class MarkDoneHwCommandTest {
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
         String expectedMsg = String.format(DeleteHomeworkCommand.MESSAGE_INVALID_HW_INDEX, 2, 1);
         assertEquals(expectedMsg, ex.getMessage());
-        assertFalse(hw.isDone(), "Non-matching homework should remain unchanged");
+        assertFalse(homeworkOf(model, marcusName).get(0).isDone(), "Non-matching homework should remain unchanged");
     }
 
     /**
@@ -341,14 +406,13 @@ public class MarkDoneHwCommandTest {
         assertNotEquals(a1, a2);
         assertNotEquals(a1, b1);
     }
-}
-
-
-
-
-
-
-
-
-
 
+    /**
+     * Returns the homework of the shown student named {@code name} in {@code model}.
+     */
+    private static List<Homework> homeworkOf(Model model, Name name) {
+        return model.getFilteredPersonList().stream()
+                .filter(p -> p.getName().equals(name))
+                .findFirst().orElseThrow().getHomeworkList();
+    }
+}
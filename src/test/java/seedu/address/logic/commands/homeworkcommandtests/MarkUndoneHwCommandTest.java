@@ -26,6 +26,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.homeworkcommands.DeleteHomeworkCommand;
 import seedu.address.logic.commands.homeworkcommands.MarkDoneHwCommand;
 import seedu.address.logic.commands.homeworkcommands.MarkUndoneHwCommand;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -89,6 +90,11 @@ public class MarkUndoneHwCommandTest {
             return filtered;
         }
 
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            filtered.set(filtered.indexOf(target), editedPerson);
+        }
+
         @Override
         public void refreshReminders() {
             for (Person p : filtered) {
@@ -143,11 +149,26 @@ public class MarkUndoneHwCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook openAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -164,7 +185,51 @@ public class MarkUndoneHwCommandTest {
         }
 
         @Override
-        public void setPerson(Person target, Person editedPerson) {
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -256,7 +321,7 @@ public class MarkUndoneHwCommandTest {
     @Test
     public void execute_success_markUndone() throws Exception {
         Homework hw = new Homework("Math WS 3", LocalDate.parse("2025-10-23"));
-        marcus.addHomework(hw);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         MarkDoneHwCommand command1 = new MarkDoneHwCommand(marcusName, Index.fromOneBased(1));
@@ -267,7 +332,7 @@ public class MarkUndoneHwCommandTest {
         String expected = String.format(MarkUndoneHwCommand.MESSAGE_SUCCESS, marcus.getName().fullName,
                 hw.getDescription());
         assertEquals(expected, result2.getFeedbackToUser());
-        assertFalse(hw.isDone(), "Homework should be marked undone");
+        assertFalse(homeworkOf(model, marcusName).get(0).isDone(), "Homework should be marked undone");
         assertEquals(1, model.getFilteredReminderList().size());
     }
 
@@ -277,7 +342,7 @@ public class MarkUndoneHwCommandTest {
     @Test
     public void execute_alreadyUndone_stillSuccess() throws Exception {
         Homework hw = new Homework("Reading", LocalDate.parse("2025-12-01"));
-        marcus.addHomework(hw);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         MarkUndoneHwCommand command = new MarkUndoneHwCommand(marcusName, Index.fromOneBased(1));
@@ -286,7 +351,7 @@ public class MarkUndoneHwCommandTest {
         String expected = String.format(MarkUndoneHwCommand.MESSAGE_SUCCESS,
                 marcus.getName().fullName, hw.getDescription());
         assertEquals(expected, res.getFeedbackToUser());
-        assertFalse(hw.isDone(), "Homework remains undone");
+        assertFalse(homeworkOf(model, marcusName).get(0).isDone(), "Homework remains undone");
         // execute method did not modify student list
         assertEquals(0, model.getFilteredReminderList().size());
     }
@@ -299,7 +364,7 @@ public class MarkUndoneHwCommandTest {
     @Test
     public void execute_nameNotInFilteredList_throwsNoPersonFound() {
         Homework hw = new Homework("Math WS 3", LocalDate.parse("2025-10-23"));
-        marcus.addHomework(hw);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(john));
         MarkUndoneHwCommand cmd = new MarkUndoneHwCommand(marcusName, Index.fromOneBased(1));
@@ -316,7 +381,7 @@ public class MarkUndoneHwCommandTest {
     @Test
     public void execute_hwNotFound_throwsNoHwFound() {
         Homework hw = new Homework("Chem WS", LocalDate.parse("2025-10-24"));
-        marcus.addHomework(hw);
+        marcus = marcus.withHomework(hw);
 
         Model model = new ModelStubFilteredOnly(List.of(marcus));
         MarkUndoneHwCommand cmd = new MarkUndoneHwCommand(marcusName, Index.fromOneBased(2));
@@ -324,7 +389,7 @@ public class MarkUndoneHwCommandTest {
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
         String expectedMsg = String.format(DeleteHomeworkCommand.MESSAGE_INVALID_HW_INDEX, 2, 1);
         assertEquals(expectedMsg, ex.getMessage());
-        assertFalse(hw.isDone(), "Non-matching homework should remain unchanged");
+        assertFalse(homeworkOf(model, marcusName).get(0).isDone(), "Non-matching homework should remain unchanged");
     }
 
     /**
@@ -344,4 +409,13 @@ public class MarkUndoneHwCommandTest {
         assertNotEquals(a1, a2);
         assertNotEquals(a1, b1);
     }
+
+    /**
+     * Returns the homework of the shown student named {@code name} in {@code model}.
+     */
+    private static List<Homework> homeworkOf(Model model, Name name) {
+        return model.getFilteredPersonList().stream()
+                .filter(p -> p.getName().equals(name))
+                .findFirst().orElseThrow().getHomeworkList();
+    }
 }
@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_INCOMPLETE_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
@@ -14,8 +16,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_REMINDER;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -30,10 +34,19 @@ import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.EditReminderCommand;
 import seedu.address.logic.commands.EditReminderCommand.EditReminderDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.GroupDeleteCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ParticipationCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkspaceListCommand;
+import seedu.address.logic.commands.WorkspaceSwitchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
@@ -103,6 +116,51 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("students.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " f/students.csv"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("students.csv"), List.of(), Optional.empty()),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " f/students.csv"));
+    }
+
+    @Test
+    public void parseCommand_workspace() throws Exception {
+        assertEquals(new WorkspaceSwitchCommand("bedok"),
+                parser.parseCommand(WorkspaceSwitchCommand.COMMAND_WORD + " w/bedok"));
+        assertTrue(parser.parseCommand(WorkspaceListCommand.COMMAND_WORD) instanceof WorkspaceListCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " " + StatsCommand.TOPIC_STARTUP)
+                instanceof StatsCommand);
+    }
+
+    @Test
+    public void findCommandWord() {
+        assertEquals(Optional.of(SearchCommand.COMMAND_WORD), parser.findCommandWord("  find n/Alex"));
+        assertEquals(Optional.of(StatsCommand.COMMAND_WORD), parser.findCommandWord("STATS"));
+        assertEquals(Optional.empty(), parser.findCommandWord("unknownCommand"));
+        assertEquals(Optional.empty(), parser.findCommandWord(""));
+    }
+
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        assertEquals(new RunScriptCommand(Paths.get("rollover.txt"), parser),
+                parser.parseCommand(RunScriptCommand.COMMAND_WORD + " f/rollover.txt"));
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_participation() throws Exception {
         String input = ParticipationCommand.COMMAND_WORD + " " + PREFIX_NAME + "Alex "
@@ -143,6 +201,35 @@ public class AddressBookParserTest {
                 -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_caseAliasAndPrefix() throws Exception {
+        assertTrue(parser.parseCommand("LIST") instanceof ListCommand);
+        assertTrue(parser.parseCommand("quit") instanceof ExitCommand);
+        assertTrue(parser.parseCommand("workspace-l") instanceof WorkspaceListCommand);
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "group",
+                "group-add, group-create, group-delete, group-remove"), () -> parser.parseCommand("group g/Sec 3"));
+    }
+
+    @Test
+    public void parseCommand_startOfDeletingCommand_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INCOMPLETE_COMMAND, "c", ClearCommand.COMMAND_WORD),
+                () -> parser.parseCommand("c"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INCOMPLETE_COMMAND, "group-d",
+                GroupDeleteCommand.COMMAND_WORD), () -> parser.parseCommand("group-d g/Sec 3"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INCOMPLETE_COMMAND, "delete-s",
+                DeleteCommand.COMMAND_WORD), () -> parser.parseCommand("delete-s i/1"));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand() throws Exception {
+        AddressBookParser extendedParser = new AddressBookParser(AddressBookParser.DEFAULT_COMMANDS.toBuilder()
+                .register("bye", args -> new ExitCommand())
+                .build());
+        assertTrue(extendedParser.parseCommand("bye") instanceof ExitCommand);
+        assertTrue(extendedParser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("bye"));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
@@ -136,6 +136,30 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixRecognised() {
+        Prefix dashTee = new Prefix("-tee");
+        String argsString = "preamble -tee long value -t short value -te short again";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTee);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTee, "long value");
+        assertArgumentPresent(argMultimap, dashT, "short value", "e short again");
+
+        // same prefixes in another order
+        argMultimap = ArgumentTokenizer.tokenize(argsString, dashTee, dashT);
+        assertArgumentPresent(argMultimap, dashTee, "long value");
+        assertArgumentPresent(argMultimap, dashT, "short value", "e short again");
+    }
+
+    @Test
+    public void tokenize_prefixAtStartOfString_takenAsPreamble() {
+        String argsString = "p/value -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "p/value");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,101 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_INCOMPLETE_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final Parser<ListCommand> listParser = args -> new ListCommand();
+    private final Parser<ExitCommand> exitParser = args -> new ExitCommand();
+    private final Parser<ClearCommand> clearParser = args -> new ClearCommand();
+
+    private final CommandRegistry registry = CommandRegistry.builder()
+            .register("list-students", listParser, "ls")
+            .register("list-groups", clearParser)
+            .register("exit", exitParser, "quit")
+            .build();
+
+    @Test
+    public void getParser_commandWordOrAlias_ignoresCase() throws Exception {
+        assertSame(listParser, registry.getParser("list-students"));
+        assertSame(listParser, registry.getParser("LIST-Students"));
+        assertSame(listParser, registry.getParser("LS"));
+        assertSame(exitParser, registry.getParser("quit"));
+    }
+
+    @Test
+    public void getParser_uniquePrefix_matchingCommand() throws Exception {
+        assertSame(exitParser, registry.getParser("ex"));
+        assertSame(exitParser, registry.getParser("Q"));
+        assertSame(listParser, registry.getParser("list-s"));
+    }
+
+    @Test
+    public void getParser_prefixOfCommandAndItsAlias_matchingCommand() throws Exception {
+        CommandRegistry aliased = CommandRegistry.builder().register("exit", exitParser, "exit-now").build();
+        assertSame(exitParser, aliased.getParser("exi"));
+    }
+
+    @Test
+    public void getParser_ambiguousPrefix_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "list",
+                "list-groups, list-students"), () -> registry.getParser("list"));
+    }
+
+    @Test
+    public void getParser_exactOnlyCommand_fullWordOrAliasOnly() throws Exception {
+        CommandRegistry exact = registry.toBuilder().registerExact("clear", clearParser, "wipe").build();
+        assertSame(clearParser, exact.getParser("CLEAR"));
+        assertSame(clearParser, exact.getParser("wipe"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INCOMPLETE_COMMAND, "cl", "clear"), ()
+                -> exact.getParser("cl"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INCOMPLETE_COMMAND, "w", "clear"), ()
+                -> exact.getParser("w"));
+        assertEquals(Optional.empty(), exact.findCommandWord("c"));
+        assertEquals(Optional.of("clear"), exact.findCommandWord("wipe"));
+    }
+
+    @Test
+    public void getParser_unknownWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("delete"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("exits"));
+    }
+
+    @Test
+    public void findCommandWord() {
+        assertEquals(Optional.of("list-students"), registry.findCommandWord("LS"));
+        assertEquals(Optional.of("exit"), registry.findCommandWord("q"));
+        assertEquals(Optional.empty(), registry.findCommandWord("list"));
+        assertEquals(Optional.empty(), registry.findCommandWord("delete"));
+    }
+
+    @Test
+    public void register_duplicateOrInvalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.toBuilder().register("LS", exitParser));
+        assertThrows(IllegalArgumentException.class, () -> CommandRegistry.builder()
+                .register("exit", exitParser, "exit"));
+        assertThrows(IllegalArgumentException.class, () -> CommandRegistry.builder().register("", exitParser));
+        assertThrows(IllegalArgumentException.class, () -> CommandRegistry.builder().register("ex it", exitParser));
+    }
+
+    @Test
+    public void toBuilder_moreCommands_originalUnchanged() throws Exception {
+        CommandRegistry extended = registry.toBuilder().register("clear", clearParser).build();
+        assertSame(clearParser, extended.getParser("clear"));
+        assertSame(listParser, extended.getParser("ls"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("clear"));
+    }
+}
@@ -11,6 +11,8 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.model.person.StudentFieldsContainsKeywordsPredicate;
@@ -32,6 +34,13 @@ public class DeleteCommandParserTest {
                 new DeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_indexSelection_returnsDeleteCommand() {
+        assertParseSuccess(parser, " " + PREFIX_INDEX + "2-4",
+                new DeleteCommand(IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(4))));
+        assertParseSuccess(parser, " " + PREFIX_INDEX + "all-shown", new DeleteCommand(IndexSelection.allShown()));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Column;
+import seedu.address.model.group.GroupName;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_fileOnly_allColumns() {
+        assertParseSuccess(parser, " f/ data/students.csv ",
+                new ExportCommand(Paths.get("data/students.csv"), List.of(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_columnsAndGroup_success() {
+        assertParseSuccess(parser, " f/out.tsv c/Name c/payments c/name g/Sec 3",
+                new ExportCommand(Paths.get("out.tsv"), List.of(Column.NAME, Column.PAYMENTS),
+                        Optional.of(GroupName.of("Sec 3"))));
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        assertParseFailure(parser, " c/name",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " out.csv f/out.csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " f/out.csv c/address", Column.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/out.csv g/Sec_3", GroupName.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/a.csv f/b.csv", Messages.getErrorMessageForDuplicatePrefixes(
+                CliSyntax.PREFIX_FILE));
+    }
+}
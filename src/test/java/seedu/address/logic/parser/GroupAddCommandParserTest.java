@@ -1,11 +1,17 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.GroupAddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
 
 public class GroupAddCommandParserTest {
 
@@ -17,6 +23,24 @@ public class GroupAddCommandParserTest {
         org.junit.jupiter.api.Assertions.assertNotNull(cmd);
     }
 
+    @Test
+    public void parse_rangesAndAllShown_success() throws Exception {
+        GroupName group = GroupName.of("Group A");
+        Index first = Index.fromOneBased(1);
+        IndexSelection expected = IndexSelection.of(List.of(
+                IndexSelection.ofRange(first, Index.fromOneBased(3)),
+                IndexSelection.of(Index.fromOneBased(5)),
+                IndexSelection.allShown()));
+
+        assertEquals(new GroupAddCommand(group, expected), parser.parse(" g/Group A i/1-3,5 i/all-shown "));
+        assertEquals(new GroupAddCommand(group, List.of(first)), parser.parse(" g/Group A i/1 "));
+    }
+
+    @Test
+    public void parse_invalidRange_fail() {
+        assertThrows(ParseException.class, () -> parser.parse(" g/Group A i/3-1 "));
+    }
+
     @Test
     public void parse_missingGroup_fail() {
         assertThrows(ParseException.class, () -> parser.parse(" i/1 "));
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " f/ data/students.csv ", new ImportCommand(Paths.get("data/students.csv")));
+    }
+
+    @Test
+    public void parse_missingPrefix_failure() {
+        assertParseFailure(parser, " data/students.csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " f/a.csv f/b.csv", Messages.getErrorMessageForDuplicatePrefixes(
+                CliSyntax.PREFIX_FILE));
+    }
+
+    @Test
+    public void parse_invalidPath_failure() {
+        assertParseFailure(parser, " f/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+        assertParseFailure(parser, " f/a\0.csv", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
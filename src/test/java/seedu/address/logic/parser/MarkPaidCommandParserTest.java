@@ -5,8 +5,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.MarkPaidCommand;
 
@@ -23,6 +27,18 @@ public class MarkPaidCommandParserTest {
         assertParseSuccess(parser, " i/1 m/3", new MarkPaidCommand(INDEX_FIRST_PERSON, 3));
     }
 
+    @Test
+    public void parse_indexSelection_success() {
+        IndexSelection expected = IndexSelection.of(List.of(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(3)),
+                IndexSelection.of(Index.fromOneBased(5))));
+        assertParseSuccess(parser, " i/1-3,5 m/5", new MarkPaidCommand(expected, 5));
+
+        assertParseSuccess(parser, " i/all-shown m/5", new MarkPaidCommand(IndexSelection.allShown(), 5));
+
+        assertParseFailure(parser, " i/3-1 m/5", ParserUtil.MESSAGE_INVALID_INDEX_RANGE);
+    }
+
     @Test
     public void parse_missingParts_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkPaidCommand.MESSAGE_USAGE);
@@ -5,8 +5,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.MarkUnpaidCommand;
 
@@ -26,6 +30,18 @@ public class MarkUnpaidCommandParserTest {
         assertParseSuccess(parser, " i/1 m/3", new MarkUnpaidCommand(INDEX_FIRST_PERSON, 3));
     }
 
+    @Test
+    public void parse_indexSelection_success() {
+        IndexSelection expected = IndexSelection.of(List.of(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(3)),
+                IndexSelection.of(Index.fromOneBased(5))));
+        assertParseSuccess(parser, " i/1-3,5 m/5", new MarkUnpaidCommand(expected, 5));
+
+        assertParseSuccess(parser, " i/all-shown m/5", new MarkUnpaidCommand(IndexSelection.allShown(), 5));
+
+        assertParseFailure(parser, " i/3-1 m/5", ParserUtil.MESSAGE_INVALID_INDEX_RANGE);
+    }
+
     @Test
     public void parse_missingParts_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkUnpaidCommand.MESSAGE_USAGE);
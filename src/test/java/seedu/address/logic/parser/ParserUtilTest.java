@@ -3,16 +3,20 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.LessonTime;
 import seedu.address.model.person.Name;
@@ -50,6 +54,27 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1,a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("all-shown,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexSelection("5-2"));
+    }
+
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        assertEquals(IndexSelection.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexSelection("1"));
+        assertEquals(IndexSelection.allShown(), ParserUtil.parseIndexSelection(" All-Shown "));
+
+        // Whitespaces around each part
+        IndexSelection expected = IndexSelection.of(List.of(IndexSelection.of(INDEX_FIRST_PERSON),
+                IndexSelection.ofRange(Index.fromOneBased(4), Index.fromOneBased(9))));
+        assertEquals(expected, ParserUtil.parseIndexSelection(" 1 , 4 - 9 "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -144,4 +169,20 @@ public class ParserUtilTest {
 
         assertEquals(expectedLessonTimeSet, actualLessonTimeSet);
     }
+
+    @Test
+    public void parseWorkspaceName_validValue_returnsTrimmedName() throws Exception {
+        assertEquals("Tampines-2_East", ParserUtil.parseWorkspaceName(WHITESPACE + "Tampines-2_East" + WHITESPACE));
+        assertEquals("a", ParserUtil.parseWorkspaceName("a"));
+        assertEquals("1".repeat(30), ParserUtil.parseWorkspaceName("1".repeat(30)));
+    }
+
+    @Test
+    public void parseWorkspaceName_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseWorkspaceName(WHITESPACE));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWorkspaceName("_east"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWorkspaceName("east/west"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWorkspaceName("\u00e9cole"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWorkspaceName("1".repeat(31)));
+    }
 }
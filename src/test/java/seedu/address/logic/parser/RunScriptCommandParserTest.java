@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+
+    private final AddressBookParser scriptParser = new AddressBookParser();
+    private final RunScriptCommandParser parser = new RunScriptCommandParser(scriptParser);
+
+    @Test
+    public void parse_validArgs_returnsRunScriptCommand() {
+        assertParseSuccess(parser, " f/ data/rollover.txt ", new RunScriptCommand(Paths.get("data/rollover.txt"),
+                scriptParser));
+    }
+
+    @Test
+    public void parse_missingPrefix_failure() {
+        assertParseFailure(parser, " data/rollover.txt",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " f/a.txt f/b.txt", Messages.getErrorMessageForDuplicatePrefixes(
+                CliSyntax.PREFIX_FILE));
+    }
+
+    @Test
+    public void parse_invalidPath_failure() {
+        assertParseFailure(parser, " f/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+        assertParseFailure(parser, " f/a\0.txt", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_startup_returnsStatsCommand() {
+        assertParseSuccess(parser, " startup ", new StatsCommand(StatsCommand.TOPIC_STARTUP));
+        assertParseSuccess(parser, " Startup", new StatsCommand(StatsCommand.TOPIC_STARTUP));
+    }
+
+    @Test
+    public void parse_commands_returnsStatsCommand() {
+        assertParseSuccess(parser, " commands", new StatsCommand(StatsCommand.TOPIC_COMMANDS));
+        assertParseSuccess(parser, " COMMANDS ", new StatsCommand(StatsCommand.TOPIC_COMMANDS));
+    }
+
+    @Test
+    public void parse_missingOrUnknownTopic_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " memory", expectedMessage);
+    }
+}
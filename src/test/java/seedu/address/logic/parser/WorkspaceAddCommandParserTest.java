@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.WorkspaceAddCommand;
+
+public class WorkspaceAddCommandParserTest {
+
+    private final WorkspaceAddCommandParser parser = new WorkspaceAddCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsWorkspaceAddCommand() {
+        assertParseSuccess(parser, " w/ Bedok East  f/data/bedok.json",
+                new WorkspaceAddCommand("Bedok East", Paths.get("data/bedok.json")));
+    }
+
+    @Test
+    public void parse_missingPrefix_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, WorkspaceAddCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " w/bedok", expectedMessage);
+        assertParseFailure(parser, " f/data/bedok.json", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " w/-bedok f/bedok.json", ParserUtil.MESSAGE_INVALID_WORKSPACE_NAME);
+        assertParseFailure(parser, " w/bedok! f/bedok.json", ParserUtil.MESSAGE_INVALID_WORKSPACE_NAME);
+        assertParseFailure(parser, " w/bedok f/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+        assertParseFailure(parser, " w/bedok w/tampines f/bedok.json",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_WORKSPACE));
+    }
+}
@@ -2,27 +2,35 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LESSON_TIME_2;
+import static seedu.address.model.util.SampleDataUtil.getMonthName;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalReminders.REMINDER_1;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.UnmodifiableHwReminder;
+import seedu.address.model.reminder.UnmodifiablePaymentReminder;
 import seedu.address.model.reminder.exceptions.DuplicateReminderException;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.ReminderBuilder;
@@ -125,6 +133,75 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getReminderList().remove(0));
     }
 
+    @Test
+    public void restore_afterChanges_snapshotContentsRestored() {
+        AddressBook typical = TypicalAddressBook.getTypicalAddressBook();
+        GroupName groupName = GroupName.of("Sec3");
+        typical.addGroup(new Group(groupName));
+        typical.addMembers(groupName, List.of(ALICE));
+        AddressBook expected = new AddressBook(typical);
+        AddressBookSnapshot snapshot = typical.snapshot();
+
+        typical.removePerson(ALICE);
+        typical.removeGroup(groupName);
+        typical.removeReminder(typical.getReminderList().get(0));
+        assertEquals(expected.getPersonList(), snapshot.getPersonList());
+
+        typical.restore(snapshot);
+        assertEquals(expected, typical);
+        assertEquals(List.of(new Group(groupName)), typical.getGroupList());
+        assertEquals(Set.of(groupName), typical.getGroupsOf(ALICE));
+    }
+
+    @Test
+    public void setPerson_groupMemberEditedOrRenamed_membershipKept() {
+        AddressBook typical = TypicalAddressBook.getTypicalAddressBook();
+        GroupName groupName = GroupName.of("Sec3");
+        typical.addGroup(new Group(groupName));
+        typical.addMembers(groupName, List.of(ALICE));
+
+        Person newPhone = new PersonBuilder(ALICE).withPhone("81234567").build();
+        typical.setPerson(ALICE, newPhone);
+        assertEquals(Set.of(groupName), typical.getGroupsOf(newPhone));
+
+        Person renamed = new PersonBuilder(newPhone).withName("Alice Tan").build();
+        typical.setPerson(newPhone, renamed);
+        assertEquals(Set.of(groupName), typical.getGroupsOf(renamed));
+        assertEquals(Set.of(), typical.getGroupsOf(ALICE));
+    }
+
+    @Test
+    public void refreshUnmodifiableReminders_studentsChangedAfterwards_theirRemindersUpdated() {
+        int month = LocalDate.now().getMonthValue();
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        addressBook.refreshUnmodifiableReminders();
+        Reminder amyPayment = UnmodifiablePaymentReminder.of(month, amy, getMonthName(month));
+        assertTrue(addressBook.hasReminder(amyPayment));
+
+        addressBook.setPerson(amy, amy.withPaymentStatus(month, true));
+        assertFalse(addressBook.hasReminder(amyPayment));
+
+        Homework homework = new Homework("Worksheet 1", LocalDate.now().plusDays(1));
+        Person bob = new PersonBuilder().withName("Bob Choo").build().withHomework(homework);
+        addressBook.addPerson(bob);
+        assertTrue(addressBook.hasReminder(UnmodifiableHwReminder.of(bob, homework)));
+        assertEquals(2, addressBook.getReminderList().size());
+
+        addressBook.removePerson(bob);
+        assertEquals(Collections.emptyList(), addressBook.getReminderList());
+    }
+
+    @Test
+    public void refreshUnmodifiableReminders_nothingChanged_remindersUntouched() {
+        AddressBook typical = TypicalAddressBook.getTypicalAddressBook();
+        typical.refreshUnmodifiableReminders();
+        AddressBookSnapshot refreshed = typical.snapshot();
+
+        typical.refreshUnmodifiableReminders();
+        assertSame(refreshed.getReminders(), typical.snapshot().getReminders());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
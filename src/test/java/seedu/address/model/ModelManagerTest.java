@@ -10,7 +10,10 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -93,6 +96,147 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void rollbackTransaction_changesMade_previousStateRestored() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        Path filePath = modelManager.getAddressBookFilePath();
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.setAddressBookFilePath(Paths.get("other/file/path"));
+        modelManager.commitAddressBook(); // deferred until the transaction ends
+        modelManager.rollbackTransaction();
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(filePath, modelManager.getAddressBookFilePath());
+
+        // nothing from the transaction is left to undo
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitTransaction_changesMade_undoneAsOne() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitTransaction();
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        modelManager.commitTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+    }
+
+    @Test
+    public void commitTransaction_nested_endsWithOutermost() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.commitTransaction();
+        modelManager.commitAddressBook(); // still in the outer transaction
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.commitTransaction();
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void rollbackTransaction_nested_rollsBackOutermost() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.rollbackTransaction();
+
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        modelManager.rollbackTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+    }
+
+    @Test
+    public void rollbackTransaction_filterChanged_filterRestored() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(ALICE::equals);
+
+        modelManager.beginTransaction();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.rollbackTransaction();
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void rollbackTransaction_personDeleted_attendanceRestored() {
+        LocalDate date = LocalDate.of(2025, 9, 24);
+        modelManager.addPerson(ALICE);
+        modelManager.getAttendanceIndex().put(ALICE.getName().fullName, date, true);
+        modelManager.getAttendanceIndex().setCurrentUiDate(date);
+
+        modelManager.beginTransaction();
+        modelManager.deletePerson(ALICE);
+        modelManager.getAttendanceIndex().setCurrentUiDate(date.plusDays(1));
+        assertEquals(Optional.empty(), modelManager.getAttendanceIndex().get(ALICE.getName().fullName, date));
+        modelManager.rollbackTransaction();
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertEquals(Optional.of(true), modelManager.getAttendanceIndex().get(ALICE.getName().fullName, date));
+        assertEquals(date, modelManager.getAttendanceIndex().getCurrentUiDate());
+    }
+
+    @Test
+    public void undoAddressBook_personDeleted_attendanceRestored() {
+        LocalDate date = LocalDate.of(2025, 9, 24);
+        modelManager.addPerson(ALICE);
+        modelManager.getAttendanceIndex().put(ALICE.getName().fullName, date, true);
+        modelManager.commitAddressBook();
+
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(Optional.of(true), modelManager.getAttendanceIndex().get(ALICE.getName().fullName, date));
+
+        modelManager.redoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertEquals(Optional.empty(), modelManager.getAttendanceIndex().get(ALICE.getName().fullName, date));
+    }
+
+    @Test
+    public void beginTransaction_uncommittedChanges_historyUnchanged() {
+        modelManager.addPerson(ALICE);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.rollbackTransaction();
+
+        // the change made before the transaction is neither rolled back nor committed by it
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +21,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setDataCompressed_copiedAndCompared() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isDataCompressed());
+
+        UserPrefs compressed = new UserPrefs();
+        compressed.setDataCompressed(true);
+        assertNotEquals(userPrefs, compressed);
+        assertEquals(compressed, new UserPrefs(compressed));
+    }
+
 }
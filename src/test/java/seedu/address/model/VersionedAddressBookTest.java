@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_nonPositiveHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), 0));
+    }
+
+    @Test
+    public void commit_noChange_nothingToUndo() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void commit_remindersRefreshedWithoutChanges_nothingToUndo() {
+        VersionedAddressBook typical = new VersionedAddressBook(getTypicalAddressBook());
+        typical.refreshUnmodifiableReminders();
+        typical.resetHistory();
+
+        typical.refreshUnmodifiableReminders();
+        typical.commit();
+        assertFalse(typical.canUndo());
+    }
+
+    @Test
+    public void undoRedo_personRemoved_restored() {
+        List<Person> before = List.copyOf(versionedAddressBook.getPersonList());
+        Person removed = before.get(0);
+        versionedAddressBook.removePerson(removed);
+        versionedAddressBook.commit();
+        List<Person> after = List.copyOf(versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        assertEquals(before, versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.redo();
+        assertEquals(after, versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void resetHistory_afterChanges_nothingToUndoOrRedo() {
+        versionedAddressBook.removePerson(versionedAddressBook.getPersonList().get(0));
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(versionedAddressBook.getPersonList().get(0));
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        List<Person> current = List.copyOf(versionedAddressBook.getPersonList());
+
+        versionedAddressBook.resetHistory();
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(current, versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_personReplacedByChangedCopy_stateRestored() {
+        Person original = versionedAddressBook.getPersonList().get(0);
+        Homework homework = new Homework("Worksheet 1", LocalDate.of(2025, 11, 3));
+        Person changed = original.withPaymentStatus(3, true).withHomework(homework)
+                .withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 4));
+        versionedAddressBook.setPerson(original, changed);
+        versionedAddressBook.commit();
+
+        Person done = changed.withHomeworkReplaced(homework, homework.withDone(true));
+        versionedAddressBook.setPerson(changed, done);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertSame(changed, versionedAddressBook.getPersonList().get(0));
+        assertFalse(changed.getHomeworkList().get(0).isDone());
+        versionedAddressBook.undo();
+        assertSame(original, versionedAddressBook.getPersonList().get(0));
+        assertFalse(original.isPaidForMonth(3));
+        assertTrue(original.getHomeworkList().isEmpty());
+        assertEquals(0, original.getParticipation().size());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        Person redone = versionedAddressBook.getPersonList().get(0);
+        assertSame(done, redone);
+        assertTrue(redone.isPaidForMonth(3));
+        assertTrue(redone.getHomeworkList().get(0).isDone());
+        assertEquals(1, redone.getParticipation().size());
+    }
+
+    @Test
+    public void commit_afterUndo_redoDiscarded() {
+        versionedAddressBook.removePerson(versionedAddressBook.getPersonList().get(0));
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.removePerson(versionedAddressBook.getPersonList().get(1));
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_pastHistoryLimit_oldestStateDropped() {
+        VersionedAddressBook limited = new VersionedAddressBook(getTypicalAddressBook(), 2);
+        for (int i = 0; i < 3; i++) {
+            limited.removePerson(limited.getPersonList().get(0));
+            limited.commit();
+        }
+
+        limited.undo();
+        limited.undo();
+        assertFalse(limited.canUndo());
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, limited.getPersonList().size());
+    }
+}
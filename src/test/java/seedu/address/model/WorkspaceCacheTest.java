@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class WorkspaceCacheTest {
+
+    private static final Path FILE_A = Paths.get("data", "a.json");
+    private static final Path FILE_B = Paths.get("data", "b.json");
+    private static final Path FILE_C = Paths.get("data", "c.json");
+
+    @Test
+    public void constructor_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkspaceCache(-1));
+    }
+
+    @Test
+    public void remove_keptAddressBook_returnedOnce() {
+        WorkspaceCache cache = new WorkspaceCache(100);
+        AddressBook addressBook = getTypicalAddressBook();
+        cache.put(FILE_A, addressBook);
+
+        assertTrue(cache.contains(Paths.get("data", "..", "data", "a.json")));
+        assertSame(addressBook, cache.remove(FILE_A).get());
+        assertEquals(Optional.empty(), cache.remove(FILE_A));
+        assertEquals(0, cache.getStudentCount());
+    }
+
+    @Test
+    public void put_overLimit_leastRecentlyUsedDropped() {
+        int size = getTypicalAddressBook().getPersonList().size();
+        WorkspaceCache cache = new WorkspaceCache(2 * size);
+        cache.put(FILE_A, getTypicalAddressBook());
+        cache.put(FILE_B, getTypicalAddressBook());
+        cache.remove(FILE_A).ifPresent(addressBook -> cache.put(FILE_A, addressBook)); // A used most recently
+
+        cache.put(FILE_C, getTypicalAddressBook());
+
+        assertTrue(cache.contains(FILE_A));
+        assertFalse(cache.contains(FILE_B));
+        assertTrue(cache.contains(FILE_C));
+        assertEquals(2 * size, cache.getStudentCount());
+    }
+
+    @Test
+    public void put_largerThanLimit_notKept() {
+        WorkspaceCache cache = new WorkspaceCache(1);
+        cache.put(FILE_A, new AddressBook());
+        cache.put(FILE_B, getTypicalAddressBook());
+
+        assertTrue(cache.contains(FILE_A));
+        assertFalse(cache.contains(FILE_B));
+        assertEquals(0, cache.getStudentCount());
+    }
+}
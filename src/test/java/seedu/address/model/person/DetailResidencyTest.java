@@ -0,0 +1,173 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.homework.Homework;
+
+public class DetailResidencyTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DetailResidency(0));
+    }
+
+    @Test
+    public void accessed_overCapacity_releasesLeastRecentlyUsed() {
+        DetailResidency residency = new DetailResidency(2);
+        Person first = lazyPerson("Alice Pauline", residency);
+        Person second = lazyPerson("Benson Meier", residency);
+        Person third = lazyPerson("Carl Kurz", residency);
+
+        first.getHomeworkList();
+        second.getHomeworkList();
+        first.getParticipation(); // first is now more recently used than second
+        third.getHomeworkList();
+
+        assertEquals(2, residency.size());
+        assertTrue(first.isDetailLoaded());
+        assertFalse(second.isDetailLoaded());
+        assertTrue(third.isDetailLoaded());
+        assertEquals(3, loadCount.get());
+
+        // released details are read again on next access
+        assertEquals(1, second.getHomeworkList().size());
+        assertEquals(4, loadCount.get());
+        assertFalse(first.isDetailLoaded());
+    }
+
+    @Test
+    public void accessed_changedDetails_neverReleased() {
+        DetailResidency residency = new DetailResidency(1);
+        Person changed = lazyPerson("Alice Pauline", residency)
+                .withHomework(new Homework("Worksheet 2", LocalDate.of(2025, 11, 10)));
+        Person other = lazyPerson("Benson Meier", residency);
+
+        other.getHomeworkList();
+
+        assertTrue(changed.isDetailLoaded());
+        assertEquals(2, changed.getHomeworkList().size());
+        assertEquals(1, residency.size());
+    }
+
+    @Test
+    public void accessed_releasedListStillHeld_sameListReused() {
+        DetailResidency residency = new DetailResidency(1);
+        Person displayed = lazyPerson("Alice Pauline", residency);
+        Person other = lazyPerson("Benson Meier", residency);
+
+        // e.g. a card that is still on screen
+        ObservableList<Homework> shownHomework = displayed.getHomeworkList();
+        ParticipationHistory shownParticipation = displayed.getParticipation();
+        other.getHomeworkList();
+        assertFalse(displayed.isDetailLoaded());
+
+        assertSame(shownHomework, displayed.getHomeworkList());
+        assertSame(shownParticipation, displayed.getParticipation());
+        assertTrue(displayed.isDetailLoaded());
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void releaseDetails_deletedPerson_noLongerCounted() {
+        DetailResidency residency = new DetailResidency(2);
+        Person deleted = lazyPerson("Alice Pauline", residency);
+        Person other = lazyPerson("Benson Meier", residency);
+        deleted.getHomeworkList();
+        other.getHomeworkList();
+
+        deleted.releaseDetails();
+
+        assertEquals(1, residency.size());
+        assertFalse(deleted.isDetailLoaded());
+        assertTrue(other.isDetailLoaded());
+    }
+
+    @Test
+    public void accessed_fromManyThreads_capacityKept() throws Exception {
+        DetailResidency residency = new DetailResidency(4);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            persons.add(lazyPerson("Student " + (char) ('A' + i), residency));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                tasks.add(executor.submit(() -> {
+                    for (int round = 0; round < 200; round++) {
+                        for (Person person : persons) {
+                            assertEquals(1, person.getHomeworkList().size());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(residency.size() <= 4);
+    }
+
+    @Test
+    public void getUndoneHomeworkDue_loaderFindsHomework_detailsNotLoaded() {
+        Homework due = new Homework("Worksheet 1", LocalDate.of(2025, 11, 3));
+        Person person = new Person(new Name("Alice Pauline"), new Phone("94351253"), Set.of(), new BitSet(12),
+                new DetailLoader() {
+                    @Override
+                    public PersonDetails get() {
+                        loadCount.incrementAndGet();
+                        return new PersonDetails(List.of(due), new ParticipationHistory());
+                    }
+
+                    @Override
+                    public Optional<List<Homework>> findUndoneHomeworkDue(LocalDate from, LocalDate to) {
+                        return Optional.of(List.of(due));
+                    }
+                }, new DetailResidency(1));
+
+        assertEquals(List.of(due), person.getUndoneHomeworkDue(LocalDate.of(2025, 11, 2), LocalDate.of(2025, 11, 4)));
+        assertEquals(0, loadCount.get());
+        assertFalse(person.isDetailLoaded());
+    }
+
+    @Test
+    public void getUndoneHomeworkDue_loaderCannotFindHomework_detailsLoaded() {
+        Person person = lazyPerson("Alice Pauline", new DetailResidency(1));
+
+        assertEquals(1, person.getUndoneHomeworkDue(LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 3)).size());
+        assertTrue(person.getUndoneHomeworkDue(LocalDate.of(2025, 11, 4), LocalDate.of(2025, 11, 5)).isEmpty());
+        assertEquals(1, loadCount.get());
+    }
+
+    private Person lazyPerson(String name, DetailResidency residency) {
+        return new Person(new Name(name), new Phone("94351253"), Set.of(new LessonTime("1000 Mon")), new BitSet(12),
+                () -> {
+                    loadCount.incrementAndGet();
+                    return new PersonDetails(List.of(new Homework("Worksheet 1", LocalDate.of(2025, 11, 3))),
+                            new ParticipationHistory().with(LocalDate.of(2025, 9, 19), 3));
+                }, residency);
+    }
+}
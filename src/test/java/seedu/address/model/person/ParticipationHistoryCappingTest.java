@@ -14,13 +14,13 @@ public class ParticipationHistoryCappingTest {
         ParticipationHistory h = new ParticipationHistory();
 
         // Oldest
-        h.add(LocalDate.parse("2024-10-31"), 2);
-        h.add(LocalDate.parse("2025-01-01"), 1);
-        h.add(LocalDate.parse("2025-07-25"), 3);
-        h.add(LocalDate.parse("2025-08-19"), 4);
-        h.add(LocalDate.parse("2025-10-30"), 5);
+        h = h.with(LocalDate.parse("2024-10-31"), 2);
+        h = h.with(LocalDate.parse("2025-01-01"), 1);
+        h = h.with(LocalDate.parse("2025-07-25"), 3);
+        h = h.with(LocalDate.parse("2025-08-19"), 4);
+        h = h.with(LocalDate.parse("2025-10-30"), 5);
         // Newest (6th) -> should drop 2024-10-31, keep 2025-10-31
-        h.add(LocalDate.parse("2025-10-31"), 4);
+        h = h.with(LocalDate.parse("2025-10-31"), 4);
 
         List<ParticipationRecord> five = h.asList(); // oldest -> newest
         assertEquals(5, five.size());
@@ -34,10 +34,10 @@ public class ParticipationHistoryCappingTest {
     @Test
     public void addSameDate_replacesScoreKeepsOrder() {
         ParticipationHistory h = new ParticipationHistory();
-        h.add(LocalDate.parse("2025-10-30"), 1);
-        h.add(LocalDate.parse("2025-10-31"), 2);
+        h = h.with(LocalDate.parse("2025-10-30"), 1);
+        h = h.with(LocalDate.parse("2025-10-31"), 2);
         // replace score on same date
-        h.add(LocalDate.parse("2025-10-31"), 5);
+        h = h.with(LocalDate.parse("2025-10-31"), 5);
 
         List<ParticipationRecord> list = h.asList();
         assertEquals(2, list.size());
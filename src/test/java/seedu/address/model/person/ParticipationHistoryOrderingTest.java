@@ -14,14 +14,14 @@ public class ParticipationHistoryOrderingTest {
         ParticipationHistory h = new ParticipationHistory();
 
         // Add in arbitrary order
-        h.add(LocalDate.parse("2025-09-14"), 5);
-        h.add(LocalDate.parse("2025-09-10"), 1);
-        h.add(LocalDate.parse("2025-09-12"), 3);
-        h.add(LocalDate.parse("2025-09-11"), 2);
-        h.add(LocalDate.parse("2025-09-13"), 4);
+        h = h.with(LocalDate.parse("2025-09-14"), 5);
+        h = h.with(LocalDate.parse("2025-09-10"), 1);
+        h = h.with(LocalDate.parse("2025-09-12"), 3);
+        h = h.with(LocalDate.parse("2025-09-11"), 2);
+        h = h.with(LocalDate.parse("2025-09-13"), 4);
 
         // Now exceed cap => oldest (2025-09-10) should be dropped
-        h.add(LocalDate.parse("2025-09-15"), 1);
+        h = h.with(LocalDate.parse("2025-09-15"), 1);
 
         List<ParticipationRecord> five = h.asList(); // oldest -> newest
         assertEquals(5, five.size());
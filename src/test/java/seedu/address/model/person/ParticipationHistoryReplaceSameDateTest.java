@@ -14,14 +14,14 @@ public class ParticipationHistoryReplaceSameDateTest {
     public void addSameDate_replacesScore_newestRightmost() {
         ParticipationHistory h = new ParticipationHistory();
 
-        h.add(LocalDate.parse("2025-09-10"), 1);
-        h.add(LocalDate.parse("2025-09-11"), 2);
-        h.add(LocalDate.parse("2025-09-12"), 3);
-        h.add(LocalDate.parse("2025-09-13"), 4);
-        h.add(LocalDate.parse("2025-09-14"), 5);
+        h = h.with(LocalDate.parse("2025-09-10"), 1);
+        h = h.with(LocalDate.parse("2025-09-11"), 2);
+        h = h.with(LocalDate.parse("2025-09-12"), 3);
+        h = h.with(LocalDate.parse("2025-09-13"), 4);
+        h = h.with(LocalDate.parse("2025-09-14"), 5);
 
         // Replace the most recent date's score
-        h.add(LocalDate.parse("2025-09-14"), 1);
+        h = h.with(LocalDate.parse("2025-09-14"), 1);
 
         List<ParticipationRecord> five = h.asList(); // oldest -> newest
         assertEquals(5, five.size());
@@ -14,9 +14,9 @@ public class ParticipationHistoryTest {
     public void addSameDateReplacesScoreIsMostRecent() {
         ParticipationHistory h = new ParticipationHistory();
 
-        h.add(LocalDate.parse("2025-09-18"), 1);
-        h.add(LocalDate.parse("2025-09-19"), 3);
-        h.add(LocalDate.parse("2025-09-19"), 5); // upsert by date
+        h = h.with(LocalDate.parse("2025-09-18"), 1);
+        h = h.with(LocalDate.parse("2025-09-19"), 3);
+        h = h.with(LocalDate.parse("2025-09-19"), 5); // upsert by date
 
         // size still 2
         assertEquals(2, h.size());
@@ -30,12 +30,12 @@ public class ParticipationHistoryTest {
     @Test
     public void addCapsAtFiveOldestDropped() {
         ParticipationHistory h = new ParticipationHistory();
-        h.add(LocalDate.parse("2025-09-10"), 1);
-        h.add(LocalDate.parse("2025-09-11"), 2);
-        h.add(LocalDate.parse("2025-09-12"), 3);
-        h.add(LocalDate.parse("2025-09-13"), 4);
-        h.add(LocalDate.parse("2025-09-14"), 5);
-        h.add(LocalDate.parse("2025-09-15"), 1); // sixth → drop 09-10
+        h = h.with(LocalDate.parse("2025-09-10"), 1);
+        h = h.with(LocalDate.parse("2025-09-11"), 2);
+        h = h.with(LocalDate.parse("2025-09-12"), 3);
+        h = h.with(LocalDate.parse("2025-09-13"), 4);
+        h = h.with(LocalDate.parse("2025-09-14"), 5);
+        h = h.with(LocalDate.parse("2025-09-15"), 1); // sixth → drop 09-10
 
         assertEquals(5, h.size());
         List<ParticipationRecord> list = h.asList();
@@ -46,8 +46,8 @@ public class ParticipationHistoryTest {
     @Test
     public void asListPaddedToFivePadsFrontWithNulls() {
         ParticipationHistory h = new ParticipationHistory();
-        h.add(LocalDate.parse("2025-09-19"), 2);
-        h.add(LocalDate.parse("2025-09-20"), 3);
+        h = h.with(LocalDate.parse("2025-09-19"), 2);
+        h = h.with(LocalDate.parse("2025-09-20"), 3);
 
         List<ParticipationRecord> five = h.asListPaddedToFive();
         assertEquals(5, five.size());
@@ -102,12 +102,12 @@ public class ParticipationHistoryTest {
     @Test
     public void add_null_ignoredAndNoCrash() {
         ParticipationHistory h = new ParticipationHistory();
-        h.add(null); // should be ignored silently
+        h = h.with(null); // should be ignored silently
         assertEquals(0, h.size());
 
         // Seed then add duplicate date to exercise iterator removal branch
-        h.add(LocalDate.parse("2025-09-19"), 1);
-        h.add(LocalDate.parse("2025-09-19"), 2);
+        h = h.with(LocalDate.parse("2025-09-19"), 1);
+        h = h.with(LocalDate.parse("2025-09-19"), 2);
         assertEquals(1, h.size());
         assertEquals(2, h.mostRecent().getScore());
     }
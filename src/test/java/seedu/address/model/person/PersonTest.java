@@ -9,8 +9,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.homework.Homework;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -88,4 +94,101 @@ public class PersonTest {
                 + ", lesson time=" + ALICE.getLessonTime() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    @Test
+    public void detailLoader_runsOnceOnFirstAccess() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getLessonTime(), new BitSet(12), () -> {
+            loadCount.incrementAndGet();
+            return new PersonDetails(List.of(new Homework("Worksheet 1", LocalDate.of(2025, 11, 3))),
+                    new ParticipationHistory().with(LocalDate.of(2025, 9, 19), 3));
+        });
+
+        // identity and summary fields do not load details
+        assertFalse(person.isDetailLoaded());
+        assertTrue(person.equals(new PersonBuilder(ALICE).build()));
+        assertFalse(person.isPaidForMonth(1));
+        assertEquals(0, loadCount.get());
+
+        assertEquals(1, person.getHomeworkList().size());
+        assertTrue(person.isDetailLoaded());
+        assertEquals(1, person.getParticipation().asList().size());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void detailLoader_copyWithOtherPayments_sharesDetailsWithoutLoading() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getLessonTime(), new BitSet(12), () -> {
+            loadCount.incrementAndGet();
+            return new PersonDetails(List.of(new Homework("Worksheet 1", LocalDate.of(2025, 11, 3))),
+                    new ParticipationHistory());
+        });
+
+        Person paid = person.withPaymentStatus(1, true);
+        assertFalse(paid.isDetailLoaded());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(1, paid.getHomeworkList().size());
+        assertTrue(person.isDetailLoaded());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void detailLoader_copyWithOtherHomework_keepsLoadedDetails() {
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getLessonTime(), new BitSet(12), () ->
+                new PersonDetails(List.of(new Homework("Worksheet 1", LocalDate.of(2025, 11, 3))),
+                        new ParticipationHistory()));
+
+        Person changed = person.withHomework(new Homework("Worksheet 2", LocalDate.of(2025, 11, 10)));
+        assertEquals(2, changed.getHomeworkList().size());
+        assertEquals("Worksheet 1", changed.getHomeworkList().get(0).getDescription());
+        assertEquals(1, person.getHomeworkList().size());
+    }
+
+    @Test
+    public void changedCopies_originalUnchanged() {
+        Person person = new PersonBuilder(ALICE).build();
+        Homework homework = new Homework("Worksheet 1", LocalDate.of(2025, 11, 3));
+
+        Person changed = person.withPaymentStatus(1, true).withHomework(homework)
+                .withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 3));
+        Person done = changed.withHomeworkReplaced(homework, homework.withDone(true));
+
+        assertEquals(person, changed);
+        assertFalse(person.isPaidForMonth(1));
+        assertTrue(person.getHomeworkList().isEmpty());
+        assertEquals(0, person.getParticipation().size());
+        assertFalse(changed.getHomeworkList().get(0).isDone());
+        assertTrue(done.getHomeworkList().get(0).isDone());
+        assertTrue(done.withoutHomework(homework).getHomeworkList().isEmpty());
+    }
+
+    @Test
+    public void getModificationStamp_increasesOnEveryChange() {
+        Person person = new PersonBuilder(ALICE).build();
+        Homework homework = new Homework("Worksheet 1", LocalDate.of(2025, 11, 3));
+
+        long stamp = person.getModificationStamp();
+        assertEquals(stamp, person.getModificationStamp());
+
+        person = person.withPaymentStatus(1, true);
+        stamp = assertStampIncreased(person, stamp);
+        person = person.withHomework(homework);
+        stamp = assertStampIncreased(person, stamp);
+        person = person.withHomeworkReplaced(homework, homework.withDone(true));
+        stamp = assertStampIncreased(person, stamp);
+        person = person.withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 3));
+        stamp = assertStampIncreased(person, stamp);
+        person = person.withoutHomework(homework);
+        stamp = assertStampIncreased(person, stamp);
+        person = person.withAllPaymentStatus(new BitSet(12));
+        assertStampIncreased(person, stamp);
+    }
+
+    private static long assertStampIncreased(Person person, long previousStamp) {
+        long stamp = person.getModificationStamp();
+        assertTrue(stamp > previousStamp);
+        return stamp;
+    }
 }
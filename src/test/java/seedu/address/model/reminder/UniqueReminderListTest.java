@@ -173,7 +173,7 @@ public class UniqueReminderListTest {
         Person person = new PersonBuilder().build();
         Homework hw1 = new Homework("Math worksheet", LocalDate.parse("2025-11-10"));
         Homework hw2 = new Homework("Sci worksheet", LocalDate.parse("2025-11-11"));
-        person.setHomeworkList(List.of(hw1, hw2));
+        person = person.withHomeworkList(List.of(hw1, hw2));
 
         // both homework not due tomorrow
         assertEquals(new ArrayList<>(), UniqueReminderList.createHomeworkReminder(person));
@@ -181,7 +181,7 @@ public class UniqueReminderListTest {
         // both homework past due date
         hw1 = new Homework("Math worksheet", LocalDate.parse("2020-11-10"));
         hw2 = new Homework("Sci worksheet", LocalDate.parse("2020-11-11"));
-        person.setHomeworkList(List.of(hw1, hw2));
+        person = person.withHomeworkList(List.of(hw1, hw2));
         assertEquals(new ArrayList<>(), UniqueReminderList.createHomeworkReminder(person));
     }
 }
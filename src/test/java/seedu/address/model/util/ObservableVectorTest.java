@@ -0,0 +1,73 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class ObservableVectorTest {
+
+    private final ObservableVector<Integer> list = new ObservableVector<>();
+    private final AtomicInteger changes = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<Integer>) c -> changes.incrementAndGet());
+    }
+
+    @Test
+    public void setVector_showsVectorAsOneChange() {
+        PersistentVector<Integer> vector = PersistentVector.of(List.of(1, 2, 3, 4, 5));
+        list.setVector(vector);
+        assertEquals(List.of(1, 2, 3, 4, 5), list);
+        assertEquals(1, changes.get());
+
+        list.setVector(vector.set(1, 20).set(3, 40).remove(4));
+        assertEquals(List.of(1, 20, 3, 40), list);
+        assertEquals(2, changes.get());
+    }
+
+    @Test
+    public void setVector_olderVectorRestored_oneChange() {
+        PersistentVector<Integer> older = PersistentVector.of(List.of(1, 2, 3));
+        list.setVector(older);
+        list.setVector(older.append(4).insert(0, 0));
+        list.setVector(older);
+
+        assertEquals(List.of(1, 2, 3), list);
+        assertEquals(3, changes.get());
+        assertEquals(older, list.getVector());
+    }
+
+    @Test
+    public void setVector_sameVectorOrElements_noChange() {
+        PersistentVector<Integer> vector = PersistentVector.of(List.of(1, 2, 3));
+        list.setVector(vector);
+        list.setVector(vector);
+        list.setVector(vector.set(1, vector.get(1)));
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void setVector_changedRange_oneChange() {
+        PersistentVector<Integer> vector = PersistentVector.of(List.of(1, 2, 3));
+        list.setVector(vector);
+        list.setVector(vector.insert(1, 9), 1, 0);
+        assertEquals(List.of(1, 9, 2, 3), list);
+        assertEquals(2, changes.get());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        list.setVector(PersistentVector.of(List.of(1, 2, 3)));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    // Large enough for a trie three levels deep
+    private static final int SIZE = 40_000;
+
+    @Test
+    public void put_manyKeys_allRetrievable() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < SIZE; i++) {
+            map = map.put(i, -i);
+            expected.put(i, -i);
+        }
+        assertEquals(expected, map.asMap());
+        assertEquals(SIZE, map.size());
+        assertEquals(Integer.valueOf(-1234), map.get(1234));
+        assertNull(map.get(SIZE));
+    }
+
+    @Test
+    public void putAndRemove_olderVersionUnchanged() {
+        PersistentHashMap<Integer, Integer> original = PersistentHashMap.empty();
+        for (int i = 0; i < 1000; i++) {
+            original = original.put(i, i);
+        }
+        PersistentHashMap<Integer, Integer> updated = original.put(5, -5).remove(6).put(1000, 1000);
+
+        assertEquals(1000, original.size());
+        assertEquals(Integer.valueOf(5), original.get(5));
+        assertTrue(original.containsKey(6));
+        assertEquals(1000, updated.size());
+        assertEquals(Integer.valueOf(-5), updated.get(5));
+        assertFalse(updated.containsKey(6));
+        assertEquals(Integer.valueOf(1000), updated.get(1000));
+    }
+
+    @Test
+    public void putAndRemove_unchanged_sameMapReturned() {
+        Integer value = 1;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", value);
+
+        assertSame(map, map.put("a", value));
+        assertSame(map, map.remove("b"));
+        assertTrue(map.remove("a").isEmpty());
+    }
+
+    @Test
+    public void putAndRemove_collidingHashes_matchesHashMap() {
+        // "Aa" and "BB" have the same hash code, and so do all strings made of them
+        String[] keys = {"AaAa", "AaBB", "BBAa", "BBBB", "Aa", "BB"};
+        Map<String, Integer> expected = new HashMap<>();
+        PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < keys.length; i++) {
+            map = map.put(keys[i], i);
+            expected.put(keys[i], i);
+        }
+        assertEquals(expected, map.asMap());
+
+        map = map.remove("AaBB").remove("BB");
+        expected.remove("AaBB");
+        expected.remove("BB");
+        assertEquals(expected, map.asMap());
+        assertEquals(Integer.valueOf(3), map.get("BBBB"));
+    }
+
+    @Test
+    public void putAndRemove_randomKeys_matchesHashMap() {
+        Random random = new Random(2103);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < SIZE; i++) {
+            Integer key = random.nextInt(SIZE / 4);
+            if (random.nextBoolean()) {
+                map = map.put(key, i);
+                expected.put(key, i);
+            } else {
+                map = map.remove(key);
+                expected.remove(key);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.asMap());
+        assertEquals(new HashMap<>(expected).hashCode(), map.hashCode());
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    // Large enough for a tree three levels deep
+    private static final int SIZE = 40_000;
+
+    @Test
+    public void append_manyElements_allRetrievableInOrder() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < SIZE; i++) {
+            vector = vector.append(i);
+            expected.add(i);
+        }
+        assertEquals(expected, vector.asList());
+        assertEquals(PersistentVector.of(expected), vector);
+    }
+
+    @Test
+    public void set_olderVersion_unchanged() {
+        PersistentVector<Integer> original = PersistentVector.of(range(SIZE));
+        PersistentVector<Integer> updated = original.set(1234, -1).set(SIZE - 1, -2);
+
+        assertEquals(range(SIZE), original.asList());
+        assertEquals(Integer.valueOf(-1), updated.get(1234));
+        assertEquals(Integer.valueOf(-2), updated.get(SIZE - 1));
+        assertEquals(Integer.valueOf(1235), updated.get(1235));
+    }
+
+    @Test
+    public void removeLast_downToEmpty_matchesList() {
+        List<Integer> expected = range(2 * 32 * 32 + 5);
+        PersistentVector<Integer> vector = PersistentVector.of(expected);
+        while (!expected.isEmpty()) {
+            expected.remove(expected.size() - 1);
+            vector = vector.removeLast();
+            assertEquals(expected.size(), vector.size());
+        }
+        assertTrue(vector.isEmpty());
+        assertThrows(IllegalStateException.class, vector::removeLast);
+    }
+
+    @Test
+    public void remove_middleAndEnds_matchesList() {
+        List<Integer> expected = range(1100);
+        PersistentVector<Integer> original = PersistentVector.of(expected);
+        PersistentVector<Integer> vector = original.remove(0).remove(500).remove(1097);
+        expected.remove(0);
+        expected.remove(500);
+        expected.remove(1097);
+
+        assertEquals(expected, vector.asList());
+        assertEquals(range(1100), original.asList());
+    }
+
+    @Test
+    public void insert_middleAndEnds_matchesList() {
+        List<Integer> expected = range(1100);
+        PersistentVector<Integer> original = PersistentVector.of(expected);
+        PersistentVector<Integer> vector = original.insert(0, -1).insert(500, -2).insert(1102, -3);
+        expected.add(0, -1);
+        expected.add(500, -2);
+        expected.add(1102, -3);
+
+        assertEquals(expected, vector.asList());
+        assertEquals(range(1100), original.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> original.insert(1101, 0));
+    }
+
+    @Test
+    public void insertAndRemove_randomPositions_matchesList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            // Grows for the first half and shrinks for the second, to exercise both splits and merges
+            boolean isInsert = expected.isEmpty() || random.nextInt(SIZE) > i;
+            if (isInsert) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.insert(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            }
+            if (i % 4000 == 0) {
+                versions.add(vector);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+        assertEquals(expected, vector.asList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentVector<Integer> vector = PersistentVector.of(range(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(-1, 0));
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentVector.of(range(3)).asList().add(3));
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
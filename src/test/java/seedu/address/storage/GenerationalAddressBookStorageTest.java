@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.GenerationalAddressBookStorage.getChecksumPath;
+import static seedu.address.storage.GenerationalAddressBookStorage.getGenerationPath;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class GenerationalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBookWith(int extraPersons) {
+        AddressBook addressBook = getTypicalAddressBook();
+        if (extraPersons > 0) {
+            addressBook.addPerson(HOON);
+        }
+        if (extraPersons > 1) {
+            addressBook.addPerson(IDA);
+        }
+        return addressBook;
+    }
+
+    @Test
+    public void constructor_negativeGenerationCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("data.json")), -1));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new GenerationalAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_previousSavesKeptUpToGenerationCount() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath), 2);
+
+        AddressBook first = addressBookWith(0);
+        AddressBook second = addressBookWith(1);
+        AddressBook third = addressBookWith(2);
+        storage.saveAddressBook(first);
+        storage.saveAddressBook(second);
+        storage.saveAddressBook(first);
+        storage.saveAddressBook(third);
+
+        assertEquals(third, new AddressBook(storage.readAddressBook().get()));
+        JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(first, new AddressBook(plainStorage.readAddressBook(getGenerationPath(filePath, 1)).get()));
+        assertEquals(second, new AddressBook(plainStorage.readAddressBook(getGenerationPath(filePath, 2)).get()));
+        assertFalse(Files.exists(getGenerationPath(filePath, 3)));
+        assertTrue(Files.exists(getChecksumPath(getGenerationPath(filePath, 2))));
+        assertFalse(Files.exists(filePath.resolveSibling("data.json.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_generationsKept() throws Exception {
+        Path filePath = testFolder.resolve("unchanged.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath), 2);
+
+        AddressBook first = addressBookWith(0);
+        AddressBook second = addressBookWith(1);
+        storage.saveAddressBook(first);
+        storage.saveAddressBook(second);
+        storage.saveAddressBook(second);
+        storage.saveAddressBook(addressBookWith(1));
+
+        JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(first, new AddressBook(plainStorage.readAddressBook(getGenerationPath(filePath, 1)).get()));
+        assertFalse(Files.exists(getGenerationPath(filePath, 2)));
+        assertFalse(Files.exists(filePath.resolveSibling("unchanged.json.tmp")));
+    }
+
+    @Test
+    public void readAddressBook_truncatedDataFile_previousGenerationLoaded() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        AddressBook previous = addressBookWith(0);
+        storage.saveAddressBook(previous);
+        storage.saveAddressBook(addressBookWith(1));
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertEquals(previous, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedGeneration_skipped() throws Exception {
+        Path filePath = testFolder.resolve("damaged.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        AddressBook oldest = addressBookWith(0);
+        storage.saveAddressBook(oldest);
+        storage.saveAddressBook(addressBookWith(1));
+        storage.saveAddressBook(addressBookWith(2));
+
+        Files.write(filePath, new byte[] {1, 2, 3});
+        Path newestGeneration = getGenerationPath(filePath, 1);
+        byte[] bytes = Files.readAllBytes(newestGeneration);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(newestGeneration, bytes);
+
+        assertEquals(oldest, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFileMissing_previousGenerationLoaded() throws Exception {
+        Path filePath = testFolder.resolve("interrupted.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        AddressBook previous = addressBookWith(0);
+        storage.saveAddressBook(previous);
+        storage.saveAddressBook(addressBookWith(1));
+
+        // as if the save was interrupted after the data file was aged but before the new one was moved in place
+        Files.delete(filePath);
+        assertEquals(previous, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFileEditedByHand_editedDataLoaded() throws Exception {
+        Path filePath = testFolder.resolve("edited.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBookWith(0));
+
+        AddressBook edited = addressBookWith(0);
+        edited.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        assertEquals(edited, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noIntactFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBookWith(0));
+        Files.writeString(filePath, "{ \"persons\": [");
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_checksumOfWrittenContentRecorded() throws Exception {
+        for (boolean isCompressed : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("checksum-" + isCompressed + ".json");
+            new GenerationalAddressBookStorage(new JsonAddressBookStorage(filePath, isCompressed))
+                    .saveAddressBook(addressBookWith(1));
+
+            byte[] content = Files.readAllBytes(filePath);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            assertEquals(String.format("%08x %d", crc.getValue(), content.length),
+                    Files.readString(getChecksumPath(filePath)));
+        }
+    }
+
+    @Test
+    public void readAddressBook_generationChangedAfterItsData_skipped() throws Exception {
+        Path filePath = testFolder.resolve("trailing.json");
+        GenerationalAddressBookStorage storage = new GenerationalAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        AddressBook oldest = addressBookWith(0);
+        storage.saveAddressBook(oldest);
+        storage.saveAddressBook(addressBookWith(1));
+        storage.saveAddressBook(addressBookWith(2));
+
+        // still parses, but the checksum, computed to the end of the file, no longer matches
+        Files.delete(filePath);
+        Files.writeString(getGenerationPath(filePath, 1), "\n ", StandardOpenOption.APPEND);
+        assertEquals(oldest, new AddressBook(storage.readAddressBook().get()));
+    }
+}
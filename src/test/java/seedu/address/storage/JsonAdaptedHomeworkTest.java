@@ -39,8 +39,7 @@ public class JsonAdaptedHomeworkTest {
 
     @Test
     public void fromModel_roundTrip_success() {
-        Homework original = new Homework("History Essay", LocalDate.parse("2025-11-10"));
-        original.markDone();
+        Homework original = new Homework("History Essay", LocalDate.parse("2025-11-10")).withDone(true);
 
         JsonAdaptedHomework adapted = new JsonAdaptedHomework(original);
         Homework convertedBack = adapted.toModelType();
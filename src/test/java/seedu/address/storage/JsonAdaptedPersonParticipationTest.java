@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.ParticipationRecord;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -24,8 +25,8 @@ public class JsonAdaptedPersonParticipationTest {
                 .build();
 
         // Participation data
-        p.getParticipation().add(LocalDate.parse("2025-09-19"), 4);
-        p.getParticipation().add(LocalDate.parse("2025-09-21"), 2);
+        p = p.withParticipation(new ParticipationRecord(LocalDate.parse("2025-09-19"), 4))
+                .withParticipation(new ParticipationRecord(LocalDate.parse("2025-09-21"), 2));
 
         // Serialize to adapter, then back to model
         JsonAdaptedPerson adapted = new JsonAdaptedPerson(p);
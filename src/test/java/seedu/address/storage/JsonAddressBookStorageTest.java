@@ -9,8 +9,11 @@ import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,40 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        Person first = original.getPersonList().get(0);
+        original.setPerson(first, first.withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 4)));
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(filePath, true);
+
+        compressedStorage.saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        ReadOnlyAddressBook readBack = compressedStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList().get(0).getParticipation().asList(),
+                readBack.getPersonList().get(0).getParticipation().asList());
+
+        // the format is detected on read, whichever format the storage saves in
+        readBack = new JsonAddressBookStorage(filePath, false).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(original);
+        readBack = compressedStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void read_corruptedCompressedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("Corrupted.json");
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Description;
+import seedu.address.model.reminder.DueDate;
+import seedu.address.model.reminder.Reminder;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void toJsonString_sameAsFullSerialization() throws Exception {
+        JsonAddressBookWriter writer = new JsonAddressBookWriter();
+        assertSameAsFullSerialization(writer, new AddressBook());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        Person first = addressBook.getPersonList().get(0);
+        addressBook.setPerson(first, first.withHomework(new Homework("Worksheet 3", LocalDate.of(2025, 11, 3))));
+        Person second = addressBook.getPersonList().get(1);
+        addressBook.setPerson(second, second.withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 4)));
+        addressBook.addGroup(new Group(GroupName.of("Sec3A")));
+        addressBook.addReminder(new Reminder(DueDate.of(LocalDate.of(2026, 1, 2)), new Description("Buy books")));
+        assertSameAsFullSerialization(writer, addressBook);
+    }
+
+    @Test
+    public void toJsonString_studentsChanged_reencoded() throws Exception {
+        JsonAddressBookWriter writer = new JsonAddressBookWriter();
+        AddressBook addressBook = getTypicalAddressBook();
+        Person first = addressBook.getPersonList().get(0);
+        Person second = addressBook.getPersonList().get(1);
+        Homework homework = new Homework("Worksheet 3", LocalDate.of(2025, 11, 3));
+        first = replace(addressBook, first, first.withHomework(homework));
+        assertSameAsFullSerialization(writer, addressBook);
+
+        first = replace(addressBook, first, first.withPaymentStatus(2, !first.isPaidForMonth(2)));
+        assertSameAsFullSerialization(writer, addressBook);
+
+        first = replace(addressBook, first, first.withHomeworkReplaced(homework, homework.withDone(true)));
+        assertSameAsFullSerialization(writer, addressBook);
+
+        second = replace(addressBook, second,
+                second.withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 4)));
+        assertSameAsFullSerialization(writer, addressBook);
+
+        replace(addressBook, first, first.withoutHomework(homework.withDone(true)));
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(second);
+        assertSameAsFullSerialization(writer, addressBook);
+    }
+
+    @Test
+    public void toJsonString_paymentBitsChangedAfterwards_studentUnaffected() throws Exception {
+        JsonAddressBookWriter writer = new JsonAddressBookWriter();
+        AddressBook addressBook = getTypicalAddressBook();
+        Person template = addressBook.getPersonList().get(0);
+        BitSet payments = new BitSet(12);
+        Person person = replace(addressBook, template,
+                new Person(template.getName(), template.getPhone(), template.getLessonTime(), payments));
+        String before = writer.toJsonString(addressBook);
+
+        // The person holds its own copy of the payment bits
+        payments.set(0);
+        assertFalse(person.isPaidForMonth(1));
+        assertEquals(before, writer.toJsonString(addressBook));
+        assertSameAsFullSerialization(writer, addressBook);
+
+        // Paying goes through a changed copy, which is encoded again
+        replace(addressBook, person, person.withPaymentStatus(1, true));
+        assertNotEquals(before, writer.toJsonString(addressBook));
+        assertSameAsFullSerialization(writer, addressBook);
+    }
+
+    private static Person replace(AddressBook addressBook, Person target, Person editedPerson) {
+        addressBook.setPerson(target, editedPerson);
+        return editedPerson;
+    }
+
+    private static void assertSameAsFullSerialization(JsonAddressBookWriter writer, ReadOnlyAddressBook addressBook)
+            throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                writer.toJsonString(addressBook));
+    }
+}
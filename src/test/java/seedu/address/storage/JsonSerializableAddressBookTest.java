@@ -5,12 +5,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalAddressBook;
 
 public class JsonSerializableAddressBookTest {
@@ -59,4 +66,80 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_REMINDER,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_manyPersons_keepsFileOrder() throws Exception {
+        List<JsonAdaptedPerson> persons = manyPersons(500);
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, null, null).toModelType();
+        assertEquals(500, addressBook.getPersonList().size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(new Name(studentName(i)), addressBook.getPersonList().get(i).getName());
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalid_reportsDuplicate() {
+        List<JsonAdaptedPerson> persons = manyPersons(500);
+        persons.set(200, new JsonAdaptedPerson(new PersonBuilder().withName(studentName(10)).build()));
+        persons.set(400, invalidPerson());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(persons, null, null).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidBeforeDuplicate_reportsInvalid() {
+        List<JsonAdaptedPerson> persons = manyPersons(500);
+        persons.set(200, invalidPerson());
+        persons.set(400, new JsonAdaptedPerson(new PersonBuilder().withName(studentName(10)).build()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(persons, null, null).toModelType());
+    }
+
+    @Test
+    public void toModelType_groupMembers_resolvedByNormalizedName() throws Exception {
+        List<JsonAdaptedPerson> persons = manyPersons(100);
+        JsonAdaptedGroup group = new JsonAdaptedGroup("Sec3A",
+                List.of(studentName(3), "  " + studentName(42).toUpperCase() + " "));
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, List.of(group), null).toModelType();
+
+        GroupName groupName = GroupName.of("Sec3A");
+        Person third = addressBook.getPersonList().get(3);
+        Person fortySecond = addressBook.getPersonList().get(42);
+        assertEquals(Set.of(groupName), addressBook.getGroupsOf(third));
+        assertEquals(Set.of(groupName), addressBook.getGroupsOf(fortySecond));
+        assertEquals(Set.of(), addressBook.getGroupsOf(addressBook.getPersonList().get(4)));
+    }
+
+    @Test
+    public void toModelType_unknownGroupMember_throwsIllegalValueException() {
+        JsonAdaptedGroup group = new JsonAdaptedGroup("Sec3A", List.of(studentName(3), "Nobody"));
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_UNKNOWN_MEMBER,
+                GroupName.of("Sec3A"), "Nobody");
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                new JsonSerializableAddressBook(manyPersons(10), List.of(group), null).toModelType());
+    }
+
+    private static List<JsonAdaptedPerson> manyPersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person person = new PersonBuilder().withName(studentName(i)).build();
+            persons.add(new JsonAdaptedPerson(person));
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson invalidPerson() {
+        return new JsonAdaptedPerson("[Rachel+]", "91234567", List.of(new JsonAdaptedLessonTime("1000 Mon")),
+                null, null);
+    }
+
+    /** Returns a distinct valid name for each index, spelled with letters only. */
+    private static String studentName(int index) {
+        StringBuilder suffix = new StringBuilder();
+        do {
+            suffix.append((char) ('a' + index % 26));
+            index /= 26;
+        } while (index > 0);
+        return "Student " + suffix;
+    }
 }
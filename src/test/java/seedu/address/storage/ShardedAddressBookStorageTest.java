@@ -0,0 +1,249 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Description;
+import seedu.address.model.reminder.DueDate;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.storage.ShardedAddressBookStorage.JsonShardIndex;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final String MARKER = "{ \"untouched\" : true }";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullDirectory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        Path directory = testFolder.resolve("missing.shards");
+        assertFalse(new ShardedAddressBookStorage(directory).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_invalidBucketCount_exceptionThrown() throws Exception {
+        Path directory = testFolder.resolve("invalid.shards");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(ShardedAddressBookStorage.INDEX_FILE),
+                "{ \"bucketCount\" : 0, \"students\" : [] }");
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directory = testFolder.resolve("TempAddressBook.shards");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+
+        storage.saveAddressBook(original, directory);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(directory).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = new ShardedAddressBookStorage(directory).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_participation_storedInOwnShard() throws Exception {
+        Path directory = testFolder.resolve("participation.shards");
+        AddressBook original = getTypicalAddressBook();
+        Person alice = original.getPersonList().get(0)
+                .withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 4));
+        original.setPerson(original.getPersonList().get(0), alice);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(original);
+
+        Person restored = new ShardedAddressBookStorage(directory).readAddressBook().get().getPersonList().get(0);
+        assertEquals(alice.getParticipation().asList(), restored.getParticipation().asList());
+        assertFalse(Files.readString(shardFile(directory, studentShardOf(alice))).contains("2025-09-19"));
+    }
+
+    @Test
+    public void saveAddressBook_reminderAdded_onlyRemindersAndNoStudentShardsRewritten() throws Exception {
+        Path directory = testFolder.resolve("dirty.shards");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        List<Path> studentShards = markAllStudentShards(directory);
+
+        addressBook.addReminder(new Reminder(DueDate.of(LocalDate.of(2026, 1, 2)), new Description("Buy books")));
+        storage.saveAddressBook(addressBook);
+
+        for (Path shard : studentShards) {
+            assertEquals(MARKER, Files.readString(shard));
+        }
+        assertTrue(Files.readString(shardFile(directory, ShardedAddressBookStorage.REMINDERS_FILE))
+                .contains("Buy books"));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyItsBucketRewritten() throws Exception {
+        Path directory = testFolder.resolve("edit.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        markAllStudentShards(directory);
+
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, alice.withPaymentStatus(1, !alice.isPaidForMonth(1)));
+        storage.saveAddressBook(addressBook);
+
+        for (int bucket = 0; bucket < ShardedAddressBookStorage.DEFAULT_BUCKET_COUNT; bucket++) {
+            String shardName = ShardedAddressBookStorage.studentShardName(bucket);
+            assertEquals(!shardName.equals(studentShardOf(alice)),
+                    MARKER.equals(Files.readString(shardFile(directory, shardName))));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_newShardCommittedByIndex() throws Exception {
+        Path directory = testFolder.resolve("commit.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Person alice = addressBook.getPersonList().get(0);
+        Path previousShard = shardFile(directory, studentShardOf(alice));
+
+        addressBook.setPerson(alice, alice.withPaymentStatus(1, !alice.isPaidForMonth(1)));
+        storage.saveAddressBook(addressBook);
+
+        Path shard = shardFile(directory, studentShardOf(alice));
+        assertEquals(studentShardOf(alice).replace(".json", ".g2.json"), shard.getFileName().toString());
+        assertFalse(Files.exists(previousShard));
+
+        // shards of a save interrupted before its index was replaced are not read
+        Files.writeString(directory.resolve(shard.getFileName().toString().replace(".g2.", ".g3.")), MARKER);
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_firstStudentRemovedAndStudentAdded_otherStudentShardsKept() throws Exception {
+        Path directory = testFolder.resolve("order.shards");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        markAllStudentShards(directory);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        for (int bucket = 0; bucket < ShardedAddressBookStorage.DEFAULT_BUCKET_COUNT; bucket++) {
+            String shardName = ShardedAddressBookStorage.studentShardName(bucket);
+            boolean isChanged = shardName.equals(studentShardOf(ALICE)) || shardName.equals(studentShardOf(HOON));
+            assertEquals(!isChanged, MARKER.equals(Files.readString(shardFile(directory, shardName))));
+        }
+        assertFalse(Files.readString(directory.resolve(ShardedAddressBookStorage.INDEX_FILE)).contains("\"students\""));
+    }
+
+    @Test
+    public void saveAddressBook_studentsReordered_orderReadBack() throws Exception {
+        Path directory = testFolder.resolve("reorder.shards");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversed);
+        addressBook.setPersons(reversed);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook.getPersonList(),
+                new ShardedAddressBookStorage(directory).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_groupsAndRemindersNotRewritten() throws Exception {
+        Path directory = testFolder.resolve("unchanged.shards");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(addressBook);
+        Path groupsShard = shardFile(directory, ShardedAddressBookStorage.GROUPS_FILE);
+        Path remindersShard = shardFile(directory, ShardedAddressBookStorage.REMINDERS_FILE);
+        Files.writeString(groupsShard, MARKER);
+        Files.writeString(remindersShard, MARKER);
+
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, alice.withPaymentStatus(1, !alice.isPaidForMonth(1)));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(groupsShard, shardFile(directory, ShardedAddressBookStorage.GROUPS_FILE));
+        assertEquals(MARKER, Files.readString(groupsShard));
+        assertEquals(MARKER, Files.readString(remindersShard));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path directory = testFolder.resolve("null.shards");
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(directory)
+                .saveAddressBook(null, directory));
+    }
+
+    @Test
+    public void isShardDirectory() {
+        assertTrue(ShardedAddressBookStorage.isShardDirectory(Path.of("data", "classconnect.shards")));
+        assertFalse(ShardedAddressBookStorage.isShardDirectory(Path.of("data", "classconnect.json")));
+    }
+
+    private static String studentShardOf(Person person) {
+        int bucket = Math.floorMod(person.getName().fullName.hashCode(),
+                ShardedAddressBookStorage.DEFAULT_BUCKET_COUNT);
+        return ShardedAddressBookStorage.studentShardName(bucket);
+    }
+
+    /**
+     * Returns the file that the index of {@code directory} names for the shard {@code shardName}.
+     */
+    private static Path shardFile(Path directory, String shardName) throws Exception {
+        JsonShardIndex index = JsonUtil.fromJsonString(
+                Files.readString(directory.resolve(ShardedAddressBookStorage.INDEX_FILE)), JsonShardIndex.class);
+        return directory.resolve(index.fileOf(shardName));
+    }
+
+    /**
+     * Overwrites every student shard with a marker, without the storage knowing, so that any shard the next
+     * save rewrites loses its marker.
+     */
+    private static List<Path> markAllStudentShards(Path directory) throws Exception {
+        List<Path> shards = new ArrayList<>();
+        for (int bucket = 0; bucket < ShardedAddressBookStorage.DEFAULT_BUCKET_COUNT; bucket++) {
+            Path shard = shardFile(directory, ShardedAddressBookStorage.studentShardName(bucket));
+            Files.writeString(shard, MARKER);
+            shards.add(shard);
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,286 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.SnapshotAddressBookStorage.getGenerationPath;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.homework.Homework;
+import seedu.address.model.person.ParticipationRecord;
+import seedu.address.model.person.Person;
+import seedu.address.model.reminder.Description;
+import seedu.address.model.reminder.DueDate;
+import seedu.address.model.reminder.Reminder;
+import seedu.address.model.reminder.UnmodifiableHwReminder;
+import seedu.address.model.reminder.UnmodifiablePaymentReminder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SnapshotAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SnapshotAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.snapshot");
+        assertFalse(new SnapshotAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notSnapshotFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notSnapshot.snapshot");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new SnapshotAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_corruptedSnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.snapshot");
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path generation = getGenerationPath(filePath, 1);
+        byte[] bytes = Files.readAllBytes(generation);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(generation, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void read_truncatedSnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("truncated.snapshot");
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path generation = getGenerationPath(filePath, 1);
+        byte[] bytes = Files.readAllBytes(generation);
+        Files.write(generation, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.snapshot");
+        AddressBook original = getTypicalAddressBook();
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_detailFields_preserved() throws Exception {
+        Path filePath = testFolder.resolve("details.snapshot");
+        Homework homework = new Homework("Worksheet 3", LocalDate.of(2025, 11, 3)).withDone(true);
+        Person person = new PersonBuilder().withName("Alex Yeoh").withLessonTime("0930 Mon", "2359 Sun").build()
+                .withPaymentStatus(1, true)
+                .withPaymentStatus(12, true)
+                .withHomework(homework)
+                .withHomework(new Homework("Worksheet 4", LocalDate.of(2025, 11, 10)))
+                .withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 19), 4))
+                .withParticipation(new ParticipationRecord(LocalDate.of(2025, 9, 21), 0));
+
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+        original.addReminder(new Reminder(DueDate.of(LocalDate.of(2026, 1, 2)), new Description("Buy books")));
+        original.addReminder(new Reminder(DueDate.of(LocalDateTime.of(2026, 1, 3, 14, 5)),
+                new Description("Parent meeting")));
+        original.addReminder(UnmodifiablePaymentReminder.of(3, person, "March"));
+        original.addReminder(UnmodifiableHwReminder.of(person, homework));
+
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Person restored = readBack.getPersonList().get(0);
+        assertEquals(person.getLessonTime(), restored.getLessonTime());
+        assertEquals(person.getPaymentStatusBitSet(), restored.getPaymentStatusBitSet());
+        assertEquals(person.getHomeworkList(), restored.getHomeworkList());
+        assertTrue(restored.getHomeworkList().get(0).isDone());
+        assertFalse(restored.getHomeworkList().get(1).isDone());
+        assertEquals(person.getParticipation().asList(), restored.getParticipation().asList());
+        assertEquals(original.getReminderList(), readBack.getReminderList());
+        for (int i = 0; i < original.getReminderList().size(); i++) {
+            assertEquals(original.getReminderList().get(i).isModifiable(),
+                    readBack.getReminderList().get(i).isModifiable());
+        }
+    }
+
+    @Test
+    public void readAndSaveAddressBook_moreThanByteCounts_preserved() throws Exception {
+        Path filePath = testFolder.resolve("counts.snapshot");
+        String[] days = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+        String[] lessonTimes = new String[300];
+        for (int i = 0; i < lessonTimes.length; i++) {
+            lessonTimes[i] = String.format("%02d%02d %s", i / 7 / 60, i / 7 % 60, days[i % 7]);
+        }
+        Person person = new PersonBuilder().withName("Alex Yeoh").withLessonTime(lessonTimes).build();
+        for (int i = 0; i < 300; i++) {
+            person = person.withParticipation(new ParticipationRecord(LocalDate.of(2025, 1, 1).plusDays(i), i % 6));
+        }
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Person restored = storage.readAddressBook().get().getPersonList().get(0);
+
+        assertEquals(300, restored.getLessonTime().size());
+        assertEquals(person.getLessonTime(), restored.getLessonTime());
+        assertEquals(person.getParticipation().asList(), restored.getParticipation().asList());
+    }
+
+    @Test
+    public void isSnapshotFile() {
+        assertTrue(SnapshotAddressBookStorage.isSnapshotFile(Path.of("data", "classconnect.snapshot")));
+        assertFalse(SnapshotAddressBookStorage.isSnapshotFile(Path.of("data", "classconnect.json")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("null.snapshot");
+        assertThrows(NullPointerException.class, () -> new SnapshotAddressBookStorage(filePath)
+                .saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void readAddressBook_detailsDecodedOnFirstAccess() throws Exception {
+        Path filePath = testFolder.resolve("lazy.snapshot");
+        Person person = new PersonBuilder().withName("Alex Yeoh").build()
+                .withHomework(new Homework("Worksheet 3", LocalDate.of(2025, 11, 3)));
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+        original.addPerson(HOON);
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Person restored = readBack.getPersonList().get(0);
+        assertFalse(restored.isDetailLoaded());
+        assertEquals(person.getHomeworkList(), restored.getHomeworkList());
+        assertTrue(restored.isDetailLoaded());
+        assertFalse(readBack.getPersonList().get(1).isDetailLoaded());
+
+        // saving while the previous generation is mapped, and reading it back again, sees every student's details
+        storage.saveAddressBook(readBack);
+        assertEquals(HOON.getHomeworkList(), readBack.getPersonList().get(1).getHomeworkList());
+        readBack = storage.readAddressBook().get();
+        assertEquals(person.getHomeworkList(), readBack.getPersonList().get(0).getHomeworkList());
+        assertFalse(Files.exists(filePath.resolveSibling("lazy.snapshot.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_newGenerationEachSave_previousGenerationsKept() throws Exception {
+        Path filePath = testFolder.resolve("generations.snapshot");
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath,
+                SnapshotAddressBookStorage.DEFAULT_RESIDENT_DETAIL_LIMIT, 1);
+        AddressBook previous = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(previous);
+        AddressBook latest = getTypicalAddressBook();
+        latest.addPerson(HOON);
+        storage.saveAddressBook(latest);
+
+        assertEquals(List.of(SnapshotAddressBookStorage.MANIFEST_HEADER, "generations.snapshot.gen3",
+                "generations.snapshot.gen2"), Files.readAllLines(filePath));
+        assertFalse(Files.exists(getGenerationPath(filePath, 1)));
+        assertEquals(latest, new AddressBook(storage.readAddressBook().get()));
+
+        // a damaged newest generation falls back to the one before it
+        Path newest = getGenerationPath(filePath, 3);
+        byte[] bytes = Files.readAllBytes(newest);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(newest, bytes);
+        assertEquals(previous, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_singleSnapshotFile_readAndReplacedByManifest() throws Exception {
+        Path filePath = testFolder.resolve("single.snapshot");
+        AddressBook original = getTypicalAddressBook();
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            new SnapshotWriter().write(original, out);
+        }
+        SnapshotAddressBookStorage storage = new SnapshotAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        storage.saveAddressBook(readBack);
+        assertEquals(SnapshotAddressBookStorage.MANIFEST_HEADER, Files.readAllLines(filePath).get(0));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_residentDetailLimit_detailsReleasedAndReloaded() throws Exception {
+        Path filePath = testFolder.resolve("bounded.snapshot");
+        AddressBook original = getTypicalAddressBook();
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            Person person = original.getPersonList().get(i);
+            original.setPerson(person, person.withHomework(new Homework("Worksheet " + i, LocalDate.of(2025, 11, 3))));
+        }
+        new SnapshotAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new SnapshotAddressBookStorage(filePath, 2).readAddressBook().get();
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < original.getPersonList().size(); i++) {
+                assertEquals(original.getPersonList().get(i).getHomeworkList(),
+                        readBack.getPersonList().get(i).getHomeworkList());
+            }
+        }
+        assertEquals(2, readBack.getPersonList().stream().filter(Person::isDetailLoaded).count());
+    }
+
+    @Test
+    public void readAddressBook_remindersRefreshed_detailsNotLoaded() throws Exception {
+        Path filePath = testFolder.resolve("reminders.snapshot");
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        Homework due = new Homework("Worksheet 1", tomorrow);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("Alex Yeoh").build()
+                .withHomework(due)
+                .withHomework(new Homework("Worksheet 2", tomorrow, true))
+                .withHomework(new Homework("Worksheet 3", tomorrow.plusDays(30))));
+        original.addPerson(HOON.withHomework(new Homework("Worksheet 4", tomorrow.plusDays(30))));
+        new SnapshotAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new SnapshotAddressBookStorage(filePath).readAddressBook().get());
+        readBack.refreshUnmodifiableReminders();
+
+        Person restored = readBack.getPersonList().get(0);
+        assertEquals(List.of(UnmodifiableHwReminder.of(restored, due)), readBack.getReminderList().stream()
+                .filter(reminder -> reminder instanceof UnmodifiableHwReminder).toList());
+        assertFalse(readBack.getPersonList().stream().anyMatch(Person::isDetailLoaded));
+    }
+}
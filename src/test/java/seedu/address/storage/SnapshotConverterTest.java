@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class SnapshotConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void jsonToSnapshotToJson_roundTrip_success() throws Exception {
+        Path jsonFile = testFolder.resolve("original.json");
+        Path snapshotFile = testFolder.resolve("converted.snapshot");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(original);
+
+        SnapshotConverter.jsonToSnapshot(jsonFile, snapshotFile);
+        assertEquals(original, new AddressBook(new SnapshotAddressBookStorage(snapshotFile).readAddressBook().get()));
+
+        SnapshotConverter.snapshotToJson(snapshotFile, convertedJsonFile);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(convertedJsonFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void jsonToSnapshot_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> SnapshotConverter.jsonToSnapshot(
+                testFolder.resolve("missing.json"), testFolder.resolve("out.snapshot")));
+    }
+}
@@ -87,7 +87,7 @@ public class PersonBuilder {
      * Sets the {@code Participation} of the {@code Person} that we are building.
      */
     public PersonBuilder withParticipation(String date, int score) {
-        participation.add(LocalDate.parse(date), score);
+        participation = participation.with(LocalDate.parse(date), score);
         return this;
     }
 
@@ -15,10 +15,10 @@ public class ParticipationViewModelTest {
     public void computeSlots_paddingAndChronological_andDedupSameDate() {
         ParticipationHistory h = new ParticipationHistory();
         // Add out-of-order, with duplicate date (latest should win)
-        h.add(LocalDate.parse("2025-09-12"), 2);
-        h.add(LocalDate.parse("2025-09-10"), 5);
-        h.add(LocalDate.parse("2025-09-14"), 3);
-        h.add(LocalDate.parse("2025-09-12"), 4); // replaces 2
+        h = h.with(LocalDate.parse("2025-09-12"), 2);
+        h = h.with(LocalDate.parse("2025-09-10"), 5);
+        h = h.with(LocalDate.parse("2025-09-14"), 3);
+        h = h.with(LocalDate.parse("2025-09-12"), 4); // replaces 2
 
         List<ParticipationViewModel.Slot> slots = ParticipationViewModel.computeSlots(h);
         assertEquals(5, slots.size());
@@ -43,12 +43,12 @@ public class ParticipationViewModelTest {
     public void computeSlots_capsAtFive() {
         ParticipationHistory h = new ParticipationHistory();
         // six days → only last five chronological survive
-        h.add(LocalDate.parse("2025-09-10"), 1);
-        h.add(LocalDate.parse("2025-09-11"), 2);
-        h.add(LocalDate.parse("2025-09-12"), 3);
-        h.add(LocalDate.parse("2025-09-13"), 4);
-        h.add(LocalDate.parse("2025-09-14"), 5);
-        h.add(LocalDate.parse("2025-09-15"), 1);
+        h = h.with(LocalDate.parse("2025-09-10"), 1);
+        h = h.with(LocalDate.parse("2025-09-11"), 2);
+        h = h.with(LocalDate.parse("2025-09-12"), 3);
+        h = h.with(LocalDate.parse("2025-09-13"), 4);
+        h = h.with(LocalDate.parse("2025-09-14"), 5);
+        h = h.with(LocalDate.parse("2025-09-15"), 1);
 
         List<ParticipationViewModel.Slot> slots = ParticipationViewModel.computeSlots(h);
         assertEquals(5, slots.size());
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import javafx.application.Platform;
+import seedu.address.model.person.ParticipationRecord;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -39,8 +40,8 @@ public class PersonCardRenderTest {
         Assumptions.assumeTrue(javafxReady, "JavaFX not available on test runner; skipping UI test.");
 
         // Minimal smoke: construct Person and ensure JavaFX can schedule a task
-        Person p = new PersonBuilder().withName("Alex Yeoh").build();
-        p.getParticipation().add(LocalDate.parse("2025-09-12"), 2);
+        Person p = new PersonBuilder().withName("Alex Yeoh").build()
+                .withParticipation(new ParticipationRecord(LocalDate.parse("2025-09-12"), 2));
 
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(latch::countDown);